@@ -0,0 +1,74 @@
+package likelion.itgoserver.global.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import likelion.itgoserver.domain.member.entity.Role;
+import likelion.itgoserver.global.auth.jwt.dto.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건의 Access 토큰 인증 비용
+ * - legacy : 변경 전 필터 경로 재현 (검증 3회 + userId/memberId/role 추출 3회, 매번 파서 생성 + HS512 검증)
+ * - singlePass : JwtProvider.verifyAccessToken 한 번
+ * - cacheHit : AccessTokenCache 적중 (다이제스트 + 캐시 조회만)
+ * 실행 : ./gradlew jmh -Pjmh.includes=JwtAuthBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey secretKey;
+    private JwtProvider jwtProvider;
+    private AccessTokenCache accessTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtProvider = new JwtProvider(SECRET, 3600, 1209600);
+        accessTokenCache = new AccessTokenCache(jwtProvider, 10_000, 300);
+        token = jwtProvider.createAccessToken(1L, 1L, Role.ROLE_MEMBER);
+        accessTokenCache.resolve(token);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        // isValidAccessToken : validateToken + isTokenExpired + isAccessToken
+        boolean valid = legacyClaims() != null
+                && !legacyClaims().getExpiration().before(new Date())
+                && "access".equals(legacyClaims().get("tokenType", String.class));
+        bh.consume(valid);
+        // setAuthentication : getUserId + getMemberId + getRole
+        bh.consume(Long.parseLong(legacyClaims().getSubject()));
+        bh.consume(legacyClaims().get("memberId", Long.class));
+        bh.consume(legacyClaims().get("role", String.class));
+    }
+
+    @Benchmark
+    public VerifiedToken singlePass() {
+        return jwtProvider.verifyAccessToken(token).orElseThrow();
+    }
+
+    @Benchmark
+    public Object cacheHit() {
+        return accessTokenCache.resolve(token).orElseThrow();
+    }
+
+    /** 변경 전 getClaims : 호출마다 파서를 새로 만들어 서명 검증 + 파싱 */
+    @SuppressWarnings("deprecation")
+    private Claims legacyClaims() {
+        return Jwts.parser()
+                .setSigningKey(secretKey)
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
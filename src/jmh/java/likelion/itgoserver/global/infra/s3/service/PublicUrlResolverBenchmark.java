@@ -0,0 +1,90 @@
+package likelion.itgoserver.global.infra.s3.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import likelion.itgoserver.global.infra.cdn.SignedUrlIssuer;
+import likelion.itgoserver.global.infra.storage.S3ObjectStorage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * objectKey → public URL 변환 1회 비용
+ * - legacy : 변경 전 toUrl 재현 (매 호출 CDN 설정 trim, 전체 소문자 변환, CDN 없으면 AmazonS3.getUrl)
+ * - current : PublicUrlResolver.toUrl (base URL 사전 계산 + 문자열 결합, 인코딩 필요한 키만 캐시)
+ * - cdn : "" 면 S3 엔드포인트, 아니면 CDN base / key : 앱이 만드는 키(safe) vs 인코딩이 필요한 키(encoded)
+ * 실행 : ./gradlew jmh -Pjmh.includes=PublicUrlResolverBenchmark
+ * (AmazonS3.getUrl 은 네트워크 호출 없이 엔드포인트 해석만 하므로 더미 자격 증명으로 충분)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicUrlResolverBenchmark {
+
+    private static final String BUCKET = "itgo-bench";
+
+    @Param({"", "https://cdn.example.com"})
+    public String cdn;
+
+    @Param({"safe", "encoded"})
+    public String key;
+
+    private AmazonS3 s3;
+    private PublicUrlResolver resolver;
+    private String objectKey;
+
+    @Setup
+    public void setUp() {
+        s3 = AmazonS3ClientBuilder.standard()
+                .withRegion("ap-northeast-2")
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("bench", "bench")))
+                .build();
+
+        resolver = new PublicUrlResolver(new S3ObjectStorage(s3, BUCKET), new SignedUrlIssuer(null, null));
+        setField(resolver, "cdnBaseUrl", cdn);
+        setField(resolver, "cacheMaxSize", 10_000L);
+        resolver.init();
+
+        objectKey = "safe".equals(key)
+                ? "shares/123/images/0_5f0c2b1e-8a7d-4c1e-9f1b-2d3e4f5a6b7c.jpg"
+                : "stores/45/image/매장 사진 1.jpg";
+    }
+
+    @Benchmark
+    public String legacy() {
+        if (objectKey == null || objectKey.trim().isEmpty()) return null;
+        String t = objectKey.toLowerCase(Locale.ROOT);
+        if (t.startsWith("http://") || t.startsWith("https://")) return objectKey;
+
+        String k = trimSlashes(objectKey);
+        String cdnBase = (cdn == null) ? "" : cdn.trim();
+        if (!cdnBase.trim().isEmpty()) {
+            String base = cdn.endsWith("/") ? cdn.substring(0, cdn.length() - 1) : cdn;
+            return base + "/" + k;
+        }
+        return s3.getUrl(BUCKET, k).toString();
+    }
+
+    @Benchmark
+    public String current() {
+        return resolver.toUrl(objectKey);
+    }
+
+    /** @Value 필드 주입 대신 (Spring 컨텍스트 없이 실행) */
+    private static void setField(Object target, String name, Object value) {
+        var field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    private static String trimSlashes(String s) {
+        int start = 0, end = s.length();
+        while (start < end && s.charAt(start) == '/') start++;
+        while (end > start && s.charAt(end - 1) == '/') end--;
+        return s.substring(start, end);
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.validation.Valid;
 import likelion.itgoserver.domain.claim.dto.*;
 import likelion.itgoserver.domain.claim.service.ClaimService;
 import likelion.itgoserver.global.response.ApiResponse;
+import likelion.itgoserver.global.support.idempotency.Idempotent;
 import likelion.itgoserver.global.support.resolver.CurrentMemberId;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
@@ -27,6 +28,7 @@ public class ClaimController {
     private final ClaimService claimService;
 
     @Operation(summary = "거래 신청 생성")
+    @Idempotent
     @PostMapping()
     public ApiResponse<ClaimResponse> create(@Valid @RequestBody ClaimCreateRequest request) {
         var resp = claimService.request(request.wishId(), request.shareId());
@@ -34,6 +36,7 @@ public class ClaimController {
     }
 
     @Operation(summary = "빠른 신청(동네 재고에서 바로 신청)")
+    @Idempotent
     @PostMapping("/quick")
     public ApiResponse<ClaimResponse> quick(
             @CurrentMemberId Long memberId,
@@ -54,6 +57,16 @@ public class ClaimController {
         return ApiResponse.success(claimService.accept(claimId));
     }
 
+    @Operation(summary = "거래 신청 일괄 수락/거절 (나눔글 소유자)")
+    @Idempotent
+    @PostMapping("/decide")
+    public ApiResponse<ClaimDecisionResponse> decide(
+            @CurrentMemberId Long memberId,
+            @Valid @RequestBody ClaimDecisionRequest request
+    ) {
+        return ApiResponse.success(claimService.decide(memberId, request));
+    }
+
     @Operation(summary = "거래 신청 거절")
     @PostMapping("/reject/{claimId}")
     public ApiResponse<ClaimResponse> reject(@PathVariable Long claimId) {
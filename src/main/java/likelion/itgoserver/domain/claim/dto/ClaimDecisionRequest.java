@@ -0,0 +1,27 @@
+package likelion.itgoserver.domain.claim.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "한 나눔글에 온 신청 일괄 수락/거절 요청 DTO")
+public record ClaimDecisionRequest(
+        @Schema(description = "재고 나눔 게시글 ID", example = "1")
+        @NotNull Long shareId,
+
+        @Schema(description = "처리할 신청 ID 목록", example = "[3, 5, 8]")
+        @NotEmpty @Size(max = 100) List<@NotNull Long> claimIds,
+
+        @Schema(description = "ACCEPT: 수락, REJECT: 거절", example = "ACCEPT")
+        @NotNull Decision decision,
+
+        @Schema(description = "재고 배분 순서 (FIFO: 신청 시각순, AS_LISTED: claimIds 순서), 기본 FIFO", example = "FIFO")
+        AllocationOrder order
+) {
+    public enum Decision { ACCEPT, REJECT }
+
+    public enum AllocationOrder { FIFO, AS_LISTED }
+}
@@ -0,0 +1,45 @@
+package likelion.itgoserver.domain.claim.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import likelion.itgoserver.domain.claim.entity.ClaimStatus;
+
+import java.util.List;
+
+@Schema(description = "신청 일괄 처리 결과 DTO")
+public record ClaimDecisionResponse(
+        @Schema(description = "재고 나눔 게시글 ID", example = "1")
+        Long shareId,
+
+        @Schema(description = "처리 후 남은 수량", example = "3")
+        Integer remainQuantity,
+
+        @Schema(description = "신청별 처리 결과 (배분 순서)")
+        List<Item> results
+) {
+    public record Item(
+            @Schema(description = "신청 ID", example = "3")
+            Long claimId,
+
+            @Schema(description = "처리 결과", example = "ACCEPTED")
+            Outcome outcome,
+
+            @Schema(description = "처리 후 신청 상태 (없는 신청이면 null)", example = "ACCEPTED")
+            ClaimStatus status,
+
+            @Schema(description = "수락으로 생성된 거래 ID", example = "10")
+            Long tradeId
+    ) {}
+
+    public enum Outcome {
+        /** 수락 + 거래 생성 */
+        ACCEPTED,
+        /** 요청대로 거절 */
+        REJECTED,
+        /** 재고 부족으로 자동 거절 */
+        OUT_OF_STOCK,
+        /** 이미 처리된 신청 (상태 그대로) */
+        ALREADY_DECIDED,
+        /** 해당 나눔글의 신청이 아님 */
+        NOT_FOUND
+    }
+}
@@ -32,6 +32,15 @@ public interface ClaimRepository extends JpaRepository<Claim, Long> {
     @Query("select c from Claim c where c.id = :id")
     Optional<Claim> findByIdForUpdate(@Param("id") Long id);
 
+    /** 일괄 처리용: 한 Share 의 신청들을 id 순으로 잠금 (교착 방지), 거래 생성에 필요한 wish.store 함께 로딩 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select c from Claim c join fetch c.wish w join fetch w.store
+             where c.share.id = :shareId and c.id in :ids
+             order by c.id asc
+            """)
+    List<Claim> findAllByShareIdAndIdInForUpdate(@Param("shareId") Long shareId, @Param("ids") List<Long> ids);
+
     boolean existsByShareIdAndStatusIn(Long shareId, List<ClaimStatus> statusList);
 
     interface ShareClaimCount {
@@ -1,5 +1,7 @@
 package likelion.itgoserver.domain.claim.service;
 
+import likelion.itgoserver.domain.claim.dto.ClaimDecisionRequest;
+import likelion.itgoserver.domain.claim.dto.ClaimDecisionResponse;
 import likelion.itgoserver.domain.claim.dto.ClaimResponse;
 import likelion.itgoserver.domain.claim.dto.QuickClaimRequest;
 import likelion.itgoserver.domain.claim.dto.ReceivedClaimItem;
@@ -11,6 +13,7 @@ import likelion.itgoserver.domain.image.repository.ShareImageRepository;
 import likelion.itgoserver.domain.share.entity.Share;
 import likelion.itgoserver.domain.claim.entity.Claim;
 import likelion.itgoserver.domain.share.entity.ShareImage;
+import likelion.itgoserver.domain.share.stock.ShareStockService;
 import likelion.itgoserver.domain.share.repository.ShareRepository;
 import likelion.itgoserver.domain.claim.repository.ClaimRepository;
 import likelion.itgoserver.domain.store.entity.Store;
@@ -21,7 +24,10 @@ import likelion.itgoserver.domain.wish.entity.Wish;
 import likelion.itgoserver.domain.wish.repository.WishRepository;
 import likelion.itgoserver.global.error.GlobalErrorCode;
 import likelion.itgoserver.global.error.exception.CustomException;
+import likelion.itgoserver.global.infra.image.ThumbnailKeys;
 import likelion.itgoserver.global.infra.s3.service.PublicUrlResolver;
+import likelion.itgoserver.global.support.tx.TransactionRetryExecutor;
+import likelion.itgoserver.global.support.time.TimeWindow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -29,9 +35,13 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 
 import static likelion.itgoserver.domain.trade.repository.TradeRepository.*;
@@ -49,6 +59,8 @@ public class ClaimService {
     private final PublicUrlResolver publicUrlResolver;
     private final TradeService tradeService;
     private final TradeRepository tradeRepository;
+    private final ShareStockService shareStockService;
+    private final TransactionRetryExecutor transactionRetryExecutor;
 
     /**
      * 요청 생성(PENDING)
@@ -84,8 +96,9 @@ public class ClaimService {
         if (req.quantity() == null || req.quantity() <= 0) {
             throw new CustomException(GlobalErrorCode.BAD_REQUEST, "요청 수량은 1 이상이어야 합니다.");
         }
-        if (req.openTime() == null || req.closeTime() == null || !req.openTime().isBefore(req.closeTime())) {
-            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "openTime은 closeTime보다 앞서야 합니다.");
+        // openTime > closeTime 은 자정을 넘기는 시간대로 취급
+        if (req.openTime() == null || req.closeTime() == null || req.openTime().equals(req.closeTime())) {
+            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "openTime과 closeTime은 달라야 합니다.");
         }
 
         // 내 가게 & 대상 Share
@@ -94,6 +107,12 @@ public class ClaimService {
         Share share = shareRepository.findById(req.shareId())
                 .orElseThrow(() -> new CustomException(GlobalErrorCode.NOT_FOUND, "share가 존재하지 않습니다. id=" + req.shareId()));
 
+        // 희망 시간대가 나눔 픽업 시간대와 겹쳐야 함
+        if (!TimeWindow.of(req.openTime(), req.closeTime())
+                .overlaps(TimeWindow.of(share.getOpenTime(), share.getCloseTime()))) {
+            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "나눔 가능 시간과 겹치지 않습니다.");
+        }
+
         // 이미 진행 중인지(중복 신청) 방지
         boolean dup = claimRepository.existsActiveForStoreAndShare(
                 store.getId(), share.getId(),
@@ -128,10 +147,14 @@ public class ClaimService {
     /**
      * 요청 수락
      * - Claim이 PENDING일 때만
-     * - Share 재고 차감 (비관잠금)
+     * - Share 재고 차감 (ShareStockService, 기본은 비관잠금)
+     * - 동시성 충돌(버전 불일치/데드락)은 트랜잭션 단위로 재시도
      */
-    @Transactional
     public ClaimResponse accept(Long claimId) {
+        return transactionRetryExecutor.execute("claim.accept", () -> acceptOnce(claimId));
+    }
+
+    private ClaimResponse acceptOnce(Long claimId) {
         Claim claim = claimRepository.findByIdForUpdate(claimId)
                 .orElseThrow(() -> new CustomException(GlobalErrorCode.NOT_FOUND, "claim이 존재하지 않습니다. id=" + claimId));
 
@@ -139,27 +162,109 @@ public class ClaimService {
             return ClaimResponse.from(claim); // 이미 처리된 경우 그대로 반환
         }
 
-        Share share = shareRepository.findByIdForUpdate(claim.getShare().getId())
-                .orElseThrow(() -> new CustomException(GlobalErrorCode.NOT_FOUND, "share가 존재하지 않습니다. id=" + claim.getShare().getId()));
+        Long shareId = claim.getShare().getId();
 
-        // 재고 부족이면 자동 거절
-        if (share.getQuantity() < claim.getQuantity()) {
+        // 수량 차감 (app.stock.mode: Share 행 잠금 | Redis 카운터), 재고 부족이면 자동 거절
+        OptionalInt remain = shareStockService.decrease(shareId, claim.getQuantity());
+        if (remain.isEmpty()) {
             claim.reject(); // decidedAt 세팅됨
-            log.info("재고 부족으로 자동 거절: claimId={}, shareId={}", claimId, share.getId());
+            log.info("재고 부족으로 자동 거절: claimId={}, shareId={}", claimId, shareId);
             return ClaimResponse.from(claim);
         }
-
-        // 수량 차감
-        share.decreaseQuantity(claim.getQuantity());
         claim.accept();
 
         // 3) 거래 생성
         tradeService.createFromAcceptedClaim(claim);
 
-        log.info("Claim 수락: id={}, shareId={}, remainQty={}", claimId, share.getId(), share.getQuantity());
+        log.info("Claim 수락: id={}, shareId={}, remainQty={}", claimId, shareId, remain.getAsInt());
         return ClaimResponse.from(claim);
     }
 
+    /**
+     * 한 Share 에 온 신청 일괄 수락/거절 (나눔글 소유자)
+     * - Share 재고 잠금/차감은 한 번에, 배분은 FIFO(신청 시각순) 또는 요청 목록 순서
+     * - 재고가 모자란 신청은 자동 거절, 이미 처리된 신청은 그대로 둠
+     * - Trade 는 대표 이미지 1회 조회 후 한꺼번에 생성
+     */
+    public ClaimDecisionResponse decide(Long memberId, ClaimDecisionRequest req) {
+        return transactionRetryExecutor.execute("claim.decide", () -> decideOnce(memberId, req));
+    }
+
+    private ClaimDecisionResponse decideOnce(Long memberId, ClaimDecisionRequest req) {
+        Long shareId = req.shareId();
+        // 소유자만 확인 (Share 엔티티는 재고 잠금 시점에 처음 로딩해야 최신 수량을 봄)
+        Long ownerId = shareRepository.findOwnerIdById(shareId)
+                .orElseThrow(() -> new CustomException(GlobalErrorCode.NOT_FOUND, "share가 존재하지 않습니다. id=" + shareId));
+        if (!ownerId.equals(memberId)) {
+            throw new CustomException(GlobalErrorCode.INVALID_PERMISSION, "본인 가게의 나눔글 신청만 처리할 수 있습니다.");
+        }
+
+        List<Long> requestedIds = req.claimIds().stream().distinct().toList();
+        Map<Long, Claim> claimById = claimRepository.findAllByShareIdAndIdInForUpdate(shareId, requestedIds).stream()
+                .collect(Collectors.toMap(Claim::getId, c -> c));
+
+        // 배분 순서 결정
+        List<Claim> ordered = requestedIds.stream().map(claimById::get).filter(Objects::nonNull).toList();
+        if (req.order() == null || req.order() == ClaimDecisionRequest.AllocationOrder.FIFO) {
+            ordered = ordered.stream()
+                    .sorted(Comparator.comparing(Claim::getRegDate).thenComparing(Claim::getId))
+                    .toList();
+        }
+
+        Map<Long, ClaimDecisionResponse.Outcome> outcomes = new HashMap<>();
+        List<Claim> pending = ordered.stream().filter(c -> c.getStatus() == ClaimStatus.PENDING).toList();
+        ordered.stream()
+                .filter(c -> c.getStatus() != ClaimStatus.PENDING)
+                .forEach(c -> outcomes.put(c.getId(), ClaimDecisionResponse.Outcome.ALREADY_DECIDED));
+
+        Integer remainQuantity = null;
+        Map<Long, Long> tradeIdByClaimId = Map.of();
+
+        if (req.decision() == ClaimDecisionRequest.Decision.REJECT) {
+            pending.forEach(c -> {
+                c.reject();
+                outcomes.put(c.getId(), ClaimDecisionResponse.Outcome.REJECTED);
+            });
+        } else if (!pending.isEmpty()) {
+            List<OptionalInt> remains = shareStockService.decreaseAll(
+                    shareId, pending.stream().map(Claim::getQuantity).toList());
+
+            List<Claim> accepted = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                Claim c = pending.get(i);
+                OptionalInt remain = remains.get(i);
+                if (remain.isEmpty()) {
+                    c.reject();
+                    outcomes.put(c.getId(), ClaimDecisionResponse.Outcome.OUT_OF_STOCK);
+                    continue;
+                }
+                c.accept();
+                accepted.add(c);
+                outcomes.put(c.getId(), ClaimDecisionResponse.Outcome.ACCEPTED);
+                remainQuantity = remain.getAsInt();
+            }
+            tradeIdByClaimId = tradeService.createFromAcceptedClaims(shareId, accepted);
+        }
+        if (remainQuantity == null) {
+            remainQuantity = shareRepository.findQuantityById(shareId).orElse(null);
+        }
+
+        // 응답은 배분 순서, 해당 Share 의 신청이 아닌 id 는 뒤에 NOT_FOUND
+        List<ClaimDecisionResponse.Item> results = new ArrayList<>(requestedIds.size());
+        for (Claim c : ordered) {
+            results.add(new ClaimDecisionResponse.Item(
+                    c.getId(), outcomes.get(c.getId()), c.getStatus(), tradeIdByClaimId.get(c.getId())));
+        }
+        requestedIds.stream()
+                .filter(id -> !claimById.containsKey(id))
+                .forEach(id -> results.add(new ClaimDecisionResponse.Item(
+                        id, ClaimDecisionResponse.Outcome.NOT_FOUND, null, null)));
+
+        log.info("Claim 일괄 처리: shareId={}, decision={}, count={}, remainQty={}",
+                shareId, req.decision(), requestedIds.size(), remainQuantity);
+        return new ClaimDecisionResponse(shareId, remainQuantity, results);
+    }
+
     /**
      * 요청 거절
      * - PENDING일 때만 상태 전환
@@ -267,7 +372,7 @@ public class ClaimService {
                 .sorted(Comparator.comparingInt(ShareImage::getSeq))
                 .collect(Collectors.toMap(
                         si -> si.getShare().getId(),
-                        si -> publicUrlResolver.toUrl(si.getObjectKey()),
+                        si -> publicUrlResolver.toThumbnailUrl(si.getObjectKey(), ThumbnailKeys.MEDIUM, si.hasThumbnail()),
                         (a, b) -> a
                 ));
 
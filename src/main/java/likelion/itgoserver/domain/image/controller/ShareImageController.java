@@ -29,4 +29,12 @@ public class ShareImageController {
         return ApiResponse.success(shareImageService.presignDraft(memberId, request));
     }
 
+    @Operation(summary = "이미지 여러 장 업로드용 POST 정책 발급 (서명 1회)")
+    @PostMapping("/draft/presign-post")
+    public ApiResponse<ShareImageDraftPresignPostResponse> presignDraftPost(
+            @CurrentMemberId Long memberId
+    ) {
+        return ApiResponse.success(shareImageService.presignDraftPost(memberId));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package likelion.itgoserver.domain.image.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Schema(description = "POST 업로드 정책 응답 (multipart/form-data 로 url 에 업로드)")
+public record ShareImageDraftPresignPostResponse(
+        @Schema(example = "https://bucket.s3.ap-northeast-2.amazonaws.com/")
+        String url,
+        @Schema(description = "업로드 키 접두어, key 필드는 접두어 + \"{seq}_{임의값}.{확장자}\"",
+                example = "drafts/1/images/")
+        String keyPrefix,
+        @Schema(description = "폼에 그대로 포함할 필드 (key, Content-Type, file 은 직접 추가)")
+        Map<String, String> fields,
+        Instant expiresAt,
+        @Schema(example = "5") Integer maxImages,
+        @Schema(example = "10485760") Long maxBytes
+) {}
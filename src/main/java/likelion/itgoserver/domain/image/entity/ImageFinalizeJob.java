@@ -0,0 +1,82 @@
+package likelion.itgoserver.domain.image.entity;
+
+import jakarta.persistence.*;
+import likelion.itgoserver.global.support.BaseTimeEntity;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Share 이미지 draft → final 확정 작업 (비동기 확정 모드)
+ * - Share 저장과 같은 트랜잭션에 기록 → 커밋 직후 워커가 처리, 서버가 죽어도 폴링으로 재개
+ * - 대상 이미지는 해당 Share 의 PENDING 이미지 전체 (draft 키는 share_image.object_key 에 있음)
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_finalize_job",
+        indexes = @Index(name = "idx_image_finalize_job_status_next", columnList = "status, next_attempt_at"))
+public class ImageFinalizeJob extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Share 삭제와 무관하게 남도록 FK 없이 id 만 보관 */
+    @Column(name = "share_id", nullable = false)
+    private Long shareId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ImageFinalizeJobStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** RUNNING 점유 만료 시각 (워커가 죽으면 이후 다시 집어감) */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static ImageFinalizeJob of(Long shareId) {
+        return ImageFinalizeJob.builder()
+                .shareId(shareId)
+                .status(ImageFinalizeJobStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void done() {
+        this.status = ImageFinalizeJobStatus.DONE;
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    public void retryAt(LocalDateTime at, String error) {
+        this.status = ImageFinalizeJobStatus.PENDING;
+        this.nextAttemptAt = at;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    public void fail(String error) {
+        this.status = ImageFinalizeJobStatus.FAILED;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String s) {
+        if (s == null || s.length() <= MAX_ERROR_LENGTH) return s;
+        return s.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,16 @@
+package likelion.itgoserver.domain.image.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageFinalizeJobStatus {
+    PENDING("대기"),
+    RUNNING("처리중"),
+    DONE("완료"),
+    FAILED("실패"),
+    ;
+
+    private final String description;
+}
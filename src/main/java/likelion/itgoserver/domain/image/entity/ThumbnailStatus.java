@@ -0,0 +1,15 @@
+package likelion.itgoserver.domain.image.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailStatus {
+    PENDING("생성 대기"),
+    READY("생성됨"),
+    UNAVAILABLE("생성 불가"),   // 디코딩 불가 형식 등 → 원본으로 대체
+    ;
+
+    private final String description;
+}
@@ -0,0 +1,7 @@
+package likelion.itgoserver.domain.image.event;
+
+/**
+ * 이미지 확정 작업 등록 커밋 이벤트 (확정 워커 트리거)
+ */
+public record ImageFinalizeRequestedEvent(Long jobId) {
+}
@@ -0,0 +1,18 @@
+package likelion.itgoserver.domain.image.event;
+
+/**
+ * 원본 이미지 확정 커밋 이벤트 (썸네일 생성 트리거)
+ * @param id SHARE_IMAGE 면 share_image.id, STORE 면 store.id
+ */
+public record ThumbnailRequestedEvent(Target target, Long id, String objectKey) {
+
+    public enum Target { SHARE_IMAGE, STORE }
+
+    public static ThumbnailRequestedEvent shareImage(Long shareImageId, String objectKey) {
+        return new ThumbnailRequestedEvent(Target.SHARE_IMAGE, shareImageId, objectKey);
+    }
+
+    public static ThumbnailRequestedEvent store(Long storeId, String objectKey) {
+        return new ThumbnailRequestedEvent(Target.STORE, storeId, objectKey);
+    }
+}
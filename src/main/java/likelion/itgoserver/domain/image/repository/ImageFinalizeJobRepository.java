@@ -0,0 +1,45 @@
+package likelion.itgoserver.domain.image.repository;
+
+import likelion.itgoserver.domain.image.entity.ImageFinalizeJob;
+import likelion.itgoserver.domain.image.entity.ImageFinalizeJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ImageFinalizeJobRepository extends JpaRepository<ImageFinalizeJob, Long> {
+
+    /** 실행할 차례인 작업 (대기 중 기한 도래 + 점유가 만료된 처리중) */
+    @Query("""
+            select j.id from ImageFinalizeJob j
+             where (j.status = :pending and j.nextAttemptAt <= :now)
+                or (j.status = :running and j.lockedUntil < :now)
+             order by j.id asc
+            """)
+    List<Long> findDueIds(@Param("pending") ImageFinalizeJobStatus pending,
+                          @Param("running") ImageFinalizeJobStatus running,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    /**
+     * 작업 점유 (조건부 UPDATE → 커밋 직후 트리거와 폴러, 여러 인스턴스가 겹쳐도 한 곳만 성공)
+     * @return 1 이면 점유 성공
+     */
+    @Modifying
+    @Query("""
+            update ImageFinalizeJob j
+               set j.status = :running, j.lockedUntil = :lockedUntil, j.attempts = j.attempts + 1
+             where j.id = :id
+               and ((j.status = :pending and j.nextAttemptAt <= :now)
+                 or (j.status = :running and j.lockedUntil < :now))
+            """)
+    int claim(@Param("id") Long id,
+              @Param("pending") ImageFinalizeJobStatus pending,
+              @Param("running") ImageFinalizeJobStatus running,
+              @Param("now") LocalDateTime now,
+              @Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -1,8 +1,15 @@
 package likelion.itgoserver.domain.image.repository;
 
+import likelion.itgoserver.domain.image.entity.ThumbnailStatus;
 import likelion.itgoserver.domain.share.entity.ShareImage;
+import likelion.itgoserver.domain.share.entity.ShareImageStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +17,41 @@ public interface ShareImageRepository extends JpaRepository<ShareImage, Long> {
     Optional<ShareImage> findByShareIdAndSeq(Long shareId, Integer seq);
     List<ShareImage> findByShareIdOrderBySeqAsc(Long shareId);
     List<ShareImage> findByShareIdInAndSeq(List<Long> shareIds, Integer seq);
-}
\ No newline at end of file
+    List<ShareImage> findByShareIdAndStatusOrderBySeqAsc(Long shareId, ShareImageStatus status);
+
+    /** 주어진 키 중 아직 이미지 행이 가리키는 키 (확정 대기 draft 보호용) */
+    @Query("select si.objectKey from ShareImage si where si.objectKey in :keys")
+    List<String> findObjectKeysIn(@Param("keys") Collection<String> keys);
+
+    /** draft 키 → final 키 확정 (그 사이 이미지가 교체/삭제됐으면 0) */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update ShareImage si
+               set si.objectKey = :finalKey, si.status = :ready
+             where si.id = :id and si.objectKey = :draftKey
+            """)
+    int markReady(@Param("id") Long id,
+                  @Param("draftKey") String draftKey,
+                  @Param("finalKey") String finalKey,
+                  @Param("ready") ShareImageStatus ready);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ShareImage si where si.share.id = :shareId and si.status = :status")
+    int deleteByShareIdAndStatus(@Param("shareId") Long shareId, @Param("status") ShareImageStatus status);
+
+    /** 썸네일 생성 결과 기록 (그 사이 이미지가 교체됐으면 0) */
+    @Modifying(flushAutomatically = true)
+    @Query("update ShareImage si set si.thumbnailStatus = :status where si.id = :id and si.objectKey = :key")
+    int markThumbnail(@Param("id") Long id, @Param("key") String key, @Param("status") ThumbnailStatus status);
+
+    /** 썸네일 미생성 확정 이미지 (누락/기존 데이터 보충용) */
+    @Query("""
+            select si from ShareImage si
+             where si.status = :status and si.thumbnailStatus = :thumbnailStatus and si.id > :afterId
+             order by si.id asc
+            """)
+    List<ShareImage> findThumbnailTargets(@Param("status") ShareImageStatus status,
+                                          @Param("thumbnailStatus") ThumbnailStatus thumbnailStatus,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+}
@@ -0,0 +1,190 @@
+package likelion.itgoserver.domain.image.service;
+
+import likelion.itgoserver.domain.image.repository.ShareImageRepository;
+import likelion.itgoserver.global.infra.s3.service.S3ImageService;
+import likelion.itgoserver.global.infra.storage.ObjectStorage.ObjectInfo;
+import likelion.itgoserver.global.infra.storage.ObjectStorage.Page;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 버려진 draft 업로드 정리 (drafts/ 하위: share 이미지, 가게 이미지)
+ * - 저장소 목록 페이지(최대 1000개)를 순서대로 훑으며 max-age 보다 오래된 객체만 DeleteObjects 배치로 삭제
+ * - 확정 대기(PENDING) 이미지가 아직 가리키는 draft 는 건너뜀
+ * - 동시 삭제 요청 수(concurrency)와 초당 삭제 수(max-deletes-per-second)를 제한
+ * - 여러 인스턴스 중 한 곳만 실행 (Redis 락), 실패한 키는 다음 실행에서 다시 대상이 됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DraftGarbageCollector {
+
+    private static final String DRAFT_PREFIX = "drafts/";
+    private static final String LOCK_KEY = "lock:draft-gc";
+
+    private final S3ImageService s3ImageService;
+    private final ShareImageRepository shareImageRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Executor s3Executor;
+
+    @Value("${app.s3.draft-gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.s3.draft-gc.max-age-hours:24}")
+    private long maxAgeHours;
+
+    @Value("${app.s3.draft-gc.concurrency:2}")
+    private int concurrency;
+
+    @Value("${app.s3.draft-gc.max-deletes-per-second:500}")
+    private int maxDeletesPerSecond;
+
+    @Value("${app.s3.draft-gc.lock-minutes:30}")
+    private long lockMinutes;
+
+    /**
+     * 실행 결과
+     * @param bytesReclaimed 삭제에 성공한 객체 크기 합
+     */
+    public record Report(long scanned, long deleted, long failed, long skippedInUse, long bytesReclaimed, Duration elapsed) {}
+
+    private volatile Report lastReport;
+
+    public Report lastReport() {
+        return lastReport;
+    }
+
+    @Scheduled(cron = "${app.s3.draft-gc.cron:0 30 4 * * *}")
+    public void scheduledRun() {
+        if (!enabled) return;
+
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, Duration.ofMinutes(lockMinutes));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("[DraftGC] 다른 인스턴스에서 실행 중 → 건너뜀");
+            return;
+        }
+        try {
+            run();
+        } catch (Exception e) {
+            log.warn("[DraftGC] 실행 실패", e);
+        } finally {
+            // 락 만료 후 다른 인스턴스가 잡은 락은 지우지 않음
+            if (token.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    public Report run() {
+        long startedNanos = System.nanoTime();
+        Instant cutoff = Instant.now().minus(Duration.ofHours(maxAgeHours));
+
+        AtomicLong deleted = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+        long scanned = 0, skippedInUse = 0;
+
+        Semaphore inFlight = new Semaphore(Math.max(concurrency, 1));
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        long nanosPerDelete = (maxDeletesPerSecond > 0) ? 1_000_000_000L / maxDeletesPerSecond : 0;
+        long nextAllowedAt = System.nanoTime();
+
+        String continuationToken = null;
+        do {
+            Page page = s3ImageService.listObjects(DRAFT_PREFIX, continuationToken);
+            scanned += page.objects().size();
+
+            Map<String, Long> expired = new LinkedHashMap<>();
+            for (ObjectInfo o : page.objects()) {
+                if (o.lastModified() != null && o.lastModified().isBefore(cutoff)) {
+                    expired.put(o.key(), o.size());
+                }
+            }
+            if (!expired.isEmpty()) {
+                // 비동기 확정 대기 중인 이미지가 아직 draft 를 가리키면 보호
+                int before = expired.size();
+                shareImageRepository.findObjectKeysIn(expired.keySet()).forEach(expired::remove);
+                skippedInUse += before - expired.size();
+            }
+
+            if (!expired.isEmpty()) {
+                // 초당 삭제 수 제한: 이번 배치가 차지하는 시간만큼 다음 배치를 늦춤
+                sleepUntil(nextAllowedAt);
+                nextAllowedAt = Math.max(System.nanoTime(), nextAllowedAt) + nanosPerDelete * expired.size();
+
+                acquire(inFlight);
+                Map<String, Long> batch = expired;
+                pending.add(CompletableFuture
+                        .runAsync(() -> deleteBatch(batch, deleted, failed, bytes), s3Executor)
+                        .whenComplete((v, e) -> inFlight.release()));
+            }
+
+            continuationToken = page.nextToken();
+        } while (continuationToken != null);
+
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+
+        Report report = new Report(scanned, deleted.get(), failed.get(), skippedInUse, bytes.get(),
+                Duration.ofNanos(System.nanoTime() - startedNanos));
+        lastReport = report;
+        log.info("[DraftGC] scanned={} deleted={} failed={} inUse={} reclaimed={}MB elapsed={}s",
+                report.scanned(), report.deleted(), report.failed(), report.skippedInUse(),
+                report.bytesReclaimed() / (1024 * 1024), report.elapsed().toSeconds());
+        return report;
+    }
+
+    /**
+     * 내부 메서드
+     */
+    private void deleteBatch(Map<String, Long> batch, AtomicLong deleted, AtomicLong failed, AtomicLong bytes) {
+        Map<String, String> errors;
+        try {
+            errors = s3ImageService.deleteObjects(batch.keySet());
+        } catch (Exception e) {
+            log.warn("[DraftGC] DeleteObjects 실패 keys={}", batch.size(), e);
+            failed.addAndGet(batch.size());
+            return;
+        }
+        batch.forEach((key, size) -> {
+            if (errors.containsKey(key)) {
+                failed.incrementAndGet();
+            } else {
+                deleted.incrementAndGet();
+                bytes.addAndGet(size);
+            }
+        });
+    }
+
+    private static void acquire(Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Draft GC 중단", e);
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long waitNanos = nanoTime - System.nanoTime();
+        if (waitNanos <= 0) return;
+        try {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Draft GC 중단", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package likelion.itgoserver.domain.image.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import likelion.itgoserver.global.infra.s3.service.S3PresignedPostIssuer.PresignedPost;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 발급한 draft presign 재사용 (Redis)
+ * - 회원/슬롯(seq)별 PUT URL 을 만료 reuse-margin 전까지 보관 → 에디터를 다시 열어도 재서명 없이 같은 URL
+ * - 슬롯 조회는 MGET 한 번
+ * - 확정(commit)되면 비움: 확정된 draft 는 삭제 예약되므로 같은 키로 다시 올리면 안 됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DraftPresignCache {
+
+    private static final String KEY_PREFIX = "presign:share:";
+    private static final int MAX_SLOTS = 5;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.image.presign-reuse-margin-seconds:120}")
+    private long reuseMarginSeconds;
+
+    /** 슬롯별 발급 내역 (같은 타입/확장자 요청일 때만 재사용) */
+    public record Slot(String contentType, String ext, String draftKey, String putUrl, Instant expiresAt) {
+        boolean matches(String contentType, String ext) {
+            return Objects.equals(this.contentType, contentType) && Objects.equals(this.ext, ext);
+        }
+    }
+
+    /** @return seq → 재사용 가능한 슬롯 (없거나 손상된 항목은 빠짐) */
+    public Map<Integer, Slot> findSlots(Long memberId, Collection<Integer> seqs) {
+        List<Integer> order = List.copyOf(seqs);
+        List<String> raws = redisTemplate.opsForValue().multiGet(order.stream().map(s -> slotKey(memberId, s)).toList());
+        if (raws == null) return Map.of();
+
+        Map<Integer, Slot> found = new HashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            Slot slot = read(raws.get(i), Slot.class);
+            if (slot != null) found.put(order.get(i), slot);
+        }
+        return found;
+    }
+
+    public void putSlot(Long memberId, int seq, Slot slot) {
+        write(slotKey(memberId, seq), slot, slot.expiresAt());
+    }
+
+    public Optional<PresignedPost> findPost(Long memberId) {
+        return Optional.ofNullable(read(redisTemplate.opsForValue().get(postKey(memberId)), PresignedPost.class));
+    }
+
+    public void putPost(Long memberId, PresignedPost post) {
+        write(postKey(memberId), post, post.expiresAt());
+    }
+
+    /** 확정 후 슬롯 비우기 (POST 정책은 키를 클라이언트가 정하므로 유지) */
+    public void evictSlots(Long memberId) {
+        List<String> keys = new ArrayList<>(MAX_SLOTS);
+        for (int seq = 0; seq < MAX_SLOTS; seq++) keys.add(slotKey(memberId, seq));
+        redisTemplate.delete(keys);
+    }
+
+    /**
+     * 내부 메서드
+     */
+    private static String slotKey(Long memberId, int seq) {
+        return KEY_PREFIX + memberId + ":" + seq;
+    }
+
+    private static String postKey(Long memberId) {
+        return KEY_PREFIX + memberId + ":post";
+    }
+
+    /** 만료 reuse-margin 전까지만 보관 (그보다 짧게 남았으면 저장하지 않음) */
+    private void write(String key, Object value, Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt).minusSeconds(reuseMarginSeconds);
+        if (ttl.isNegative() || ttl.isZero()) return;
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T read(String raw, Class<T> type) {
+        if (raw == null) return null;
+        try {
+            return objectMapper.readValue(raw, type);
+        } catch (JsonProcessingException e) {
+            log.warn("[PresignCache] 손상된 항목 무시 type={}", type.getSimpleName());
+            return null;
+        }
+    }
+}
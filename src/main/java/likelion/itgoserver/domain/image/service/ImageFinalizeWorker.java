@@ -0,0 +1,181 @@
+package likelion.itgoserver.domain.image.service;
+
+import likelion.itgoserver.domain.image.entity.ImageFinalizeJob;
+import likelion.itgoserver.domain.image.entity.ImageFinalizeJobStatus;
+import likelion.itgoserver.domain.image.event.ImageFinalizeRequestedEvent;
+import likelion.itgoserver.domain.image.event.ThumbnailRequestedEvent;
+import likelion.itgoserver.domain.image.repository.ImageFinalizeJobRepository;
+import likelion.itgoserver.domain.image.repository.ShareImageRepository;
+import likelion.itgoserver.domain.image.service.ShareImageService.CopyTask;
+import likelion.itgoserver.domain.share.entity.ShareImageStatus;
+import likelion.itgoserver.domain.share.index.ShareGeoIndexSync;
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.domain.trade.repository.TradeRepository;
+import likelion.itgoserver.global.error.GlobalErrorCode;
+import likelion.itgoserver.global.error.exception.CustomException;
+import likelion.itgoserver.global.infra.s3.cleanup.S3CleanupQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Share 이미지 비동기 확정 워커 (app.image.finalize-mode=async)
+ * - 커밋 직후 이벤트로 바로 처리, 놓친 작업/실패 재시도/서버 재기동 복구는 주기 폴링으로
+ * - 작업 점유는 조건부 UPDATE 한 번 → 트리거와 폴러, 여러 인스턴스가 겹쳐도 한 곳만 실행
+ * - S3 복사는 트랜잭션 밖, DB 반영(PENDING → READY, 키 교체)만 짧은 트랜잭션으로
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageFinalizeWorker {
+
+    private final ImageFinalizeJobRepository jobRepository;
+    private final ShareImageRepository shareImageRepository;
+    private final ShareRepository shareRepository;
+    private final TradeRepository tradeRepository;
+    private final ShareImageService shareImageService;
+    private final ShareGeoIndexSync shareGeoIndexSync;
+    private final S3CleanupQueue s3CleanupQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.image.finalize.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.image.finalize.backoff-seconds:5}")
+    private long backoffSeconds;
+
+    @Value("${app.image.finalize.max-backoff-seconds:300}")
+    private long maxBackoffSeconds;
+
+    @Value("${app.image.finalize.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${app.image.finalize.poll-batch-size:50}")
+    private int pollBatchSize;
+
+    private record Target(Long imageId, CopyTask copy) {}
+
+    @Async("imageFinalizeExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequested(ImageFinalizeRequestedEvent event) {
+        run(event.jobId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.image.finalize.poll-interval-ms:10000}")
+    public void poll() {
+        // 모드와 무관하게 실행 (sync 로 되돌린 뒤 남은 작업도 마무리)
+        List<Long> ids = jobRepository.findDueIds(
+                ImageFinalizeJobStatus.PENDING, ImageFinalizeJobStatus.RUNNING,
+                LocalDateTime.now(), PageRequest.of(0, pollBatchSize));
+        ids.forEach(this::run);
+    }
+
+    public void run(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> jobRepository.claim(
+                jobId, ImageFinalizeJobStatus.PENDING, ImageFinalizeJobStatus.RUNNING,
+                now, now.plusSeconds(leaseSeconds)));
+        if (claimed == null || claimed == 0) return; // 이미 다른 곳에서 처리중/완료
+
+        try {
+            finalizeJob(jobId);
+        } catch (Exception e) {
+            onFailure(jobId, e);
+        }
+    }
+
+    private void finalizeJob(Long jobId) {
+        ImageFinalizeJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) return;
+        Long shareId = job.getShareId();
+
+        // 1. 대상: 현재 PENDING 이미지 (그 사이 교체됐다면 최신 draft 기준)
+        List<Target> targets = shareImageRepository
+                .findByShareIdAndStatusOrderBySeqAsc(shareId, ShareImageStatus.PENDING).stream()
+                .map(si -> new Target(si.getId(), new CopyTask(
+                        si.getObjectKey(),
+                        shareImageService.finalKeyOf(shareId, si.getSeq(), si.getObjectKey()))))
+                .toList();
+
+        // 2. HEAD 검증 + 복사 (트랜잭션 밖, 실패 시 복사본은 copyAll 이 정리)
+        shareImageService.copyAll(targets.stream().map(Target::copy).toList());
+
+        // 3. DB 반영: 행이 아직 같은 draft 를 가리킬 때만 교체
+        List<String> appliedDrafts = new ArrayList<>();
+        List<String> staleFinals = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Target t : targets) {
+                String draftKey = t.copy().draftKey();
+                String finalKey = t.copy().finalKey();
+                if (shareImageRepository.markReady(t.imageId(), draftKey, finalKey, ShareImageStatus.READY) == 0) {
+                    staleFinals.add(finalKey);
+                    continue;
+                }
+                tradeRepository.replacePrimaryImageKey(shareId, draftKey, finalKey);
+                eventPublisher.publishEvent(ThumbnailRequestedEvent.shareImage(t.imageId(), finalKey));
+                appliedDrafts.add(draftKey);
+            }
+            if (!appliedDrafts.isEmpty()) {
+                shareRepository.findByIdWithStore(shareId).ifPresent(shareGeoIndexSync::upsert);
+            }
+            // 확정된 draft, 반영되지 못한 복사본은 같은 트랜잭션에 삭제 예약
+            s3CleanupQueue.enqueue(appliedDrafts);
+            s3CleanupQueue.enqueue(staleFinals);
+            jobRepository.findById(jobId).ifPresent(ImageFinalizeJob::done);
+        });
+
+        log.debug("[ImageFinalize] 완료 jobId={} shareId={} images={}", jobId, shareId, appliedDrafts.size());
+    }
+
+    /**
+     * 실패 처리
+     * - 업로드 자체가 잘못된 경우(검증 실패) → 재시도 없이 PENDING 이미지 제거
+     * - 그 외(S3/DB 일시 장애) → 지수 백오프로 재시도, 횟수 초과 시 FAILED (draft URL 로 계속 노출)
+     */
+    private void onFailure(Long jobId, Exception e) {
+        boolean invalidUpload = e instanceof CustomException ce && ce.getErrorCode() == GlobalErrorCode.BAD_REQUEST;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                ImageFinalizeJob job = jobRepository.findById(jobId).orElse(null);
+                if (job == null) return;
+
+                if (invalidUpload) {
+                    shareImageRepository.deleteByShareIdAndStatus(job.getShareId(), ShareImageStatus.PENDING);
+                    shareRepository.findByIdWithStore(job.getShareId()).ifPresent(shareGeoIndexSync::upsert);
+                    job.fail(e.getMessage());
+                    log.warn("[ImageFinalize] 잘못된 업로드로 이미지 제거 jobId={} shareId={}: {}",
+                            jobId, job.getShareId(), e.getMessage());
+                } else if (job.getAttempts() >= maxAttempts) {
+                    job.fail(e.getMessage());
+                    log.error("[ImageFinalize] 재시도 초과 jobId={} shareId={}", jobId, job.getShareId(), e);
+                } else {
+                    job.retryAt(LocalDateTime.now().plusSeconds(backoffOf(job.getAttempts())), e.getMessage());
+                    log.info("[ImageFinalize] 재시도 예정 jobId={} attempt={}/{}: {}",
+                            jobId, job.getAttempts(), maxAttempts, e.getMessage());
+                }
+            });
+        } catch (Exception ex) {
+            // 상태 기록도 실패하면 점유 만료 후 폴러가 다시 집어감
+            log.warn("[ImageFinalize] 실패 상태 기록 실패 jobId={}", jobId, ex);
+        }
+    }
+
+    /** backoff * 2^(attempts-1), 상한 max-backoff */
+    private long backoffOf(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(backoffSeconds << shift, maxBackoffSeconds);
+    }
+}
@@ -1,26 +1,40 @@
 package likelion.itgoserver.domain.image.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
 import likelion.itgoserver.domain.image.dto.*;
+import likelion.itgoserver.domain.image.entity.ImageFinalizeJob;
+import likelion.itgoserver.domain.image.event.ImageFinalizeRequestedEvent;
+import likelion.itgoserver.domain.image.event.ThumbnailRequestedEvent;
+import likelion.itgoserver.domain.image.repository.ImageFinalizeJobRepository;
 import likelion.itgoserver.domain.share.dto.ShareUpsertRequest.ImageDraftItem;
 import likelion.itgoserver.domain.share.entity.Share;
 import likelion.itgoserver.domain.share.entity.ShareImage;
+import likelion.itgoserver.domain.share.entity.ShareImageStatus;
 import likelion.itgoserver.domain.share.repository.ShareRepository;
 import likelion.itgoserver.global.error.GlobalErrorCode;
 import likelion.itgoserver.global.error.exception.CustomException;
+import likelion.itgoserver.global.infra.s3.cleanup.S3CleanupQueue;
 import likelion.itgoserver.global.infra.s3.service.PublicUrlResolver;
 import likelion.itgoserver.global.infra.s3.service.S3ImageService;
+import likelion.itgoserver.global.infra.s3.service.S3PresignedPostIssuer;
+import likelion.itgoserver.global.infra.s3.service.S3PresignedPostIssuer.PresignedPost;
+import likelion.itgoserver.global.infra.storage.ObjectStorage.ObjectInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.springframework.transaction.support.TransactionSynchronizationManager.*;
 
@@ -30,17 +44,26 @@ import static org.springframework.transaction.support.TransactionSynchronization
 public class ShareImageService {
 
     private final ShareRepository shareRepository;
+    private final S3CleanupQueue s3CleanupQueue;
+    private final ImageFinalizeJobRepository imageFinalizeJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final S3ImageService s3ImageService;
     private final PublicUrlResolver publicUrlResolver;
+    private final S3PresignedPostIssuer s3PresignedPostIssuer;
+    private final DraftPresignCache draftPresignCache;
 
-    private final AmazonS3 s3;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final Executor s3Executor;
 
     @Value("${app.image.presign-ttl-minutes:15}")
     private long presignTtlMinutes;
 
+    @Value("${app.image.copy-timeout-seconds:30}")
+    private long copyTimeoutSeconds;
+
+    /** sync | async */
+    @Value("${app.image.finalize-mode:sync}")
+    private String finalizeMode;
+
     /** 허용 이미지 최대 크기 : 10MB */
     private static final long MAX_IMAGE_BYTES = 10 * 1024 * 1024;
     private static final int MAX_IMAGES = 5;
@@ -66,30 +89,61 @@ public class ShareImageService {
             }
         }
 
-        var ttl = java.time.Duration.ofMinutes(presignTtlMinutes);
-        var items = request.items().stream()
-                .map(it -> {
-                    String draftKey = s3ImageService.draftKey(memberId, it.seq(), it.ext());
-                    String putUrl   = s3ImageService.createPresignedPutUrl(draftKey, it.contentType(), ttl).toString();
-                    String previewUrl = publicUrlResolver.toUrl(draftKey);
-                    return new ShareImageDraftPresignResponse.Item(it.seq(), putUrl, previewUrl, draftKey);
-                })
-                .toList();
+        // 만료 시각은 한 번만 계산해 모든 슬롯이 공유, 캐시에 남은 같은 요청 슬롯은 재서명 없이 재사용
+        var cached = draftPresignCache.findSlots(memberId,
+                request.items().stream().map(ShareImageDraftPresignRequest.PresignItem::seq).toList());
+        Instant expiresAt = null;
+        var items = new java.util.ArrayList<ShareImageDraftPresignResponse.Item>(request.items().size());
+        for (var it : request.items()) {
+            DraftPresignCache.Slot slot = cached.get(it.seq());
+            if (slot == null || !slot.matches(it.contentType(), it.ext())) {
+                if (expiresAt == null) expiresAt = s3ImageService.presignExpiration(Duration.ofMinutes(presignTtlMinutes));
+                String draftKey = s3ImageService.draftKey(memberId, it.seq(), it.ext());
+                String putUrl = s3ImageService.createPresignedPutUrl(draftKey, it.contentType(), expiresAt).toString();
+                slot = new DraftPresignCache.Slot(it.contentType(), it.ext(), draftKey, putUrl, expiresAt);
+                draftPresignCache.putSlot(memberId, it.seq(), slot);
+            }
+            items.add(new ShareImageDraftPresignResponse.Item(
+                    it.seq(), slot.putUrl(), publicUrlResolver.toUrl(slot.draftKey()), slot.draftKey()));
+        }
 
         return new ShareImageDraftPresignResponse(memberId, items);
     }
 
+    /**
+     * 브라우저 POST 업로드 정책 발급 (서명 1회로 drafts/{memberId}/images/ 아래 여러 장 업로드)
+     * - 키 이름은 클라이언트가 keyPrefix + "{seq}_{임의값}.{확장자}" 로 정함
+     * - 만료 reuse-margin 전까지는 같은 정책 재사용
+     */
+    public ShareImageDraftPresignPostResponse presignDraftPost(Long memberId) {
+        if (!s3ImageService.supportsPresignedPost())
+            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "현재 저장소는 POST 업로드를 지원하지 않습니다.");
+        PresignedPost post = draftPresignCache.findPost(memberId).orElseGet(() -> {
+            PresignedPost issued = s3PresignedPostIssuer.issue(draftPrefixOf(memberId), "image/", MAX_IMAGE_BYTES,
+                    s3ImageService.presignExpiration(Duration.ofMinutes(presignTtlMinutes)));
+            draftPresignCache.putPost(memberId, issued);
+            return issued;
+        });
+        return new ShareImageDraftPresignPostResponse(post.url(), post.keyPrefix(), post.fields(),
+                post.expiresAt(), MAX_IMAGES, MAX_IMAGE_BYTES);
+    }
+
+    /**
+     * draft → final 확정
+     * - sync(기본): 요청 안에서 HEAD 검증 + 복사 후 final 키로 저장
+     * - async: draft 키를 가리키는 PENDING 이미지 + 확정 작업만 저장, 복사는 커밋 후 ImageFinalizeWorker 가 수행
+     */
     @Transactional
     public void commitFromDraft(Long memberId, Share share, List<ImageDraftItem> images) {
         if (images == null) return;
         if (images.size() > MAX_IMAGES)
             throw new CustomException(GlobalErrorCode.BAD_REQUEST, "이미지는 최대 5장까지");
 
-        // 1. 유효성 & 목적지 키 계산 & 즉시 복사 수행
-        String draftPrefix = "drafts/" + memberId + "/images/";
+        // 1. 요청 항목 검증 & 목적지 키 계산 (I/O 없음)
+        String draftPrefix = draftPrefixOf(memberId);
         var seenSeq   = new java.util.HashSet<Integer>();
         var destImgs  = new java.util.ArrayList<ShareImage>(images.size());
-        var destKeys  = new java.util.ArrayList<String>(images.size()); // 롤백 시 삭제용
+        var copies    = new java.util.ArrayList<CopyTask>(images.size());
         for (var it : images) {
             if (it == null || it.seq() == null || it.draftKey() == null)
                 throw new CustomException(GlobalErrorCode.BAD_REQUEST, "이미지 항목이 올바르지 않습니다.");
@@ -102,15 +156,19 @@ public class ShareImageService {
                 throw new CustomException(GlobalErrorCode.BAD_REQUEST, "다른 사용자의 draftKey 접근은 불가");
             }
 
-            // HEAD 검증
-            ObjectMetadata md = headObject(draftKey);
-            validateMetadata(md, draftKey);
+            if (isAsyncFinalize()) {
+                // 확정 전까지 draft 키 그대로 노출
+                destImgs.add(ShareImage.builder()
+                        .share(share)
+                        .seq(seq)
+                        .objectKey(draftKey)
+                        .status(ShareImageStatus.PENDING)
+                        .build());
+                continue;
+            }
 
-            // 목적지 키 계산 & 즉시 복사
-            String ext = S3ImageService.extractExtFromKey(draftKey);
-            String finalKey = s3ImageService.shareKey(share.getId(), seq, ext);
-            s3ImageService.copyObject(draftKey, finalKey);
-            destKeys.add(finalKey);
+            String finalKey = finalKeyOf(share.getId(), seq, draftKey);
+            copies.add(new CopyTask(draftKey, finalKey));
 
             // 엔티티 준비
             destImgs.add(ShareImage.builder()
@@ -120,37 +178,106 @@ public class ShareImageService {
                     .build());
         }
 
-        // 2. 기존 키 백업 후 교체
+        // 2. HEAD 검증 + 복사를 이미지별로 병렬 수행 (실패 시 이미 복사된 목적지는 즉시 제거)
+        List<String> destKeys = copyAll(copies); // 롤백 시 삭제용
+
+        // 3. 기존 키 백업 후 교체
         List<String> oldKeys = share.getImages().stream().map(ShareImage::getObjectKey).toList();
         share.getImages().clear();
         destImgs.forEach(share::addImage);
         shareRepository.saveAndFlush(share);
+        if (!isAsyncFinalize()) {
+            // 커밋 후 썸네일 생성 (async 는 확정 후 워커가 요청)
+            destImgs.forEach(img -> eventPublisher.publishEvent(
+                    ThumbnailRequestedEvent.shareImage(img.getId(), img.getObjectKey())));
+        }
 
-        // 3. 트랜잭션 : 커밋 시 draft 삭제 / 롤백 시 방금 복사한 dest 제거
-        var toDeleteDrafts = images.stream().map(ImageDraftItem::draftKey).toList();
+        // 4. 커밋 시 draft/옛 final 삭제 (같은 트랜잭션에 예약) / 롤백 시 방금 복사한 dest 삭제
         var keepKeys = destImgs.stream().map(ShareImage::getObjectKey).collect(java.util.stream.Collectors.toSet());
-        var toDeleteOld = oldKeys.stream().filter(k -> !keepKeys.contains(k)).toList();
+        var toDelete = new java.util.ArrayList<String>();
+        if (!isAsyncFinalize()) {
+            images.forEach(it -> toDelete.add(it.draftKey())); // async 는 워커가 확정 후 예약
+        }
+        oldKeys.stream().filter(k -> !keepKeys.contains(k)).forEach(toDelete::add);
+        s3CleanupQueue.enqueue(toDelete);
+        draftPresignCache.evictSlots(memberId);
+
+        if (isAsyncFinalize()) {
+            // 같은 트랜잭션에 작업 기록 → 커밋되면 워커 트리거, 유실돼도 폴러가 재개
+            ImageFinalizeJob job = imageFinalizeJobRepository.save(ImageFinalizeJob.of(share.getId()));
+            eventPublisher.publishEvent(new ImageFinalizeRequestedEvent(job.getId()));
+        }
 
         registerSynchronization(new TransactionSynchronization() {
                     @Override public void afterCompletion(int status) {
-                        if (status == STATUS_COMMITTED) {
-                            // 커밋 성공: draft 제거 + 옛 final 제거
-                            safeDeleteAll(toDeleteDrafts);
-                            safeDeleteAll(toDeleteOld);
-                        } else {
-                            // 롤백: 방금 복사한 목적지 제거
-                            safeDeleteAll(destKeys);
-                        }
+                        if (status != STATUS_COMMITTED) s3CleanupQueue.enqueueNow(destKeys);
                     }
                 });
     }
 
+    public boolean isAsyncFinalize() {
+        return "async".equalsIgnoreCase(finalizeMode);
+    }
+
     /**
      * 내부 유틸
      */
-    private ObjectMetadata headObject(String objectKey) {
+    record CopyTask(String draftKey, String finalKey) {}
+
+    private static String draftPrefixOf(Long memberId) {
+        return "drafts/" + memberId + "/images/";
+    }
+
+    String finalKeyOf(Long shareId, int seq, String draftKey) {
+        return s3ImageService.shareKey(shareId, seq, S3ImageService.extractExtFromKey(draftKey));
+    }
+
+    /**
+     * 이미지별 HEAD → 검증 → 복사(HEAD 메타데이터 재사용)를 s3Executor 에서 동시에 실행
+     * - 모두 끝날 때까지 기다린 뒤, 하나라도 실패하면 성공한 복사본을 지우고 첫 예외를 던짐
+     * @return 복사된 목적지 키 (요청 순서)
+     */
+    List<String> copyAll(List<CopyTask> tasks) {
+        var futures = tasks.stream()
+                .map(t -> CompletableFuture.supplyAsync(() -> {
+                    ObjectInfo md = headObject(t.draftKey());
+                    validateMetadata(md, t.draftKey());
+                    s3ImageService.copyObject(t.draftKey(), t.finalKey(), md);
+                    return t.finalKey();
+                }, s3Executor))
+                .toList();
+
+        RuntimeException failure = null;
+        var copied = new java.util.ArrayList<String>(tasks.size());
+        for (var f : futures) {
+            try {
+                copied.add(f.get(copyTimeoutSeconds, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                if (failure == null) failure = unwrap(e.getCause());
+            } catch (TimeoutException e) {
+                f.cancel(true);
+                if (failure == null) failure = new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR, "이미지 복사 시간 초과");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) failure = new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR, "이미지 복사 중단");
+            }
+        }
+        if (failure != null) {
+            // 시간 초과/중단으로 결과를 못 받은 복사본도 있을 수 있으므로 목적지 키 전체 정리
+            s3CleanupQueue.enqueueNow(tasks.stream().map(CopyTask::finalKey).toList());
+            throw failure;
+        }
+        return copied;
+    }
+
+    private static RuntimeException unwrap(Throwable t) {
+        if (t instanceof RuntimeException re) return re;
+        return new CustomException(GlobalErrorCode.INTERNAL_SERVER_ERROR, "이미지 복사 실패: " + t.getMessage());
+    }
+
+    private ObjectInfo headObject(String objectKey) {
         try {
-            return s3.getObjectMetadata(new GetObjectMetadataRequest(bucket, objectKey));
+            return s3ImageService.headObject(objectKey);
         } catch (Exception e) {
             throw new CustomException(GlobalErrorCode.BAD_REQUEST,
                     "S3에 해당 objectKey가 존재하지 않습니다. key=" + objectKey);
@@ -158,8 +285,8 @@ public class ShareImageService {
     }
 
     /** 용량/타입 서버 측 검증 */
-    private void validateMetadata(ObjectMetadata md, String objectKey) {
-        long size = md.getContentLength();
+    private void validateMetadata(ObjectInfo md, String objectKey) {
+        long size = md.size();
         if (size <= 0) {
             throw new CustomException(GlobalErrorCode.BAD_REQUEST,
                     "업로드된 이미지 크기가 0입니다. key=" + objectKey);
@@ -169,7 +296,7 @@ public class ShareImageService {
                     "최대 허용 크기(10MB)를 초과했습니다. key=" + objectKey);
         }
 
-        String ctRaw = java.util.Optional.ofNullable(md.getContentType()).orElse("").toLowerCase(java.util.Locale.ROOT);
+        String ctRaw = java.util.Optional.ofNullable(md.contentType()).orElse("").toLowerCase(java.util.Locale.ROOT);
         String ct = ctRaw.split(";", 2)[0].trim();
         if (!ALLOWED_IMAGE_MIME.contains(ct)) {
             throw new CustomException(GlobalErrorCode.BAD_REQUEST,
@@ -177,12 +304,4 @@ public class ShareImageService {
         }
     }
 
-    private void safeDeleteAll(java.util.Collection<String> keys) {
-        if (keys == null) return;
-        for (String k : keys) {
-            try { if (k != null && !k.isBlank()) s3ImageService.deleteObject(k); }
-            catch (Exception e) { log.warn("S3 삭제 실패 key={}", k, e); }
-        }
-    }
-
 }
\ No newline at end of file
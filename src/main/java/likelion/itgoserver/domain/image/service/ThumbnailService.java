@@ -0,0 +1,150 @@
+package likelion.itgoserver.domain.image.service;
+
+import likelion.itgoserver.domain.image.entity.ThumbnailStatus;
+import likelion.itgoserver.domain.image.event.ThumbnailRequestedEvent;
+import likelion.itgoserver.domain.image.event.ThumbnailRequestedEvent.Target;
+import likelion.itgoserver.domain.image.repository.ShareImageRepository;
+import likelion.itgoserver.domain.share.entity.ShareImage;
+import likelion.itgoserver.domain.share.entity.ShareImageStatus;
+import likelion.itgoserver.domain.share.index.ShareGeoIndexSync;
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.domain.store.entity.Store;
+import likelion.itgoserver.domain.store.repository.StoreRepository;
+import likelion.itgoserver.domain.trade.repository.TradeRepository;
+import likelion.itgoserver.global.infra.image.ThumbnailGenerator;
+import likelion.itgoserver.global.infra.image.ThumbnailGenerator.UnreadableImageException;
+import likelion.itgoserver.global.infra.image.ThumbnailKeys;
+import likelion.itgoserver.global.infra.s3.cleanup.S3CleanupQueue;
+import likelion.itgoserver.global.infra.s3.service.S3ImageService;
+import likelion.itgoserver.global.infra.storage.ObjectNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리스트용 썸네일 생성 (ThumbnailKeys.WIDTHS 고정 폭, JPEG)
+ * - 원본 확정 커밋 직후 thumbnailExecutor(작은 고정 풀)에서 생성
+ * - 풀이 가득 차 버려졌거나 일시 실패한 건, 기존 이미지는 주기 보충(sweep)에서 처리
+ * - 결과는 원본 키가 그대로일 때만 기록 (그 사이 교체됐으면 만든 썸네일은 삭제 예약)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailService {
+
+    private static final String JPEG = "image/jpeg";
+
+    private final S3ImageService s3ImageService;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ShareImageRepository shareImageRepository;
+    private final ShareRepository shareRepository;
+    private final StoreRepository storeRepository;
+    private final TradeRepository tradeRepository;
+    private final ShareGeoIndexSync shareGeoIndexSync;
+    private final S3CleanupQueue s3CleanupQueue;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.image.thumbnail.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.image.thumbnail.sweep-batch-size:20}")
+    private int sweepBatchSize;
+
+    /** 보충 위치 (일시 실패 건이 앞쪽을 계속 차지하지 않도록 id 순으로 돌아가며 처리) */
+    private long shareImageCursor = 0L;
+    private long storeCursor = 0L;
+
+    @Async("thumbnailExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequested(ThumbnailRequestedEvent event) {
+        if (!enabled) return;
+        generate(event.target(), event.id(), event.objectKey());
+    }
+
+    /** 생성 대기로 남은 이미지 보충 (주기당 종류별 sweep-batch-size 건) */
+    @Scheduled(fixedDelayString = "${app.image.thumbnail.sweep-interval-ms:60000}")
+    public synchronized void sweep() {
+        if (!enabled) return;
+
+        List<ShareImage> images = shareImageRepository.findThumbnailTargets(
+                ShareImageStatus.READY, ThumbnailStatus.PENDING, shareImageCursor, PageRequest.of(0, sweepBatchSize));
+        images.forEach(si -> generate(Target.SHARE_IMAGE, si.getId(), si.getObjectKey()));
+        shareImageCursor = (images.size() < sweepBatchSize) ? 0L : images.get(images.size() - 1).getId();
+
+        List<Store> stores = storeRepository.findByImageThumbnailStatus(
+                ThumbnailStatus.PENDING, storeCursor, PageRequest.of(0, sweepBatchSize));
+        stores.forEach(s -> generate(Target.STORE, s.getId(), s.getStoreImageKey()));
+        storeCursor = (stores.size() < sweepBatchSize) ? 0L : stores.get(stores.size() - 1).getId();
+    }
+
+    public void generate(Target target, Long id, String objectKey) {
+        ThumbnailStatus result;
+        List<String> thumbKeys = List.of();
+        if (!ThumbnailKeys.isDerivable(objectKey)) {
+            result = ThumbnailStatus.UNAVAILABLE;
+        } else {
+            try {
+                byte[] original = s3ImageService.readObject(objectKey);
+                Map<Integer, byte[]> thumbs = thumbnailGenerator.generate(original, ThumbnailKeys.WIDTHS);
+                thumbs.forEach((width, bytes) -> s3ImageService.putObject(ThumbnailKeys.of(objectKey, width), bytes, JPEG));
+                thumbKeys = ThumbnailKeys.allOf(objectKey);
+                result = ThumbnailStatus.READY;
+            } catch (UnreadableImageException e) {
+                log.info("[Thumbnail] 생성 불가 → 원본 사용 {} id={} key={}: {}", target, id, objectKey, e.getMessage());
+                result = ThumbnailStatus.UNAVAILABLE;
+            } catch (ObjectNotFoundException e) {
+                result = ThumbnailStatus.UNAVAILABLE; // 원본 없음
+            } catch (Exception e) {
+                log.warn("[Thumbnail] 생성 실패 (보충 주기에 재시도) {} id={} key={}", target, id, objectKey, e);
+                return;
+            }
+        }
+
+        ThumbnailStatus status = result;
+        List<String> uploaded = thumbKeys;
+        transactionTemplate.executeWithoutResult(tx -> {
+            boolean applied = (target == Target.SHARE_IMAGE)
+                    ? applyToShareImage(id, objectKey, status)
+                    : applyToStore(id, objectKey, status);
+            if (!applied) {
+                s3CleanupQueue.enqueue(uploaded); // 원본이 이미 교체됨
+            }
+        });
+    }
+
+    /**
+     * 내부 메서드
+     */
+    private boolean applyToShareImage(Long shareImageId, String key, ThumbnailStatus status) {
+        if (shareImageRepository.markThumbnail(shareImageId, key, status) == 0) return false;
+        if (status != ThumbnailStatus.READY) return true;
+
+        // 대표이미지면 스냅샷(거래 내역, 동네 피드 인덱스)에도 반영
+        shareImageRepository.findById(shareImageId)
+                .filter(si -> si.getSeq() != null && si.getSeq() == 0)
+                .ifPresent(si -> {
+                    Long shareId = si.getShare().getId();
+                    tradeRepository.markPrimaryThumbnailReady(shareId, key);
+                    shareRepository.findByIdWithStore(shareId).ifPresent(shareGeoIndexSync::upsert);
+                });
+        return true;
+    }
+
+    private boolean applyToStore(Long storeId, String key, ThumbnailStatus status) {
+        if (storeRepository.markImageThumbnail(storeId, key, status) == 0) return false;
+        if (status == ThumbnailStatus.READY) {
+            tradeRepository.refreshStoreSnapshots(storeId);
+        }
+        return true;
+    }
+}
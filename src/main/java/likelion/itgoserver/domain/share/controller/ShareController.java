@@ -3,9 +3,13 @@ package likelion.itgoserver.domain.share.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import likelion.itgoserver.domain.share.dto.*;
 import likelion.itgoserver.domain.share.service.ShareService;
 import likelion.itgoserver.global.response.ApiResponse;
+import likelion.itgoserver.global.response.CursorSlice;
+import likelion.itgoserver.global.support.idempotency.Idempotent;
 import likelion.itgoserver.global.support.resolver.CurrentMemberId;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
@@ -25,6 +29,7 @@ public class ShareController {
     private final ShareService shareService;
 
     @Operation(summary = "나눔 게시글 등록")
+    @Idempotent
     @PostMapping
     public ApiResponse<ShareResponse> create(
             @CurrentMemberId Long memberId,
@@ -62,6 +67,19 @@ public class ShareController {
         return ApiResponse.success(shareService.getByDong(currentMemberId, pageable), "같은 동네의 나눔 게시글 조회 완료.");
     }
 
+    @Operation(
+            summary = "같은 동네의 Share 리스트 (커서)",
+            description = "거리, 최신순 정렬의 다음 페이지를 커서로 조회. 첫 페이지는 cursor 생략, 이후 응답의 nextCursor 전달"
+    )
+    @GetMapping("dong/cursor")
+    public ApiResponse<CursorSlice<ShareByDongResponse>> getByDongCursor(
+            @CurrentMemberId Long currentMemberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        return ApiResponse.success(shareService.getByDongCursor(currentMemberId, cursor, size), "같은 동네의 나눔 게시글 조회 완료.");
+    }
+
     @Operation(summary = "나눔 게시글 수정")
     @PutMapping("/{shareId}")
     public ApiResponse<ShareResponse> update(
@@ -0,0 +1,44 @@
+package likelion.itgoserver.domain.share.dto;
+
+import likelion.itgoserver.global.error.GlobalErrorCode;
+import likelion.itgoserver.global.error.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 같은 동네 Share 피드 커서 : 마지막 행의 (거리(m), regDate, id)
+ * - 거리 정렬이 불가능한 경우 distanceMeters = null
+ */
+public record ShareDongCursor(
+        Double distanceMeters,
+        LocalDateTime regDate,
+        Long id
+) {
+    private static final String SEP = "|";
+
+    public String encode() {
+        String raw = (distanceMeters == null ? "" : Double.toString(distanceMeters))
+                + SEP + regDate
+                + SEP + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ShareDongCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) throw new IllegalArgumentException(raw);
+            return new ShareDongCursor(
+                    parts[0].isEmpty() ? null : Double.parseDouble(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
@@ -7,11 +7,14 @@ import likelion.itgoserver.domain.store.entity.Store;
 import likelion.itgoserver.global.error.GlobalErrorCode;
 import likelion.itgoserver.global.error.exception.CustomException;
 import likelion.itgoserver.global.support.BaseTimeEntity;
+import likelion.itgoserver.global.support.text.ItemNameNormalizer;
 import lombok.*;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Getter
@@ -33,6 +36,11 @@ public class Share extends BaseTimeEntity {
     @Builder.Default
     private List<ShareImage> images = new ArrayList<>();
 
+    /** 낙관적 잠금 버전 (재고 조건부 UPDATE 시에도 함께 증가) */
+    @Version
+    @Column(columnDefinition = "bigint not null default 0")
+    private Long version;
+
     private String itemName;
     private String brand;
     private Integer quantity;
@@ -54,6 +62,15 @@ public class Share extends BaseTimeEntity {
     @Builder.Default
     private List<Claim> claims = new ArrayList<>();
 
+    /** 정규화된 품목 토큰 (매칭용 역색인, itemName 변경 시 갱신) */
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "share_item_token",
+            joinColumns = @JoinColumn(name = "share_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_share_item_token", columnNames = {"token", "share_id"}))
+    @Column(name = "token", nullable = false, length = ItemNameNormalizer.MAX_TOKEN_LENGTH)
+    @Builder.Default
+    private Set<String> itemTokens = new HashSet<>();
+
     public void addImage(ShareImage image) {
         image.linkShare(this);
         this.images.add(image);
@@ -85,5 +102,15 @@ public class Share extends BaseTimeEntity {
         this.freshCertified = (req.freshCertified() != null) ? req.freshCertified() : this.freshCertified;
         this.openTime = req.openTime();
         this.closeTime = req.closeTime();
+        refreshItemTokens();
+    }
+
+    @PrePersist
+    public void refreshItemTokens() {
+        Set<String> fresh = ItemNameNormalizer.tokens(this.itemName);
+        if (!fresh.equals(this.itemTokens)) {
+            this.itemTokens.clear();
+            this.itemTokens.addAll(fresh);
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package likelion.itgoserver.domain.share.entity;
 
 import jakarta.persistence.*;
+import likelion.itgoserver.domain.image.entity.ThumbnailStatus;
 import lombok.*;
 
 
@@ -27,8 +28,25 @@ public class ShareImage {
     @Column(nullable = false, length = 512)
     private String objectKey;
 
+    /** 비동기 확정 모드에서 PENDING 이면 objectKey 는 draft 키 (확정 전까지 draft URL 로 노출) */
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16, columnDefinition = "varchar(16) not null default 'READY'")
+    private ShareImageStatus status = ShareImageStatus.READY;
+
+    /** 리스트용 썸네일 생성 여부 (키는 ThumbnailKeys 로 결정) */
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16, columnDefinition = "varchar(16) not null default 'PENDING'")
+    private ThumbnailStatus thumbnailStatus = ThumbnailStatus.PENDING;
+
     public void update(String key) {
         this.objectKey = key;
+        this.thumbnailStatus = ThumbnailStatus.PENDING;
+    }
+
+    public boolean hasThumbnail() {
+        return thumbnailStatus == ThumbnailStatus.READY;
     }
 
     public void linkShare(Share share) {
@@ -0,0 +1,14 @@
+package likelion.itgoserver.domain.share.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ShareImageStatus {
+    PENDING("확정 대기"),   // objectKey 가 아직 draft 키
+    READY("확정"),
+    ;
+
+    private final String description;
+}
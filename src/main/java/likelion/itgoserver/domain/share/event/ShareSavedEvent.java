@@ -0,0 +1,7 @@
+package likelion.itgoserver.domain.share.event;
+
+/**
+ * Share 생성/수정 커밋 이벤트 (매칭 엔진 트리거)
+ */
+public record ShareSavedEvent(Long shareId) {
+}
@@ -0,0 +1,62 @@
+package likelion.itgoserver.domain.share.index;
+
+import likelion.itgoserver.global.support.geo.BoundingBox;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 최소 geohash 유틸 (인코딩 + 사각형을 덮는 셀 목록)
+ */
+final class Geohash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private Geohash() {}
+
+    static String encode(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder sb = new StringBuilder(precision);
+        boolean evenBit = true; // 짝수 비트 = 경도
+        int bit = 0, ch = 0;
+
+        while (sb.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) { ch = (ch << 1) | 1; minLng = mid; }
+                else { ch = ch << 1; maxLng = mid; }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) { ch = (ch << 1) | 1; minLat = mid; }
+                else { ch = ch << 1; maxLat = mid; }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                sb.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return sb.toString();
+    }
+
+    /** box 를 빠짐없이 덮는 precision 자리 셀들 */
+    static Set<String> covering(BoundingBox box, int precision) {
+        int bits = precision * 5;
+        double cellLat = 180.0 / (1L << (bits / 2));
+        double cellLng = 360.0 / (1L << (bits - bits / 2));
+
+        Set<String> cells = new HashSet<>();
+        for (double lat = box.minLat(); ; lat += cellLat) {
+            double y = Math.min(lat, box.maxLat());
+            for (double lng = box.minLng(); ; lng += cellLng) {
+                double x = Math.min(lng, box.maxLng());
+                cells.add(encode(y, x, precision));
+                if (x >= box.maxLng()) break;
+            }
+            if (y >= box.maxLat()) break;
+        }
+        return cells;
+    }
+}
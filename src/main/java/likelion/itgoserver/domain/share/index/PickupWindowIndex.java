@@ -0,0 +1,131 @@
+package likelion.itgoserver.domain.share.index;
+
+import likelion.itgoserver.global.support.time.TimeWindow;
+
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * 동네별 픽업 시간대 인덱스 (15분 버킷 × 비트맵)
+ * - Share 마다 동네 안에서 slot 번호를 받고, 시간대가 걸친 버킷의 BitSet 에 slot 비트를 세운다
+ * - 질의 [a, b] 는 걸친 버킷(최대 96개) 비트맵 OR → 후보 slot → 경계 버킷만 정확 비교
+ * - 자정을 넘기는 시간대는 [open, 24:00) ∪ [00:00, close] 두 구간으로 기록
+ */
+final class PickupWindowIndex {
+
+    private static final int BUCKET_MINUTES = 15;
+    private static final int BUCKETS = 24 * 60 / BUCKET_MINUTES;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, DongWindows> byDong = new HashMap<>();
+    private final Map<Long, String> dongById = new HashMap<>();
+
+    void put(Long shareId, String dong, TimeWindow window) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(shareId);
+            byDong.computeIfAbsent(dong, k -> new DongWindows()).put(shareId, window);
+            dongById.put(shareId, dong);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long shareId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(shareId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** dong 안에서 query 와 시간대가 겹치는 shareId */
+    Set<Long> overlapping(String dong, TimeWindow query) {
+        lock.readLock().lock();
+        try {
+            DongWindows dw = byDong.get(dong);
+            return (dw == null) ? Set.of() : dw.overlapping(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long shareId) {
+        String dong = dongById.remove(shareId);
+        if (dong == null) return;
+        DongWindows dw = byDong.get(dong);
+        if (dw == null) return;
+        dw.remove(shareId);
+        if (dw.isEmpty()) byDong.remove(dong);
+    }
+
+    private static final class DongWindows {
+        final BitSet[] buckets = new BitSet[BUCKETS];
+        final Map<Long, Integer> slotById = new HashMap<>();
+        final List<Long> idBySlot = new ArrayList<>();
+        final List<TimeWindow> windowBySlot = new ArrayList<>();
+        final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+        DongWindows() {
+            for (int i = 0; i < BUCKETS; i++) buckets[i] = new BitSet();
+        }
+
+        void put(Long shareId, TimeWindow w) {
+            int slot;
+            if (freeSlots.isEmpty()) {
+                slot = idBySlot.size();
+                idBySlot.add(shareId);
+                windowBySlot.add(w);
+            } else {
+                slot = freeSlots.pop();
+                idBySlot.set(slot, shareId);
+                windowBySlot.set(slot, w);
+            }
+            slotById.put(shareId, slot);
+            forEachBucket(w, b -> buckets[b].set(slot));
+        }
+
+        void remove(Long shareId) {
+            Integer slot = slotById.remove(shareId);
+            if (slot == null) return;
+            forEachBucket(windowBySlot.get(slot), b -> buckets[b].clear(slot));
+            idBySlot.set(slot, null);
+            windowBySlot.set(slot, null);
+            freeSlots.push(slot);
+        }
+
+        boolean isEmpty() {
+            return slotById.isEmpty();
+        }
+
+        Set<Long> overlapping(TimeWindow query) {
+            BitSet candidates = new BitSet();
+            forEachBucket(query, b -> candidates.or(buckets[b]));
+
+            Set<Long> result = new HashSet<>();
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                // 같은 버킷이어도 분 단위로는 안 겹칠 수 있어 정확 비교
+                if (windowBySlot.get(slot).overlaps(query)) result.add(idBySlot.get(slot));
+            }
+            return result;
+        }
+
+        private static void forEachBucket(TimeWindow w, IntConsumer action) {
+            int from = bucketOf(w.open());
+            int to = bucketOf(w.close());
+            if (!w.isOvernight()) {
+                for (int b = from; b <= to; b++) action.accept(b);
+            } else {
+                for (int b = from; b < BUCKETS; b++) action.accept(b);
+                for (int b = 0; b <= to; b++) action.accept(b);
+            }
+        }
+
+        private static int bucketOf(LocalTime t) {
+            return (t.getHour() * 60 + t.getMinute()) / BUCKET_MINUTES;
+        }
+    }
+}
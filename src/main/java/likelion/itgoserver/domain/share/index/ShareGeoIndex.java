@@ -0,0 +1,317 @@
+package likelion.itgoserver.domain.share.index;
+
+import likelion.itgoserver.domain.share.dto.ShareDongCursor;
+import likelion.itgoserver.global.error.GlobalErrorCode;
+import likelion.itgoserver.global.error.exception.CustomException;
+import likelion.itgoserver.global.response.CursorSlice;
+import likelion.itgoserver.global.support.geo.BoundingBox;
+import likelion.itgoserver.global.support.time.TimeWindow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행중 Share 인메모리 인덱스 (dong → geohash 셀 → shareId, dong → 픽업 시간대)
+ * - 같은 동네 피드(거리 ASC, regDate DESC, id DESC)를 DB 없이 응답
+ * - 시간대 겹침 후보 조회 (Wish 매칭)
+ * - 쓰기는 커밋 이후 훅(ShareGeoIndexSync)으로만 반영, Share.version 으로 순서 보정, 읽기는 락 없이 수행
+ * - 기동 직후 재적재 전에는 ready=false → 호출측이 DB 경로로 폴백
+ */
+@Slf4j
+@Component
+public class ShareGeoIndex {
+
+    static final int PRECISION = 6; // 약 1.2km x 0.6km 셀
+
+    /** ST_Distance_Sphere 기본 반경과 동일하게 맞춤 */
+    private static final double EARTH_RADIUS_M = 6_370_986.0;
+
+    public record Hit(ShareSnapshot share, double distanceMeters) {}
+
+    private static final Comparator<Hit> FEED_ORDER = Comparator
+            .comparingDouble(Hit::distanceMeters)
+            .thenComparing((Hit h) -> h.share().regDate(), Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing((Hit h) -> h.share().shareId(), Comparator.reverseOrder());
+
+    @Value("${app.share.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.share.search-radius-km:3.0}")
+    private double searchRadiusKm;
+
+    private final Object writeLock = new Object();
+    private volatile Buckets buckets = new Buckets();
+    private volatile boolean ready = false;
+
+    /** 재적재 중 들어온 변경 (shareId → 최신 스냅샷, 삭제는 null) */
+    private Map<Long, ShareSnapshot> pendingWhileRebuild; // guarded by writeLock
+    /** 재적재 중 들어온 version 없는 수량 변경 (Redis 재고 모드), 로드값 위에 덮어씀 */
+    private Map<Long, Integer> pendingQuantities; // guarded by writeLock
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        return buckets.byId.size();
+    }
+
+    /**
+     * 쓰기
+     * - 스냅샷 version 이 인덱스에 있는 것(또는 품절/삭제로 빠질 때 기록한 것)보다 낮으면 무시
+     */
+    public void upsert(ShareSnapshot snapshot) {
+        synchronized (writeLock) {
+            if (buckets.isStale(snapshot)) return;
+            if (pendingWhileRebuild != null) {
+                pendingWhileRebuild.put(snapshot.shareId(), snapshot);
+                pendingQuantities.remove(snapshot.shareId());
+            }
+            buckets.apply(snapshot);
+        }
+    }
+
+    /**
+     * 수량만 변경
+     * @param version 변경 후 Share.version, null 이면 현재 version 유지 (Redis 재고 모드: DB 반영 전)
+     * @return 인덱스에 있던 Share 면 true
+     */
+    public boolean updateQuantity(Long shareId, int quantity, Long version) {
+        synchronized (writeLock) {
+            ShareSnapshot current = buckets.byId.get(shareId);
+            if (current == null) return false;
+            upsert(current.withQuantity(quantity, (version == null) ? current.version() : version));
+            if (version == null && pendingQuantities != null) pendingQuantities.put(shareId, quantity);
+            return true;
+        }
+    }
+
+    public void remove(Long shareId) {
+        synchronized (writeLock) {
+            if (pendingWhileRebuild != null) pendingWhileRebuild.put(shareId, null);
+            buckets.bury(shareId, Long.MAX_VALUE);
+        }
+    }
+
+    public void removeByStore(Long storeId) {
+        synchronized (writeLock) {
+            List<Long> ids = buckets.byId.values().stream()
+                    .filter(s -> s.storeId().equals(storeId))
+                    .map(ShareSnapshot::shareId)
+                    .toList();
+            ids.forEach(id -> {
+                if (pendingWhileRebuild != null) pendingWhileRebuild.put(id, null);
+                buckets.bury(id, Long.MAX_VALUE);
+            });
+        }
+    }
+
+    /**
+     * 재적재: begin → (DB 로드) → complete
+     * - 로드 중 반영된 변경은 새 버킷에 다시 적용해 유실 방지 (로드값보다 오래된 변경은 무시)
+     * - 주기 재적재(ShareGeoIndexSync.reconcile) 도 같은 경로 → 어긋난 항목 수를 drift 로 기록
+     */
+    public void beginRebuild() {
+        synchronized (writeLock) {
+            pendingWhileRebuild = new LinkedHashMap<>();
+            pendingQuantities = new HashMap<>();
+        }
+    }
+
+    public void completeRebuild(Collection<ShareSnapshot> loaded) {
+        Buckets fresh = new Buckets();
+        loaded.forEach(fresh::apply);
+
+        int drift;
+        synchronized (writeLock) {
+            if (pendingWhileRebuild != null) {
+                pendingWhileRebuild.forEach((id, s) -> {
+                    if (s == null) fresh.bury(id, Long.MAX_VALUE);
+                    else if (!fresh.isStale(s)) fresh.apply(s);
+                });
+                pendingQuantities.forEach((id, q) -> {
+                    ShareSnapshot loadedOne = fresh.byId.get(id);
+                    if (loadedOne != null) fresh.apply(loadedOne.withQuantity(q));
+                });
+            }
+            drift = ready ? countDrift(buckets, fresh) : 0;
+            pendingWhileRebuild = null;
+            pendingQuantities = null;
+            buckets = fresh;
+            ready = true;
+        }
+        if (drift > 0) log.warn("[ShareGeoIndex] 재적재 완료 size={} drift={}", fresh.byId.size(), drift);
+        else log.info("[ShareGeoIndex] 재적재 완료 size={}", fresh.byId.size());
+    }
+
+    public void abortRebuild() {
+        synchronized (writeLock) {
+            pendingWhileRebuild = null;
+            pendingQuantities = null;
+        }
+    }
+
+    /** 기존 인덱스와 DB 재적재 결과가 다른 Share 수 (노출 여부 또는 수량) */
+    private static int countDrift(Buckets before, Buckets after) {
+        int drift = 0;
+        for (var e : after.byId.entrySet()) {
+            ShareSnapshot old = before.byId.get(e.getKey());
+            if (old == null || old.quantity() != e.getValue().quantity()) drift++;
+        }
+        for (Long id : before.byId.keySet()) {
+            if (!after.byId.containsKey(id)) drift++;
+        }
+        return drift;
+    }
+
+    /**
+     * 읽기
+     */
+    public Page<Hit> findActiveByDong(String dong, double oLat, double oLng, Long originStoreId,
+                                      LocalDate today, Pageable pageable) {
+        List<Hit> hits = nearest(dong, oLat, oLng, originStoreId, today);
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        return new PageImpl<>(hits.subList(from, to), pageable, hits.size());
+    }
+
+    public CursorSlice<Hit> findActiveByDongAfter(String dong, double oLat, double oLng, Long originStoreId,
+                                                  LocalDate today, ShareDongCursor cursor, int size) {
+        List<Hit> hits = nearest(dong, oLat, oLng, originStoreId, today);
+
+        int from = 0;
+        if (cursor != null) {
+            if (cursor.distanceMeters() == null) {
+                throw new CustomException(GlobalErrorCode.BAD_REQUEST, "커서가 현재 정렬 기준과 맞지 않습니다.");
+            }
+            while (from < hits.size() && !isAfter(hits.get(from), cursor)) from++;
+        }
+
+        int to = Math.min(from + size, hits.size());
+        boolean hasNext = to < hits.size();
+        List<Hit> content = List.copyOf(hits.subList(from, to));
+
+        String nextCursor = null;
+        if (hasNext) {
+            Hit last = content.get(content.size() - 1);
+            nextCursor = new ShareDongCursor(last.distanceMeters(), last.share().regDate(), last.share().shareId()).encode();
+        }
+        return new CursorSlice<>(content, size, hasNext, nextCursor);
+    }
+
+    /**
+     * dong 안에서 픽업 시간대가 [open, close] 와 겹치는 진행중 shareId
+     * - 인덱스 준비 전이면 empty → 호출측이 SQL 조건으로 폴백
+     */
+    public Optional<Set<Long>> sharesOverlapping(String dong, LocalTime open, LocalTime close) {
+        if (!isReady()) return Optional.empty();
+        return Optional.of(buckets.windows.overlapping(dong, TimeWindow.of(open, close)));
+    }
+
+    /** 반경 사각형을 덮는 셀만 훑고, 정확한 거리로 필터/정렬 */
+    private List<Hit> nearest(String dong, double oLat, double oLng, Long originStoreId, LocalDate today) {
+        var cellsOfDong = buckets.byDongCell.get(dong);
+        if (cellsOfDong == null) return List.of();
+
+        BoundingBox box = BoundingBox.around(oLat, oLng, searchRadiusKm);
+        List<Hit> hits = new ArrayList<>();
+        for (String cell : Geohash.covering(box, PRECISION)) {
+            var inCell = cellsOfDong.get(cell);
+            if (inCell == null) continue;
+
+            for (ShareSnapshot s : inCell.values()) {
+                if (s.storeId().equals(originStoreId) || !s.isActiveOn(today)) continue;
+                if (!contains(box, s.latitude(), s.longitude())) continue;
+                hits.add(new Hit(s, distanceMeters(oLat, oLng, s.latitude(), s.longitude())));
+            }
+        }
+        hits.sort(FEED_ORDER);
+        return hits;
+    }
+
+    private static boolean isAfter(Hit h, ShareDongCursor c) {
+        int byDist = Double.compare(h.distanceMeters(), c.distanceMeters());
+        if (byDist != 0) return byDist > 0;
+        int byTime = h.share().regDate().compareTo(c.regDate());
+        if (byTime != 0) return byTime < 0;
+        return h.share().shareId() < c.id();
+    }
+
+    private static boolean contains(BoundingBox b, double lat, double lng) {
+        return lat >= b.minLat() && lat <= b.maxLat() && lng >= b.minLng() && lng <= b.maxLng();
+    }
+
+    private static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 버킷 (byId 는 이동/삭제 시 이전 셀을 찾기 위함, goneVersion 은 품절/삭제로 빠진 Share 의 마지막 version)
+     */
+    private static final class Buckets {
+        final Map<Long, ShareSnapshot> byId = new ConcurrentHashMap<>();
+        final Map<String, Map<String, Map<Long, ShareSnapshot>>> byDongCell = new ConcurrentHashMap<>();
+        final PickupWindowIndex windows = new PickupWindowIndex();
+        final Map<Long, Long> goneVersion = new HashMap<>();
+
+        boolean isStale(ShareSnapshot s) {
+            ShareSnapshot current = byId.get(s.shareId());
+            long known = (current != null) ? current.version() : goneVersion.getOrDefault(s.shareId(), Long.MIN_VALUE);
+            return s.version() < known;
+        }
+
+        /** 재고가 있으면 적재, 없으면 version 을 남기고 제거 */
+        void apply(ShareSnapshot s) {
+            if (s.quantity() > 0) put(s);
+            else bury(s.shareId(), s.version());
+        }
+
+        void put(ShareSnapshot s) {
+            detach(s.shareId());
+            goneVersion.remove(s.shareId());
+            byId.put(s.shareId(), s);
+            if (s.openTime() != null && s.closeTime() != null) {
+                windows.put(s.shareId(), s.dong(), TimeWindow.of(s.openTime(), s.closeTime()));
+            }
+            byDongCell
+                    .computeIfAbsent(s.dong(), k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(Geohash.encode(s.latitude(), s.longitude(), PRECISION), k -> new ConcurrentHashMap<>())
+                    .put(s.shareId(), s);
+        }
+
+        void bury(Long shareId, long version) {
+            detach(shareId);
+            goneVersion.merge(shareId, version, Math::max);
+        }
+
+        void detach(Long shareId) {
+            ShareSnapshot old = byId.remove(shareId);
+            if (old == null) return;
+            windows.remove(shareId);
+
+            var cells = byDongCell.get(old.dong());
+            if (cells == null) return;
+            String cell = Geohash.encode(old.latitude(), old.longitude(), PRECISION);
+            var inCell = cells.get(cell);
+            if (inCell == null) return;
+
+            inCell.remove(shareId);
+            if (inCell.isEmpty()) cells.remove(cell);
+            if (cells.isEmpty()) byDongCell.remove(old.dong());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package likelion.itgoserver.domain.share.index;
+
+import likelion.itgoserver.domain.image.repository.ShareImageRepository;
+import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.share.entity.ShareImage;
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.domain.share.stock.ShareStockCounter;
+import likelion.itgoserver.domain.share.stock.ShareStockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
+
+/**
+ * ShareGeoIndex 동기화
+ * - 스냅샷은 트랜잭션 안에서 만들고, 인덱스 반영은 커밋 이후에만 (롤백 시 무시)
+ * - 커밋된 Share.version 을 함께 실어 보내 늦게 도착한 이전 변경은 인덱스에서 무시
+ * - 기동 완료 시, 이후 주기적으로 DB 에서 전체 재적재 (놓친 변경 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShareGeoIndexSync {
+
+    private static final int IMAGE_BATCH = 1000;
+
+    private final ShareGeoIndex index;
+    private final ShareRepository shareRepository;
+    private final ShareImageRepository shareImageRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ShareStockCounter stockCounter;
+    private final ObjectProvider<ShareStockService> stockService; // 순환 의존 회피
+
+    /** 생성/수정/재고 변경 (version 은 커밋 시 flush 로 올라간 값을 사용) */
+    public void upsert(Share share) {
+        ShareSnapshot snapshot = ShareSnapshot.of(share);
+        afterCommit(() -> index.upsert(snapshot.withVersion(share.getVersion())));
+    }
+
+    /**
+     * 수량만 변경
+     * @param version 변경 후 Share.version, Redis 재고 모드처럼 DB 수량이 나중에 반영되면 null
+     */
+    public void updateQuantity(Long shareId, int quantity, Long version) {
+        afterCommit(() -> applyQuantity(shareId, quantity, version));
+    }
+
+    /** 커밋 이후 콜백 안에서 바로 반영 */
+    public void applyQuantity(Long shareId, int quantity, Long version) {
+        if (index.updateQuantity(shareId, quantity, version) || quantity <= 0) return;
+
+        // 품절로 빠져 있던 Share 가 복구된 경우 → 커밋된 행을 새 트랜잭션에서 다시 읽어 적재
+        readTransaction().executeWithoutResult(status -> shareRepository.findByIdWithStore(shareId)
+                .map(ShareSnapshot::of)
+                .ifPresent(s -> index.upsert((version == null) ? s.withQuantity(quantity) : s)));
+    }
+
+    /** 삭제 */
+    public void remove(Long shareId) {
+        afterCommit(() -> index.remove(shareId));
+    }
+
+    /** 가게 주소(동네/좌표) 변경 → 해당 가게의 Share 전부 재색인 */
+    public void reindexStore(Long storeId) {
+        List<ShareSnapshot> snapshots = snapshotsOf(shareRepository.findAllByStoreIdWithStore(storeId));
+        afterCommit(() -> snapshots.forEach(index::upsert));
+    }
+
+    /** 가게 삭제 */
+    public void removeStore(Long storeId) {
+        afterCommit(() -> index.removeByStore(storeId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        reload();
+    }
+
+    /** 커밋 이후 반영이 유실된 경우(인스턴스 재시작 직전, 예외 등)를 위한 주기 보정 */
+    @Scheduled(initialDelayString = "${app.share.index.reconcile-interval-ms:600000}",
+            fixedDelayString = "${app.share.index.reconcile-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        reload();
+    }
+
+    /**
+     * 내부 유틸
+     */
+    private void reload() {
+        index.beginRebuild();
+        try {
+            List<ShareSnapshot> active = snapshotsOf(shareRepository.findAllActiveWithStore(LocalDate.now()));
+            index.completeRebuild(withCounterQuantities(active));
+        } catch (Exception e) {
+            index.abortRebuild();
+            log.warn("[ShareGeoIndex] 재적재 실패, DB 조회로 동작합니다.", e);
+        }
+    }
+
+    /** Redis 재고 모드면 아직 DB 에 반영되지 않은 카운터 수량을 우선 */
+    private List<ShareSnapshot> withCounterQuantities(List<ShareSnapshot> snapshots) {
+        if (!stockService.getObject().isRedisMode()) return snapshots;
+
+        Map<Long, Long> counted = stockCounter.getAll(snapshots.stream().map(ShareSnapshot::shareId).toList());
+        return snapshots.stream()
+                .map(s -> {
+                    Long q = counted.get(s.shareId());
+                    return (q == null) ? s : s.withQuantity(q.intValue());
+                })
+                .toList();
+    }
+
+    private TransactionTemplate readTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private List<ShareSnapshot> snapshotsOf(List<Share> shares) {
+        List<ShareSnapshot> result = new ArrayList<>(shares.size());
+        for (int from = 0; from < shares.size(); from += IMAGE_BATCH) {
+            List<Share> chunk = shares.subList(from, Math.min(from + IMAGE_BATCH, shares.size()));
+
+            // 대표이미지(seq=0) 배치 조회
+            Map<Long, ShareImage> primaryByShareId = shareImageRepository
+                    .findByShareIdInAndSeq(chunk.stream().map(Share::getId).toList(), 0).stream()
+                    .collect(Collectors.toMap(si -> si.getShare().getId(), si -> si, (a, b) -> a));
+
+            chunk.forEach(s -> result.add(ShareSnapshot.of(s, primaryByShareId.get(s.getId()))));
+        }
+        return result;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                try { action.run(); }
+                catch (Exception e) { log.warn("[ShareGeoIndex] 인덱스 반영 실패", e); }
+            }
+        });
+    }
+}
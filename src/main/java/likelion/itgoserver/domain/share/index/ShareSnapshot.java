@@ -0,0 +1,83 @@
+package likelion.itgoserver.domain.share.index;
+
+import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.share.entity.ShareImage;
+import likelion.itgoserver.domain.share.entity.StorageType;
+import likelion.itgoserver.domain.store.entity.Address;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 동네 피드 응답에 필요한 값만 담은 Share 불변 스냅샷 (인메모리 인덱스 보관용)
+ * @param version 만든 시점의 Share.version (커밋 순서가 뒤집혀 도착해도 오래된 스냅샷은 무시)
+ */
+public record ShareSnapshot(
+        Long shareId,
+        Long storeId,
+        String dong,
+        double latitude,
+        double longitude,
+        String itemName,
+        String brand,
+        int quantity,
+        LocalDate expirationDate,
+        StorageType storageType,
+        LocalTime openTime,
+        LocalTime closeTime,
+        String primaryImageKey,
+        boolean primaryThumbnailReady,
+        LocalDateTime regDate,
+        long version
+) {
+    /** 대표이미지(seq=0) 는 share.images 에서 찾는다 */
+    public static ShareSnapshot of(Share share) {
+        ShareImage primary = share.getImages().stream()
+                .filter(img -> img.getSeq() != null && img.getSeq() == 0)
+                .findFirst()
+                .orElse(null);
+        return of(share, primary);
+    }
+
+    public static ShareSnapshot of(Share share, ShareImage primaryImage) {
+        Address addr = share.getStore().getAddress();
+        return new ShareSnapshot(
+                share.getId(),
+                share.getStore().getId(),
+                addr.getDong(),
+                addr.getLatitude(),
+                addr.getLongitude(),
+                share.getItemName(),
+                share.getBrand(),
+                share.getQuantity() == null ? 0 : share.getQuantity(),
+                share.getExpirationDate(),
+                share.getStorageType(),
+                share.getOpenTime(),
+                share.getCloseTime(),
+                primaryImage == null ? null : primaryImage.getObjectKey(),
+                primaryImage != null && primaryImage.hasThumbnail(),
+                share.getRegDate(),
+                share.getVersion() == null ? 0L : share.getVersion()
+        );
+    }
+
+    public ShareSnapshot withQuantity(int newQuantity) {
+        return withQuantity(newQuantity, version);
+    }
+
+    public ShareSnapshot withVersion(long newVersion) {
+        return withQuantity(quantity, newVersion);
+    }
+
+    public ShareSnapshot withQuantity(int newQuantity, long newVersion) {
+        return new ShareSnapshot(shareId, storeId, dong, latitude, longitude, itemName, brand, newQuantity,
+                expirationDate, storageType, openTime, closeTime, primaryImageKey, primaryThumbnailReady, regDate,
+                newVersion);
+    }
+
+    /** 피드 노출 대상 여부 (재고 > 0, 유통기한 미경과) */
+    public boolean isActiveOn(LocalDate today) {
+        return quantity > 0 && (expirationDate == null || !expirationDate.isBefore(today));
+    }
+}
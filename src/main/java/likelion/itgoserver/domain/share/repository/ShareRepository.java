@@ -6,9 +6,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface ShareRepository extends JpaRepository<Share, Long>, ShareRepositoryCustom {
@@ -18,4 +21,70 @@ public interface ShareRepository extends JpaRepository<Share, Long>, ShareReposi
     Optional<Share> findByIdForUpdate(@Param("id") Long id);
 
     Page<Share> findByStoreId(Long storeId, Pageable pageable);
+
+    @Query("select s from Share s join fetch s.store where s.id = :id")
+    Optional<Share> findByIdWithStore(@Param("id") Long id);
+
+    @Query("select s from Share s join fetch s.store where s.store.id = :storeId")
+    List<Share> findAllByStoreIdWithStore(@Param("storeId") Long storeId);
+
+    @Query("""
+            select s from Share s join fetch s.store
+             where s.quantity > 0 and (s.expirationDate is null or s.expirationDate >= :today)
+            """)
+    List<Share> findAllActiveWithStore(@Param("today") LocalDate today);
+
+    @Query("select s.store.owner.id from Share s where s.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
+
+    @Query("select s.quantity from Share s where s.id = :id")
+    Optional<Integer> findQuantityById(@Param("id") Long id);
+
+    interface ShareStock {
+        Integer getQuantity();
+        Long getVersion();
+    }
+
+    /** 원자 갱신 직후 수량과 version (인덱스 반영 순서 보정용) */
+    @Query("select s.quantity as quantity, s.version as version from Share s where s.id = :id")
+    Optional<ShareStock> findStockById(@Param("id") Long id);
+
+    /**
+     * Redis 재고 → DB 반영 (영속성 컨텍스트 우회)
+     * - REDIS 모드에서 DB 수량은 카운터의 사본 → version 을 올리지 않음 (주기 반영이 소유자 수정과 충돌하지 않도록)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Share s set s.quantity = :quantity where s.id = :id")
+    int updateQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 재고가 충분할 때만 차감 (선조회 잠금 없이 UPDATE 시점부터 행 잠금)
+     * @return 0 이면 재고 부족 또는 없는 Share
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Share s set s.quantity = s.quantity - :amount, s.version = s.version + 1
+             where s.id = :id and s.quantity >= :amount
+            """)
+    int decreaseQuantityIfEnough(@Param("id") Long id, @Param("amount") int amount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Share s set s.quantity = s.quantity + :amount, s.version = s.version + 1 where s.id = :id")
+    int increaseQuantity(@Param("id") Long id, @Param("amount") int amount);
+
+    interface ShareQuantity {
+        Long getId();
+        Integer getQuantity();
+    }
+
+    @Query("""
+            select s.id as id, s.quantity as quantity from Share s
+             where s.expirationDate is null or s.expirationDate >= :today
+            """)
+    List<ShareQuantity> findActiveQuantities(@Param("today") LocalDate today);
+
+    @Query("select s from Share s where s.id > :afterId and s.itemTokens is empty order by s.id asc")
+    List<Share> findWithoutItemTokens(@Param("afterId") Long afterId, Pageable pageable);
+
+    List<Share> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
\ No newline at end of file
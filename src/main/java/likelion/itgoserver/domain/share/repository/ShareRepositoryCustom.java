@@ -1,13 +1,24 @@
 package likelion.itgoserver.domain.share.repository;
 
+import likelion.itgoserver.domain.share.dto.ShareDongCursor;
 import likelion.itgoserver.domain.share.dto.ShareWithDistance;
+import likelion.itgoserver.domain.wish.entity.Wish;
+import likelion.itgoserver.global.response.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
+import java.util.Collection;
 
 public interface ShareRepositoryCustom {
-    Page<ShareWithDistance> findMatchesForWish(Long wishId, Pageable pageable);
+    /**
+     * Wish 조건에 맞는 Share (토큰 점수, 거리, 최신순)
+     * @param windowShareIds 픽업 시간대가 겹치는 후보 shareId (인메모리 인덱스), null 이면 SQL 시간대 조건
+     */
+    Slice<ShareWithDistance> findMatchesForWish(Wish wish, Collection<Long> windowShareIds, Pageable pageable);
+
+    long countMatchesForWish(Wish wish, Collection<Long> windowShareIds);
 
     Page<ShareWithDistance> findActiveByDong(
             String dong,
@@ -17,4 +28,14 @@ public interface ShareRepositoryCustom {
             LocalDate today,
             Pageable pageable
     );
+
+    CursorSlice<ShareWithDistance> findActiveByDongAfter(
+            String dong,
+            Double originLat,
+            Double originLng,
+            Long originStoreId,
+            LocalDate today,
+            ShareDongCursor cursor,
+            int size
+    );
 }
\ No newline at end of file
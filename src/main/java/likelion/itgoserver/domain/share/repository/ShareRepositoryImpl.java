@@ -2,25 +2,43 @@ package likelion.itgoserver.domain.share.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
-import com.querydsl.core.types.dsl.TimePath;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import jakarta.persistence.EntityManager;
+import likelion.itgoserver.domain.share.dto.ShareDongCursor;
 import likelion.itgoserver.domain.share.dto.ShareWithDistance;
+import likelion.itgoserver.domain.share.entity.QShare;
+import likelion.itgoserver.domain.share.entity.Share;
 import likelion.itgoserver.domain.wish.entity.Wish;
+import likelion.itgoserver.global.error.GlobalErrorCode;
+import likelion.itgoserver.global.error.exception.CustomException;
+import likelion.itgoserver.global.response.CursorSlice;
+import likelion.itgoserver.global.support.geo.BoundingBox;
+import likelion.itgoserver.global.support.geo.GeoExpressions;
+import likelion.itgoserver.global.support.text.ItemNameNormalizer;
+import likelion.itgoserver.global.support.time.TimeWindow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static likelion.itgoserver.domain.share.entity.QShare.share;
 import static likelion.itgoserver.domain.store.entity.QStore.store;
@@ -30,29 +48,17 @@ import static likelion.itgoserver.domain.store.entity.QStore.store;
 public class ShareRepositoryImpl implements ShareRepositoryCustom {
 
     private final JPAQueryFactory query;
-    private final EntityManager em;
 
-    @Override
-    public Page<ShareWithDistance> findMatchesForWish(Long wishId, Pageable pageable) {
-        Wish w = em.find(Wish.class, wishId);
-        if (w == null || !w.isActive()) return Page.empty(pageable);
+    @Value("${app.share.search-radius-km:3.0}")
+    private double searchRadiusKm;
 
-        BooleanBuilder where = new BooleanBuilder()
-                .and(share.store.address.dong.eq(w.getStore().getAddress().getDong()))
-                .and(share.itemName.eq(w.getItemName()))
-                .and(share.quantity.goe(w.getQuantity()))
-                .and(share.quantity.gt(0))
-                .and(share.expirationDate.goe(LocalDate.now()))
-                .and(overlap(share.openTime, share.closeTime, w.getOpenTime(), w.getCloseTime()));
+    @Value("${app.match.min-token-score:0.5}")
+    private double minTokenScore;
 
-        // 총 개수
-        Long totalBoxed = query.select(share.count())
-                .from(share).join(share.store, store)
-                .where(where)
-                .fetchOne();
-
-        long total = (totalBoxed == null) ? 0L : totalBoxed;
-        if (total == 0L) return Page.empty(pageable);
+    @Override
+    public Slice<ShareWithDistance> findMatchesForWish(Wish w, Collection<Long> windowShareIds, Pageable pageable) {
+        MatchCriteria c = matchCriteria(w, windowShareIds);
+        if (c == null) return new SliceImpl<>(List.of(), pageable, false);
 
         // 거리 계산 → 선택 컬럼으로 함께 조회
         NumberExpression<Double> distMeters = Expressions.numberTemplate(
@@ -62,27 +68,58 @@ public class ShareRepositoryImpl implements ShareRepositoryCustom {
                 w.getStore().getAddress().getLongitude(), w.getStore().getAddress().getLatitude()
         );
 
-        JPAQuery<Tuple> base = query
-                .select(share, distMeters)
-                .from(share)
-                .join(share.store, store).fetchJoin()
-                .where(where)
-                .orderBy(distMeters.asc(), share.regDate.desc()); // 가까운 순 + 최신순
+        // 토큰 테이블과 한 번 조인 + share 별 GROUP BY 로 점수 계산 (상관 서브쿼리 없음)
+        StringPath token = Expressions.stringPath("matchToken");
+        NumberExpression<Long> matched = token.count();
 
-        List<Tuple> tuples = base
+        // pageSize + 1 건 조회로 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+        List<Tuple> tuples = query
+                .select(share.id, distMeters)
+                .from(share)
+                .join(share.store, store)
+                .join(share.itemTokens, token)
+                .where(c.where(), token.in(c.tokens()))
+                .groupBy(share.id, store.id)
+                .having(matched.goe(c.minMatched()))
+                .orderBy(matched.desc(), distMeters.asc(), share.regDate.desc()) // 토큰 점수 + 가까운 순 + 최신순
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.getPageSize() + 1L)
                 .fetch();
 
-        List<ShareWithDistance> content = tuples.stream()
+        boolean hasNext = tuples.size() > pageable.getPageSize();
+        List<Tuple> page = tuples.stream().limit(pageable.getPageSize()).toList();
+        if (page.isEmpty()) return new SliceImpl<>(List.of(), pageable, false);
+
+        // 페이지에 든 Share 만 가게와 함께 로딩
+        Map<Long, Share> shareById = query
+                .selectFrom(share)
+                .join(share.store, store).fetchJoin()
+                .where(share.id.in(page.stream().map(t -> t.get(share.id)).toList()))
+                .fetch().stream()
+                .collect(Collectors.toMap(Share::getId, Function.identity()));
+
+        List<ShareWithDistance> content = page.stream()
+                .filter(t -> shareById.containsKey(t.get(share.id)))
                 .map(t -> new ShareWithDistance(
-                        t.get(share),
+                        shareById.get(t.get(share.id)),
                         // m → km 변환
                         t.get(distMeters) == null ? null : t.get(distMeters) / 1000.0
                 ))
                 .toList();
 
-        return new PageImpl<>(content, pageable, total);
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public long countMatchesForWish(Wish w, Collection<Long> windowShareIds) {
+        MatchCriteria c = matchCriteria(w, windowShareIds);
+        if (c == null) return 0L;
+
+        Long total = query.select(share.count())
+                .from(share).join(share.store, store)
+                .where(c.where(), share.id.in(sharesMatchingTokens(c.tokens(), c.minMatched())))
+                .fetchOne();
+        return (total == null) ? 0L : total;
     }
 
     @Override
@@ -90,29 +127,11 @@ public class ShareRepositoryImpl implements ShareRepositoryCustom {
             String dong, Double oLat, Double oLng, Long originStoreId,
             LocalDate today, Pageable pageable) {
 
-        var where = new BooleanBuilder()
-                .and(share.store.address.dong.eq(dong))
-                .and(share.quantity.gt(0))
-                .and(share.expirationDate.isNull().or(share.expirationDate.goe(today)))
-                .and(share.store.id.ne(originStoreId));
-
-        NumberExpression<Double> distMeters = (oLat != null && oLng != null)
-                ? Expressions.numberTemplate(
-                Double.class,
-                "ST_Distance_Sphere(point({0}, {1}), point({2}, {3}))",
-                share.store.address.longitude, share.store.address.latitude,
-                Expressions.constant(oLng), Expressions.constant(oLat)
-        )
-                : null;
+        var where = activeByDong(dong, oLat, oLng, originStoreId, today);
+        NumberExpression<Double> distMeters = distanceFrom(oLat, oLng);
 
         // dist 정렬 가능하면 거리, 최신순, 아니면 최신순
-        var order = (distMeters != null)
-                ? new com.querydsl.core.types.OrderSpecifier[] {
-                distMeters.asc(), share.regDate.desc(), share.id.desc()
-        }
-                : new com.querydsl.core.types.OrderSpecifier[] {
-                share.regDate.desc(), share.id.desc()
-        };
+        var order = dongFeedOrder(distMeters);
 
         // content
         List<ShareWithDistance> content;
@@ -158,11 +177,152 @@ public class ShareRepositoryImpl implements ShareRepositoryCustom {
         });
     }
 
-    private BooleanExpression overlap(TimePath<LocalTime> aStart,
-                                      TimePath<LocalTime> aEnd,
-                                      LocalTime bStart,
-                                      LocalTime bEnd) {
-        // 당일 범위 전제: [aStart, aEnd] ∩ [bStart, bEnd] ≠ ∅  ⇔ aStart ≤ bEnd && aEnd ≥ bStart
-        return aStart.loe(bEnd).and(aEnd.goe(bStart));
+    @Override
+    public CursorSlice<ShareWithDistance> findActiveByDongAfter(
+            String dong, Double oLat, Double oLng, Long originStoreId,
+            LocalDate today, ShareDongCursor cursor, int size) {
+
+        var where = activeByDong(dong, oLat, oLng, originStoreId, today);
+        NumberExpression<Double> distMeters = distanceFrom(oLat, oLng);
+
+        // 커서 이후 행만 seek (offset 없이 정렬 키 비교)
+        if (cursor != null) {
+            where.and(seekAfter(cursor, distMeters));
+        }
+
+        // size + 1 건 조회로 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+        List<ShareWithDistance> content = new ArrayList<>(size + 1);
+        List<Double> metersList = new ArrayList<>(size + 1);
+        if (distMeters != null) {
+            var tuples = query
+                    .select(share, distMeters)
+                    .from(share)
+                    .join(share.store, store).fetchJoin()
+                    .where(where)
+                    .orderBy(dongFeedOrder(distMeters))
+                    .limit(size + 1L)
+                    .fetch();
+
+            for (Tuple t : tuples) {
+                Double meters = t.get(distMeters);
+                content.add(new ShareWithDistance(t.get(share), meters == null ? null : meters / 1000.0));
+                metersList.add(meters);
+            }
+        } else {
+            var rows = query
+                    .selectFrom(share)
+                    .join(share.store, store).fetchJoin()
+                    .where(where)
+                    .orderBy(dongFeedOrder(null))
+                    .limit(size + 1L)
+                    .fetch();
+
+            for (var s : rows) {
+                content.add(new ShareWithDistance(s, null));
+                metersList.add(null);
+            }
+        }
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            var last = content.get(content.size() - 1).share();
+            nextCursor = new ShareDongCursor(metersList.get(content.size() - 1), last.getRegDate(), last.getId()).encode();
+        }
+        return new CursorSlice<>(List.copyOf(content), size, hasNext, nextCursor);
+    }
+
+    /**
+     * 내부 유틸
+     */
+    private BooleanBuilder activeByDong(String dong, Double oLat, Double oLng, Long originStoreId, LocalDate today) {
+        return new BooleanBuilder()
+                .and(share.store.address.dong.eq(dong))
+                .and(share.quantity.gt(0))
+                .and(share.expirationDate.isNull().or(share.expirationDate.goe(today)))
+                .and(share.store.id.ne(originStoreId))
+                .and(withinRadiusBox(oLat, oLng));
+    }
+
+    /** where: 토큰 외 조건, 토큰은 호출측에서 조인(목록) 또는 IN 서브쿼리(개수)로 적용 */
+    private record MatchCriteria(BooleanBuilder where, Set<String> tokens, long minMatched) {}
+
+    /**
+     * Wish 기준 매칭 조건 (매칭 불가능이 확실하면 null)
+     * @param windowShareIds 픽업 시간대가 겹치는 후보 shareId, null 이면 SQL 시간대 조건
+     */
+    private MatchCriteria matchCriteria(Wish w, Collection<Long> windowShareIds) {
+        if (w == null || !w.isActive()) return null;
+
+        // 품목명 → 정규화 토큰, 일정 비율 이상 겹치는 Share 만
+        Set<String> tokens = ItemNameNormalizer.tokens(w.getItemName());
+        if (tokens.isEmpty()) return null;
+        long minMatched = Math.max(1L, (long) Math.ceil(tokens.size() * minTokenScore));
+
+        // 픽업 시간대: 후보 id 가 주어지면 IN, 아니면 SQL 조건
+        if (windowShareIds != null && windowShareIds.isEmpty()) return null;
+        BooleanExpression windowMatch = (windowShareIds != null)
+                ? share.id.in(windowShareIds)
+                : TimeWindow.of(w.getOpenTime(), w.getCloseTime()).overlapPredicate(share.openTime, share.closeTime);
+
+        String dong = w.getStore().getAddress().getDong();
+
+        BooleanBuilder where = new BooleanBuilder()
+                .and(share.store.address.dong.eq(dong))
+                .and(share.quantity.goe(w.getQuantity()))
+                .and(share.quantity.gt(0))
+                .and(share.expirationDate.goe(LocalDate.now()))
+                .and(windowMatch)
+                .and(withinRadiusBox(w.getStore().getAddress().getLatitude(), w.getStore().getAddress().getLongitude()));
+        return new MatchCriteria(where, tokens, minMatched);
+    }
+
+    /** share_item_token (token, share_id) 인덱스에서 minMatched 개 이상 겹치는 Share (비상관, 1회 실행) */
+    private JPQLQuery<Long> sharesMatchingTokens(Set<String> tokens, long minMatched) {
+        QShare s = new QShare("tokenShare");
+        StringPath token = Expressions.stringPath("token");
+        return JPAExpressions.select(s.id)
+                .from(s)
+                .join(s.itemTokens, token)
+                .where(token.in(tokens))
+                .groupBy(s.id)
+                .having(token.count().goe(minMatched));
+    }
+
+    /**
+     * 기준점 반경 사각형 안의 가게만 (store.location SPATIAL INDEX 사용)
+     * - 정확한 거리는 이후 ST_Distance_Sphere 로 계산/정렬
+     */
+    private BooleanExpression withinRadiusBox(Double oLat, Double oLng) {
+        if (oLat == null || oLng == null) return null;
+        return GeoExpressions.mbrContains(BoundingBox.around(oLat, oLng, searchRadiusKm), share.store.address.location);
+    }
+
+    private NumberExpression<Double> distanceFrom(Double oLat, Double oLng) {
+        if (oLat == null || oLng == null) return null;
+        return GeoExpressions.distanceSphere(share.store.address.latitude, share.store.address.longitude, oLat, oLng);
+    }
+
+    private OrderSpecifier<?>[] dongFeedOrder(NumberExpression<Double> distMeters) {
+        return (distMeters != null)
+                ? new OrderSpecifier<?>[] { distMeters.asc(), share.regDate.desc(), share.id.desc() }
+                : new OrderSpecifier<?>[] { share.regDate.desc(), share.id.desc() };
+    }
+
+    /** 정렬 (거리 ASC, regDate DESC, id DESC) 기준 커서 다음 행 조건 */
+    private BooleanExpression seekAfter(ShareDongCursor c, NumberExpression<Double> distMeters) {
+        BooleanExpression afterTime = share.regDate.lt(c.regDate())
+                .or(share.regDate.eq(c.regDate()).and(share.id.lt(c.id())));
+
+        if (distMeters == null) return afterTime;
+        if (c.distanceMeters() == null) {
+            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "커서가 현재 정렬 기준과 맞지 않습니다.");
+        }
+        return distMeters.gt(c.distanceMeters())
+                .or(distMeters.eq(c.distanceMeters()).and(afterTime));
     }
-}
\ No newline at end of file
+}
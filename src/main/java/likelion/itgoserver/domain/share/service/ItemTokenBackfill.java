@@ -0,0 +1,88 @@
+package likelion.itgoserver.domain.share.service;
+
+import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.domain.wish.entity.Wish;
+import likelion.itgoserver.domain.wish.repository.WishRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 토큰 컬럼 도입 이전에 저장된 Share/Wish 의 품목 토큰 채우기 (기동 시 1회, 배치 단위 커밋)
+ * - 토큰 규칙이 바뀐 배포에서는 app.match.token-backfill.refresh-all=true 로 한 번 전체 재생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemTokenBackfill {
+
+    private static final int BATCH = 500;
+
+    private final ShareRepository shareRepository;
+    private final WishRepository wishRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.match.token-backfill.refresh-all:false}")
+    private boolean refreshAll;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int shares = backfillShares();
+            int wishes = backfillWishes();
+            if (shares + wishes > 0) {
+                log.info("[ItemToken] backfill shares={} wishes={}", shares, wishes);
+            }
+        } catch (Exception e) {
+            log.warn("[ItemToken] backfill 실패", e);
+        }
+    }
+
+    private int backfillShares() {
+        int total = 0;
+        long after = 0L;
+        while (true) {
+            final long from = after;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Share> batch = refreshAll
+                        ? shareRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, BATCH))
+                        : shareRepository.findWithoutItemTokens(from, PageRequest.of(0, BATCH));
+                batch.forEach(Share::refreshItemTokens);
+                return batch.stream().map(Share::getId).toList();
+            });
+            if (ids == null || ids.isEmpty()) return total;
+
+            total += ids.size();
+            after = ids.get(ids.size() - 1);
+            if (ids.size() < BATCH) return total;
+        }
+    }
+
+    private int backfillWishes() {
+        int total = 0;
+        long after = 0L;
+        while (true) {
+            final long from = after;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Wish> batch = refreshAll
+                        ? wishRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, BATCH))
+                        : wishRepository.findWithoutItemTokens(from, PageRequest.of(0, BATCH));
+                batch.forEach(Wish::refreshItemTokens);
+                return batch.stream().map(Wish::getId).toList();
+            });
+            if (ids == null || ids.isEmpty()) return total;
+
+            total += ids.size();
+            after = ids.get(ids.size() - 1);
+            if (ids.size() < BATCH) return total;
+        }
+    }
+}
@@ -7,24 +7,32 @@ import likelion.itgoserver.domain.image.repository.ShareImageRepository;
 import likelion.itgoserver.domain.image.service.ShareImageService;
 import likelion.itgoserver.domain.share.dto.*;
 import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.share.event.ShareSavedEvent;
 import likelion.itgoserver.domain.share.entity.ShareImage;
+import likelion.itgoserver.domain.share.index.ShareGeoIndex;
+import likelion.itgoserver.domain.share.index.ShareGeoIndexSync;
+import likelion.itgoserver.domain.share.stock.ShareStockService;
 import likelion.itgoserver.domain.share.repository.ShareRepository;
 import likelion.itgoserver.domain.store.entity.Address;
 import likelion.itgoserver.domain.store.entity.Store;
 import likelion.itgoserver.domain.store.repository.StoreRepository;
+import likelion.itgoserver.domain.wish.repository.WishMatchRepository;
 import likelion.itgoserver.global.error.GlobalErrorCode;
 import likelion.itgoserver.global.error.exception.CustomException;
+import likelion.itgoserver.global.infra.image.ThumbnailKeys;
 import likelion.itgoserver.global.infra.s3.service.PublicUrlResolver;
-import likelion.itgoserver.global.infra.s3.service.S3ImageService;
+import likelion.itgoserver.global.infra.s3.cleanup.S3CleanupQueue;
+import likelion.itgoserver.global.response.CursorSlice;
+import likelion.itgoserver.global.support.tx.TransactionRetryExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
 
 import java.time.LocalDate;
 import java.util.Comparator;
@@ -33,7 +41,6 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.springframework.data.domain.Sort.Order.desc;
-import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
 
 @Slf4j
 @Service
@@ -44,9 +51,15 @@ public class ShareService {
     private final StoreRepository storeRepository;
     private final PublicUrlResolver publicUrlResolver;
     private final ShareImageService shareImageService;
-    private final S3ImageService s3ImageService;
+    private final S3CleanupQueue s3CleanupQueue;
     private final ShareImageRepository shareImageRepository;
     private final ClaimRepository claimRepository;
+    private final ShareGeoIndex shareGeoIndex;
+    private final ShareGeoIndexSync shareGeoIndexSync;
+    private final ShareStockService shareStockService;
+    private final WishMatchRepository wishMatchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionRetryExecutor transactionRetryExecutor;
 
     @Transactional
     public ShareResponse create(Long memberId, ShareUpsertRequest req) {
@@ -77,6 +90,9 @@ public class ShareService {
         if (req.images() != null && !req.images().isEmpty()) {
             shareImageService.commitFromDraft(memberId, saved, req.images());
         }
+        shareGeoIndexSync.upsert(saved);
+        shareStockService.onQuantitySet(saved.getId(), saved.getQuantity());
+        eventPublisher.publishEvent(new ShareSavedEvent(saved.getId()));
 
         // 응답 변환 (이미지 비어있거나, 추후 confirm 후 재조회 시 포함)
         return toResponse(saved);
@@ -113,7 +129,7 @@ public class ShareService {
                 .sorted(Comparator.comparingInt(ShareImage::getSeq))
                 .collect(Collectors.toMap(
                         si -> si.getShare().getId(),
-                        si -> publicUrlResolver.toUrl(si.getObjectKey()),
+                        si -> publicUrlResolver.toThumbnailUrl(si.getObjectKey(), ThumbnailKeys.MEDIUM, si.hasThumbnail()),
                         (a, b) -> a
                 ));
 
@@ -150,6 +166,17 @@ public class ShareService {
 
         Address addr = myStore.getAddress();
 
+        // 인메모리 인덱스 우선, 준비 전이거나 좌표가 없으면 DB
+        if (shareGeoIndex.isReady() && addr.getLatitude() != null && addr.getLongitude() != null) {
+            return shareGeoIndex.findActiveByDong(
+                    addr.getDong(),
+                    addr.getLatitude(), addr.getLongitude(),
+                    myStore.getId(),
+                    LocalDate.now(),
+                    pageable
+            ).map(this::toByDongResponse);
+        }
+
         var page = shareRepository.findActiveByDong(
                 addr.getDong(),
                 addr.getLatitude(), addr.getLongitude(),
@@ -159,48 +186,112 @@ public class ShareService {
         );
         if (page.isEmpty()) return Page.empty(pageable);
 
-        // 이번 페이지의 shareIds
-        var shareIds = page.getContent().stream()
+        var primaryUrlByShareId = primaryUrlsOf(page.getContent());
+        return page.map(swd -> toByDongResponse(swd, primaryUrlByShareId));
+    }
+
+    /**
+     * 같은 동네 한정 Share 리스트 조회 (커서 기반)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ShareByDongResponse> getByDongCursor(Long memberId, String cursor, int size) {
+        Store myStore = storeRepository.findByOwnerId(memberId)
+                .orElseThrow(() -> new CustomException(GlobalErrorCode.NOT_FOUND, "회원의 가게가 없습니다."));
+
+        Address addr = myStore.getAddress();
+
+        if (shareGeoIndex.isReady() && addr.getLatitude() != null && addr.getLongitude() != null) {
+            return shareGeoIndex.findActiveByDongAfter(
+                    addr.getDong(),
+                    addr.getLatitude(), addr.getLongitude(),
+                    myStore.getId(),
+                    LocalDate.now(),
+                    ShareDongCursor.decode(cursor),
+                    size
+            ).map(this::toByDongResponse);
+        }
+
+        var slice = shareRepository.findActiveByDongAfter(
+                addr.getDong(),
+                addr.getLatitude(), addr.getLongitude(),
+                myStore.getId(),
+                LocalDate.now(),
+                ShareDongCursor.decode(cursor),
+                size
+        );
+        if (slice.content().isEmpty()) return CursorSlice.empty(size);
+
+        var primaryUrlByShareId = primaryUrlsOf(slice.content());
+        return slice.map(swd -> toByDongResponse(swd, primaryUrlByShareId));
+    }
+
+    /** 대표이미지(seq=0) 배치 조회 → URL 맵 */
+    private Map<Long, String> primaryUrlsOf(List<ShareWithDistance> rows) {
+        var shareIds = rows.stream()
                 .map(swd -> swd.share().getId())
                 .toList();
 
-        // 대표이미지(seq=0) 배치 조회 → URL 맵
-        var primaryUrlByShareId = shareImageRepository.findByShareIdInAndSeq(shareIds, 0).stream()
+        return shareImageRepository.findByShareIdInAndSeq(shareIds, 0).stream()
                 .collect(Collectors.toMap(
                         si -> si.getShare().getId(),
-                        si -> publicUrlResolver.toUrl(si.getObjectKey()),
+                        si -> publicUrlResolver.toThumbnailUrl(si.getObjectKey(), ThumbnailKeys.MEDIUM, si.hasThumbnail()),
                         (a, b) -> a
                 ));
+    }
 
-        return page.map(swd -> {
-            var s = swd.share();
-            var url = primaryUrlByShareId.get(s.getId());
-            Double km = swd.distanceKm() == null ? null :
-                    Math.round(swd.distanceKm() * 10.0) / 10.0;
-
-            return new ShareByDongResponse(
-                    s.getId(),
-                    s.getItemName(),
-                    s.getBrand(),
-                    s.getQuantity(),
-                    s.getExpirationDate(),
-                    s.getStorageType(),
-                    s.getOpenTime(),
-                    s.getCloseTime(),
-                    url,
-                    km,
-                    s.getRegDate()
-            );
-        });
+    private ShareByDongResponse toByDongResponse(ShareGeoIndex.Hit hit) {
+        var s = hit.share();
+        Double km = Math.round(hit.distanceMeters() / 100.0) / 10.0;
+
+        return new ShareByDongResponse(
+                s.shareId(),
+                s.itemName(),
+                s.brand(),
+                s.quantity(),
+                s.expirationDate(),
+                s.storageType(),
+                s.openTime(),
+                s.closeTime(),
+                publicUrlResolver.toThumbnailUrl(s.primaryImageKey(), ThumbnailKeys.MEDIUM, s.primaryThumbnailReady()),
+                km,
+                s.regDate()
+        );
     }
 
-    @Transactional
+    private ShareByDongResponse toByDongResponse(ShareWithDistance swd, Map<Long, String> primaryUrlByShareId) {
+        var s = swd.share();
+        var url = primaryUrlByShareId.get(s.getId());
+        Double km = swd.distanceKm() == null ? null :
+                Math.round(swd.distanceKm() * 10.0) / 10.0;
+
+        return new ShareByDongResponse(
+                s.getId(),
+                s.getItemName(),
+                s.getBrand(),
+                s.getQuantity(),
+                s.getExpirationDate(),
+                s.getStorageType(),
+                s.getOpenTime(),
+                s.getCloseTime(),
+                url,
+                km,
+                s.getRegDate()
+        );
+    }
+
+    /**
+     * 수정
+     * - PESSIMISTIC 외 방식은 버전 검사 → 수락/취소와 겹쳐 충돌하면 트랜잭션 단위로 재시도
+     *   (롤백된 시도의 복사본은 ShareImageService 가 정리)
+     */
     public ShareResponse update(Long memberId, Long shareId, ShareUpsertRequest req) {
         validateBusinessRules(req);
+        return transactionRetryExecutor.execute("share.update", () -> updateOnce(memberId, shareId, req));
+    }
 
-        // 소유자/엔티티 검증 + 잠금
-        Share share = shareRepository.findByIdForUpdate(shareId)
-                .orElseThrow(() -> new CustomException(GlobalErrorCode.NOT_FOUND, "share가 존재하지 않습니다. id=" + shareId));
+    private ShareResponse updateOnce(Long memberId, Long shareId, ShareUpsertRequest req) {
+        // 소유자/엔티티 검증 + 잠금(PESSIMISTIC) 또는 버전 검사(그 외)
+        Share share = shareStockService.loadForWrite(shareId);
         Long ownerId = share.getStore().getOwner().getId();
         if (!ownerId.equals(memberId)) {
             throw new CustomException(GlobalErrorCode.INVALID_PERMISSION, "본인 가게의 게시글만 수정할 수 있습니다.");
@@ -216,6 +307,9 @@ public class ShareService {
         if (req.images() != null) {
             shareImageService.commitFromDraft(memberId, share, req.images());
         }
+        shareGeoIndexSync.upsert(share);
+        shareStockService.onQuantitySet(share.getId(), share.getQuantity());
+        eventPublisher.publishEvent(new ShareSavedEvent(share.getId()));
 
         return toResponse(share);
     }
@@ -246,16 +340,13 @@ public class ShareService {
                 .filter(k -> k != null && !k.isBlank())
                 .toList();
 
+        wishMatchRepository.deleteByShareId(shareId);
         shareRepository.delete(share);
+        shareGeoIndexSync.remove(shareId);
+        shareStockService.onDeleted(shareId);
 
-        registerSynchronization(new TransactionSynchronization() {
-            @Override public void afterCommit() {
-                for (String key : keysToDelete) {
-                    try { s3ImageService.deleteObject(key); }
-                    catch (Exception e) { log.warn("Share 삭제 후 S3 이미지 삭제 실패 key={}", key, e); }
-                }
-            }
-        });
+        // 같은 트랜잭션에 삭제 예약 (커밋되면 S3CleanupWorker 가 배치 삭제)
+        s3CleanupQueue.enqueue(keysToDelete);
     }
 
     /**
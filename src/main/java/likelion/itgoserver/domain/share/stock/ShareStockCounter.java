@@ -0,0 +1,146 @@
+package likelion.itgoserver.domain.share.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 재고 카운터
+ * - share:stock:{shareId} = 남은 수량
+ * - 변경된 shareId 는 share:stock:dirty 에 모아 DB 반영 대상으로 표시
+ * - dirty 표시는 DB 반영이 커밋된 뒤, 그 사이 값이 바뀌지 않았을 때만 지움 (반영 도중 장애가 나도 유실 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ShareStockCounter {
+
+    public static final long NO_COUNTER = -2L;
+    public static final long INSUFFICIENT = -1L;
+
+    private static final String STOCK_KEY_PREFIX = "share:stock:";
+    private static final String DIRTY_KEY = "share:stock:dirty";
+
+    /** 재고 확인 + 차감 (원자) → 남은 수량 | -1 부족 | -2 카운터 없음 */
+    private static final RedisScript<Long> RESERVE = new DefaultRedisScript<>("""
+            local v = redis.call('GET', KEYS[1])
+            if not v then return -2 end
+            local n = tonumber(ARGV[1])
+            if tonumber(v) < n then return -1 end
+            local r = redis.call('DECRBY', KEYS[1], n)
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return r
+            """, Long.class);
+
+    /** 복구 (카운터가 있을 때만) → 남은 수량 | -2 카운터 없음 */
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end
+            local r = redis.call('INCRBY', KEYS[1], tonumber(ARGV[1]))
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return r
+            """, Long.class);
+
+    /** 카운터가 DB 에 쓴 값 그대로이거나 없어졌으면 dirty 해제 → 1, 그 사이 바뀌었으면 유지 → 0 */
+    private static final RedisScript<Long> CLEAR_IF_UNCHANGED = new DefaultRedisScript<>("""
+            local v = redis.call('GET', KEYS[1])
+            if (not v) or v == ARGV[1] then
+              redis.call('SREM', KEYS[2], ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long reserve(Long shareId, int amount) {
+        Long r = redisTemplate.execute(RESERVE, List.of(key(shareId), DIRTY_KEY), String.valueOf(amount), String.valueOf(shareId));
+        return (r == null) ? NO_COUNTER : r;
+    }
+
+    public long release(Long shareId, int amount) {
+        Long r = redisTemplate.execute(RELEASE, List.of(key(shareId), DIRTY_KEY), String.valueOf(amount), String.valueOf(shareId));
+        return (r == null) ? NO_COUNTER : r;
+    }
+
+    public Long get(Long shareId) {
+        String v = redisTemplate.opsForValue().get(key(shareId));
+        return (v == null) ? null : Long.valueOf(v);
+    }
+
+    /** 여러 건 조회 (MGET), 카운터가 없는 shareId 는 빠짐 */
+    public Map<Long, Long> getAll(List<Long> shareIds) {
+        if (shareIds.isEmpty()) return Map.of();
+        List<String> values = redisTemplate.opsForValue().multiGet(shareIds.stream().map(ShareStockCounter::key).toList());
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < shareIds.size(); i++) {
+            String v = (values == null) ? null : values.get(i);
+            if (v != null) result.put(shareIds.get(i), Long.valueOf(v));
+        }
+        return result;
+    }
+
+    /** 수량 강제 설정 (Share 생성/수정), 반영 중이던 이전 값이 DB 를 덮지 않도록 dirty 표시 */
+    public void set(Long shareId, int quantity) {
+        redisTemplate.opsForValue().set(key(shareId), String.valueOf(quantity));
+        markDirty(shareId);
+    }
+
+    /** 카운터가 없을 때만 설정 (DB → Redis 복구) */
+    public boolean initIfAbsent(Long shareId, int quantity) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key(shareId), String.valueOf(quantity)));
+    }
+
+    /** 여러 건을 파이프라인으로 SETNX */
+    public void initAllIfAbsent(Map<Long, Integer> quantityByShareId) {
+        if (quantityByShareId.isEmpty()) return;
+        redisTemplate.executePipelined((RedisCallback<Object>) conn -> {
+            quantityByShareId.forEach((id, q) -> setNx(conn, key(id), String.valueOf(q)));
+            return null;
+        });
+    }
+
+    public void delete(Long shareId) {
+        redisTemplate.delete(key(shareId));
+        redisTemplate.opsForSet().remove(DIRTY_KEY, String.valueOf(shareId));
+    }
+
+    /** DB 반영 대상 조회 (SRANDMEMBER, 집합에서 빼지 않음) */
+    public List<Long> dirtyIds(int count) {
+        Set<String> ids = redisTemplate.opsForSet().distinctRandomMembers(DIRTY_KEY, count);
+        return (ids == null) ? List.of() : ids.stream().map(Long::valueOf).toList();
+    }
+
+    /** DB 에 writtenQuantity 를 커밋한 뒤 호출 */
+    public boolean clearDirtyIfUnchanged(Long shareId, long writtenQuantity) {
+        Long r = redisTemplate.execute(CLEAR_IF_UNCHANGED, List.of(key(shareId), DIRTY_KEY),
+                String.valueOf(writtenQuantity), String.valueOf(shareId));
+        return r != null && r == 1L;
+    }
+
+    /** 카운터가 없어진 shareId (삭제/만료) 의 dirty 해제, 그 사이 다시 생겼으면 유지 */
+    public boolean clearDirtyIfAbsent(Long shareId) {
+        Long r = redisTemplate.execute(CLEAR_IF_UNCHANGED, List.of(key(shareId), DIRTY_KEY), "", String.valueOf(shareId));
+        return r != null && r == 1L;
+    }
+
+    public void markDirty(Long shareId) {
+        redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(shareId));
+    }
+
+    private static String key(Long shareId) {
+        return STOCK_KEY_PREFIX + shareId;
+    }
+
+    private static void setNx(RedisConnection conn, String key, String value) {
+        conn.stringCommands().setNX(key.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package likelion.itgoserver.domain.share.stock;
+
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REDIS 재고 모드 전용
+ * - 주기적으로 dirty shareId 를 조회해 Redis 수량을 share.quantity 에 반영, 커밋 후 dirty 해제
+ * - 기동 시 MySQL 수량으로 빠진 카운터만 채움 (SETNX: 반영 전 Redis 값은 보존)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShareStockReconciler {
+
+    private final ShareStockService stockService;
+    private final ShareStockCounter counter;
+    private final ShareRepository shareRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.stock.reconcile-batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.stock.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        if (!stockService.isRedisMode()) return;
+
+        List<Long> ids = counter.dirtyIds(batchSize);
+        for (Long shareId : ids) {
+            try {
+                Long quantity = counter.get(shareId);
+                if (quantity == null) { // 삭제/만료
+                    counter.clearDirtyIfAbsent(shareId);
+                    continue;
+                }
+                transactionTemplate.executeWithoutResult(status ->
+                        shareRepository.updateQuantity(shareId, quantity.intValue()));
+                counter.clearDirtyIfUnchanged(shareId, quantity);
+            } catch (Exception e) {
+                log.warn("[Stock] DB 반영 실패 shareId={} (dirty 유지, 다음 주기에 재시도)", shareId, e);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (!stockService.isRedisMode()) return;
+        try {
+            Map<Long, Integer> quantities = new HashMap<>();
+            shareRepository.findActiveQuantities(LocalDate.now())
+                    .forEach(q -> quantities.put(q.getId(), q.getQuantity()));
+            counter.initAllIfAbsent(quantities);
+            log.info("[Stock] Redis 재고 카운터 복구 대상={}", quantities.size());
+        } catch (Exception e) {
+            log.warn("[Stock] Redis 재고 카운터 복구 실패 (요청 시 개별 복구)", e);
+        }
+    }
+}
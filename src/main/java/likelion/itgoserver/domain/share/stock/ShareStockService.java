@@ -0,0 +1,203 @@
+package likelion.itgoserver.domain.share.stock;
+
+import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.share.index.ShareGeoIndexSync;
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.global.error.GlobalErrorCode;
+import likelion.itgoserver.global.error.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalInt;
+
+import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
+
+/**
+ * Share 재고 차감/복구 (app.stock.mode 에 따라 방식 선택)
+ * - PESSIMISTIC: Share 행 잠금 후 엔티티 수량 변경
+ * - OPTIMISTIC: 선조회 잠금 없이 조건부 UPDATE 한 문장으로 차감 (버전 충돌은 호출 측 재시도)
+ * - REDIS: Lua 로 카운터 확인+차감, 롤백 시 보상 복구, DB 수량은 ShareStockReconciler 가 비동기 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShareStockService {
+
+    private final ShareRepository shareRepository;
+    private final ShareStockCounter counter;
+    private final ShareGeoIndexSync shareGeoIndexSync;
+
+    @Value("${app.stock.mode:pessimistic}")
+    private String modeName;
+
+    public StockMode mode() {
+        return StockMode.valueOf(modeName.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public boolean isRedisMode() {
+        return mode() == StockMode.REDIS;
+    }
+
+    /**
+     * 재고 차감 (트랜잭션 안에서 호출)
+     * @return 차감 후 남은 수량, 재고 부족이면 empty
+     */
+    public OptionalInt decrease(Long shareId, int amount) {
+        return switch (mode()) {
+            case PESSIMISTIC -> decreaseWithLock(shareId, amount);
+            case OPTIMISTIC -> decreaseConditionally(shareId, amount);
+            case REDIS -> decreaseWithCounter(shareId, amount);
+        };
+    }
+
+    /**
+     * 여러 건 순서대로 차감 (일괄 수락)
+     * - PESSIMISTIC 은 Share 행을 한 번만 잠그고 메모리에서 배분
+     * - 그 외 방식은 건별 원자 차감
+     * @return 건별 차감 후 남은 수량, 재고 부족이면 empty (앞 건이 부족해도 뒤의 작은 건은 배분)
+     */
+    public List<OptionalInt> decreaseAll(Long shareId, List<Integer> amounts) {
+        if (mode() != StockMode.PESSIMISTIC) {
+            return amounts.stream().map(amount -> decrease(shareId, amount)).toList();
+        }
+
+        Share share = lockShare(shareId);
+        List<OptionalInt> results = new ArrayList<>(amounts.size());
+        for (int amount : amounts) {
+            if (share.getQuantity() < amount) {
+                results.add(OptionalInt.empty());
+                continue;
+            }
+            share.decreaseQuantity(amount);
+            results.add(OptionalInt.of(share.getQuantity()));
+        }
+        shareGeoIndexSync.upsert(share);
+        return results;
+    }
+
+    /** 재고 복구 (거래 취소 등) */
+    public void increase(Long shareId, int amount) {
+        if (amount <= 0) return;
+        switch (mode()) {
+            case PESSIMISTIC -> {
+                Share share = lockShare(shareId);
+                share.increaseQuantity(amount);
+                shareGeoIndexSync.upsert(share);
+            }
+            case OPTIMISTIC -> {
+                if (shareRepository.increaseQuantity(shareId, amount) == 0) throw shareNotFound(shareId);
+                ShareRepository.ShareStock stock = currentDbStock(shareId);
+                shareGeoIndexSync.updateQuantity(shareId, stock.getQuantity(), stock.getVersion());
+            }
+            case REDIS -> afterCommit(() -> {
+                long remain = counter.release(shareId, amount);
+                if (remain == ShareStockCounter.NO_COUNTER) {
+                    counter.initIfAbsent(shareId, currentDbQuantity(shareId));
+                    remain = counter.release(shareId, amount);
+                }
+                shareGeoIndexSync.applyQuantity(shareId, (int) remain, null); // 이미 커밋 이후 → 바로 반영
+            });
+        }
+    }
+
+    /**
+     * 수정/삭제 대상 Share 조회
+     * - PESSIMISTIC 이면 행 잠금, 그 외에는 일반 조회 후 @Version 으로 동시 수정 감지
+     */
+    public Share loadForWrite(Long shareId) {
+        if (mode() == StockMode.PESSIMISTIC) return lockShare(shareId);
+        return shareRepository.findById(shareId).orElseThrow(() -> shareNotFound(shareId));
+    }
+
+    /** Share 생성/수정으로 수량이 정해졌을 때 */
+    public void onQuantitySet(Long shareId, int quantity) {
+        if (!isRedisMode()) return;
+        afterCommit(() -> counter.set(shareId, quantity));
+    }
+
+    /** Share 삭제 */
+    public void onDeleted(Long shareId) {
+        if (!isRedisMode()) return;
+        afterCommit(() -> counter.delete(shareId));
+    }
+
+    /**
+     * 내부 유틸
+     */
+    private OptionalInt decreaseWithLock(Long shareId, int amount) {
+        Share share = lockShare(shareId);
+        if (share.getQuantity() < amount) return OptionalInt.empty();
+
+        share.decreaseQuantity(amount);
+        shareGeoIndexSync.upsert(share);
+        return OptionalInt.of(share.getQuantity());
+    }
+
+    private OptionalInt decreaseConditionally(Long shareId, int amount) {
+        if (shareRepository.decreaseQuantityIfEnough(shareId, amount) == 0) {
+            currentDbQuantity(shareId); // 없는 Share 면 NOT_FOUND, 있으면 재고 부족
+            return OptionalInt.empty();
+        }
+        ShareRepository.ShareStock stock = currentDbStock(shareId);
+        shareGeoIndexSync.updateQuantity(shareId, stock.getQuantity(), stock.getVersion());
+        return OptionalInt.of(stock.getQuantity());
+    }
+
+    private OptionalInt decreaseWithCounter(Long shareId, int amount) {
+        long remain = counter.reserve(shareId, amount);
+        if (remain == ShareStockCounter.NO_COUNTER) {
+            // 카운터 유실(재시작/만료) → DB 값으로 채운 뒤 한 번 더
+            counter.initIfAbsent(shareId, currentDbQuantity(shareId));
+            remain = counter.reserve(shareId, amount);
+        }
+        if (remain < 0) return OptionalInt.empty();
+
+        // 이후 트랜잭션이 롤백되면 차감분 되돌림
+        registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    try { counter.release(shareId, amount); }
+                    catch (Exception e) { log.error("[Stock] 롤백 보상 실패 shareId={}, amount={}", shareId, amount, e); }
+                }
+            }
+        });
+        shareGeoIndexSync.updateQuantity(shareId, (int) remain, null);
+        return OptionalInt.of((int) remain);
+    }
+
+    private Share lockShare(Long shareId) {
+        return shareRepository.findByIdForUpdate(shareId).orElseThrow(() -> shareNotFound(shareId));
+    }
+
+    private int currentDbQuantity(Long shareId) {
+        return shareRepository.findQuantityById(shareId).orElseThrow(() -> shareNotFound(shareId));
+    }
+
+    private ShareRepository.ShareStock currentDbStock(Long shareId) {
+        return shareRepository.findStockById(shareId).orElseThrow(() -> shareNotFound(shareId));
+    }
+
+    private static CustomException shareNotFound(Long shareId) {
+        return new CustomException(GlobalErrorCode.NOT_FOUND, "share가 존재하지 않습니다. id=" + shareId);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                try { action.run(); }
+                catch (Exception e) { log.warn("[Stock] 커밋 후 재고 반영 실패", e); }
+            }
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package likelion.itgoserver.domain.share.stock;
+
+/**
+ * Share 재고 차감 방식 (app.stock.mode)
+ */
+public enum StockMode {
+    /** Share 행 PESSIMISTIC_WRITE 잠금 후 차감 (기본) */
+    PESSIMISTIC,
+    /** 잠금 조회 없이 조건부 UPDATE(quantity >= amount) 로 차감, @Version 으로 동시 수정 감지 */
+    OPTIMISTIC,
+    /** Redis 카운터 Lua 원자 차감, DB 는 비동기 반영 */
+    REDIS
+}
@@ -8,11 +8,14 @@ import lombok.*;
 
 @Embeddable
 @Getter
-@Builder
-@AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Address {
 
+    public static final String LOCATION_COLUMN_DEFINITION =
+            "POINT SRID 4326 GENERATED ALWAYS AS "
+                    + "(ST_GeomFromText(CONCAT('POINT(', longitude, ' ', latitude, ')'), 4326, 'axis-order=long-lat')) "
+                    + "STORED NOT NULL";
+
     @Column(nullable = false)
     private String roadAddress;
 
@@ -27,6 +30,23 @@ public class Address {
     @DecimalMin(value = "-180.0") @DecimalMax(value = "180.0")
     private Double longitude;
 
+    /**
+     * 위경도 POINT (SRID 4326, SPATIAL INDEX 대상)
+     * - latitude/longitude 로부터 DB 가 계산하는 STORED 생성 컬럼 → 주소 변경 시 자동 동기화
+     * - 조회 조건(MBRContains) 전용, 애플리케이션에서 직접 쓰지 않음
+     */
+    @Getter(AccessLevel.NONE)
+    @Column(name = "location", insertable = false, updatable = false, columnDefinition = LOCATION_COLUMN_DEFINITION)
+    private byte[] location;
+
+    @Builder
+    public Address(String roadAddress, String dong, Double latitude, Double longitude) {
+        this.roadAddress = roadAddress;
+        this.dong = dong;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public void update(String roadAddress, String dong, Double latitude, Double longitude) {
         this.roadAddress = roadAddress;
         this.dong = dong;
@@ -34,4 +54,4 @@ public class Address {
         this.longitude = longitude;
     }
 
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package likelion.itgoserver.domain.store.entity;
 
 import jakarta.persistence.*;
+import likelion.itgoserver.domain.image.entity.ThumbnailStatus;
 import likelion.itgoserver.domain.member.entity.Member;
 import likelion.itgoserver.domain.store.dto.StoreUpdateRequest;
 import lombok.*;
@@ -24,6 +25,11 @@ public class Store {
     @Column(length = 255)
     private String storeImageKey; // S3 Key
 
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16, columnDefinition = "varchar(16) not null default 'PENDING'")
+    private ThumbnailStatus storeImageThumbnailStatus = ThumbnailStatus.PENDING; // 썸네일 생성 여부
+
     @Column(nullable = false, length = 50)
     private String storeName; // 가게 이름
 
@@ -67,6 +73,11 @@ public class Store {
 
     public void updateImageKey(String imageKey) {
         this.storeImageKey = imageKey;
+        this.storeImageThumbnailStatus = ThumbnailStatus.PENDING;
+    }
+
+    public boolean hasImageThumbnail() {
+        return storeImageThumbnailStatus == ThumbnailStatus.READY;
     }
 
     public void increaseGiveTimes() { this.giveTimes += 1; }
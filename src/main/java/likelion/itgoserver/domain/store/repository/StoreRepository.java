@@ -1,12 +1,16 @@
 package likelion.itgoserver.domain.store.repository;
 
 import jakarta.persistence.LockModeType;
+import likelion.itgoserver.domain.image.entity.ThumbnailStatus;
 import likelion.itgoserver.domain.store.entity.Store;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
@@ -18,4 +22,21 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select s from Store s where s.id = :id")
     Optional<Store> findByIdForUpdate(@Param("id") Long id);
-}
\ No newline at end of file
+
+    /** 썸네일 생성 결과 기록 (그 사이 이미지가 바뀌었으면 0) */
+    @Modifying(flushAutomatically = true)
+    @Query("update Store s set s.storeImageThumbnailStatus = :status where s.id = :id and s.storeImageKey = :key")
+    int markImageThumbnail(@Param("id") Long id, @Param("key") String key, @Param("status") ThumbnailStatus status);
+
+    /** 썸네일 미생성 가게 이미지 (누락/기존 데이터 보충용) */
+    @Query("""
+            select s from Store s
+             where s.storeImageThumbnailStatus = :status
+               and s.storeImageKey is not null
+               and s.id > :afterId
+             order by s.id asc
+            """)
+    List<Store> findByImageThumbnailStatus(@Param("status") ThumbnailStatus status,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+}
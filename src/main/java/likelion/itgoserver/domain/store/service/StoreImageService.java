@@ -1,23 +1,26 @@
 package likelion.itgoserver.domain.store.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import likelion.itgoserver.domain.image.event.ThumbnailRequestedEvent;
 import likelion.itgoserver.domain.store.dto.StoreImageDraftPresignRequest;
 import likelion.itgoserver.domain.store.dto.StoreImageDraftPresignResponse;
 import likelion.itgoserver.domain.store.entity.Store;
 import likelion.itgoserver.domain.store.repository.StoreRepository;
 import likelion.itgoserver.global.error.GlobalErrorCode;
 import likelion.itgoserver.global.error.exception.CustomException;
+import likelion.itgoserver.global.infra.s3.cleanup.S3CleanupQueue;
 import likelion.itgoserver.global.infra.s3.service.PublicUrlResolver;
 import likelion.itgoserver.global.infra.s3.service.S3ImageService;
+import likelion.itgoserver.global.infra.storage.ObjectNotFoundException;
+import likelion.itgoserver.global.infra.storage.ObjectStorage.ObjectInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 
+import java.util.List;
 import java.util.Set;
 
 import static java.util.Locale.*;
@@ -32,12 +35,9 @@ public class StoreImageService {
 
     private final StoreRepository storeRepository;
     private final S3ImageService s3ImageService;
+    private final S3CleanupQueue s3CleanupQueue;
     private final PublicUrlResolver publicUrlResolver;
-
-    private final AmazonS3 s3;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.image.presign-ttl-minutes:15}")
     private long presignTtlMinutes;
@@ -70,39 +70,41 @@ public class StoreImageService {
         if (!draftKey.startsWith(expectedPrefix))
             throw new CustomException(GlobalErrorCode.BAD_REQUEST, "다른 사용자의 draftKey입니다.");
 
-        var md = s3.getObjectMetadata(new GetObjectMetadataRequest(bucket, draftKey));
+        ObjectInfo md;
+        try {
+            md = s3ImageService.headObject(draftKey);
+        } catch (ObjectNotFoundException e) {
+            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "업로드된 이미지가 없습니다. key=" + draftKey);
+        }
         validate(md, draftKey);
 
         String ext = S3ImageService.extractExtFromKey(draftKey);
         String finalKey = s3ImageService.storeImageKey(storeId, ext);
-        s3ImageService.copyObject(draftKey, finalKey);
+        s3ImageService.copyObject(draftKey, finalKey, md);
 
         String oldKey = store.getStoreImageKey();
         store.updateImageKey(finalKey);
         storeRepository.saveAndFlush(store);
+        eventPublisher.publishEvent(ThumbnailRequestedEvent.store(storeId, finalKey));
 
+        // 커밋 시 draft/옛 이미지 삭제 (같은 트랜잭션에 예약) / 롤백 시 방금 복사한 final 삭제
+        s3CleanupQueue.enqueue(java.util.Arrays.asList(draftKey, oldKey));
         registerSynchronization(
                 new TransactionSynchronization() {
                     @Override public void afterCompletion(int status) {
-                        if (status == STATUS_COMMITTED) { safeDelete(draftKey); safeDelete(oldKey); }
-                        else { safeDelete(finalKey); }
+                        if (status != STATUS_COMMITTED) s3CleanupQueue.enqueueNow(List.of(finalKey));
                     }
                 }
         );
     }
 
-    private void validate(ObjectMetadata md, String key) {
-        long size = md.getContentLength();
+    private void validate(ObjectInfo md, String key) {
+        long size = md.size();
         if (size <= 0 || size > MAX_IMAGE_BYTES)
             throw new CustomException(GlobalErrorCode.BAD_REQUEST, "이미지 용량 오류: " + key);
-        String ctRaw = ofNullable(md.getContentType()).orElse("").toLowerCase(ROOT);
+        String ctRaw = ofNullable(md.contentType()).orElse("").toLowerCase(ROOT);
         String ct = ctRaw.split(";", 2)[0].trim();
         if (!ALLOWED.contains(ct))
             throw new CustomException(GlobalErrorCode.BAD_REQUEST, "허용되지 않는 MIME: " + ctRaw);
     }
-
-    private void safeDelete(String key) {
-        try { if (key != null && !key.isBlank()) s3ImageService.deleteObject(key); }
-        catch (Exception e) { log.warn("S3 삭제 실패 key={}", key, e); }
-    }
 }
@@ -2,22 +2,23 @@ package likelion.itgoserver.domain.store.service;
 
 import likelion.itgoserver.domain.member.entity.Member;
 import likelion.itgoserver.domain.member.repository.MemberRepository;
+import likelion.itgoserver.domain.share.index.ShareGeoIndexSync;
 import likelion.itgoserver.domain.store.dto.StoreInfoResponse;
 import likelion.itgoserver.domain.store.dto.StoreRegisterRequest;
 import likelion.itgoserver.domain.store.dto.StoreUpdateRequest;
 import likelion.itgoserver.domain.store.entity.Store;
 import likelion.itgoserver.domain.store.repository.StoreRepository;
+import likelion.itgoserver.domain.trade.repository.TradeRepository;
 import likelion.itgoserver.global.error.GlobalErrorCode;
 import likelion.itgoserver.global.error.exception.CustomException;
 import likelion.itgoserver.global.infra.s3.service.PublicUrlResolver;
-import likelion.itgoserver.global.infra.s3.service.S3ImageService;
+import likelion.itgoserver.global.infra.s3.cleanup.S3CleanupQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
 
-import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -29,7 +30,9 @@ public class StoreService {
     private final StoreImageService storeImageService;
     private final MemberRepository memberRepository;
     private final PublicUrlResolver publicUrlResolver;
-    private final S3ImageService s3ImageService;
+    private final S3CleanupQueue s3CleanupQueue;
+    private final ShareGeoIndexSync shareGeoIndexSync;
+    private final TradeRepository tradeRepository;
 
     /**
      * 가게 정보 등록
@@ -97,9 +100,12 @@ public class StoreService {
 
         // Store 엔티티에서 직접 업데이트
         store.update(request);
+        shareGeoIndexSync.reindexStore(store.getId());
         if (request.hasNewImage()) {
             storeImageService.commitFromDraft(member.getId(), store.getId(), request.imageDraftKey());
         }
+        // 거래 내역 읽기 모델의 가게 스냅샷/거리 갱신 (변경분 flush 후 native update)
+        tradeRepository.refreshStoreSnapshots(store.getId());
 
         String imageUrl = publicUrlResolver.toUrl(store.getStoreImageKey());
         return StoreInfoResponse.of(store, imageUrl);
@@ -122,21 +128,14 @@ public class StoreService {
         final String imageKey = store.getStoreImageKey();
 
         // 연관관계 끊기 + DB 삭제
+        shareGeoIndexSync.removeStore(store.getId());
         member.removeStore();
         storeRepository.delete(store);
 
-        // 트랜잭션 커밋 후 S3 삭제
-        registerSynchronization(new TransactionSynchronization() {
-            @Override public void afterCompletion(int status) {
-                if (status == STATUS_COMMITTED && imageKey != null && !imageKey.isBlank()) {
-                    try {
-                        s3ImageService.deleteObject(imageKey);
-                    } catch (Exception e) {
-                        log.warn("S3 가게 이미지 삭제 실패 key={}", imageKey, e);
-                    }
-                }
-            }
-        });
+        // 같은 트랜잭션에 삭제 예약 (커밋되면 S3CleanupWorker 가 배치 삭제)
+        if (imageKey != null && !imageKey.isBlank()) {
+            s3CleanupQueue.enqueue(List.of(imageKey));
+        }
 
     }
 
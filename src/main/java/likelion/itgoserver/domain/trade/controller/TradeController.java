@@ -2,6 +2,8 @@ package likelion.itgoserver.domain.trade.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import likelion.itgoserver.domain.trade.dto.TradeDetailResponse;
 import likelion.itgoserver.domain.trade.dto.TradeGivenItem;
 import likelion.itgoserver.domain.trade.dto.TradeReceivedItem;
@@ -9,6 +11,7 @@ import likelion.itgoserver.domain.trade.entity.TradeStatus;
 import likelion.itgoserver.domain.trade.service.TradeListService;
 import likelion.itgoserver.domain.trade.service.TradeService;
 import likelion.itgoserver.global.response.ApiResponse;
+import likelion.itgoserver.global.response.CursorSlice;
 import likelion.itgoserver.global.support.resolver.CurrentMemberId;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
@@ -16,12 +19,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "Trade API", description = "거래내역 조회 및 처리")
 @RestController
 @RequestMapping("/api/v1/trade")
 @RequiredArgsConstructor
+@Validated
 public class TradeController {
 
     private final TradeService tradeService;
@@ -49,6 +54,34 @@ public class TradeController {
         return ApiResponse.success(tradeListService.listReceived(memberId, status, pageable));
     }
 
+    @Operation(
+            summary = "거래 내역 : 나눔한 내역 리스트 (커서)",
+            description = "최신순 다음 페이지를 커서로 조회. 첫 페이지는 cursor 생략, 이후 응답의 nextCursor 전달"
+    )
+    @GetMapping("/given/details/cursor")
+    public ApiResponse<CursorSlice<TradeGivenItem>> listGivenByCursor(
+            @CurrentMemberId Long memberId,
+            @RequestParam(required = false) TradeStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        return ApiResponse.success(tradeListService.listGivenByCursor(memberId, status, cursor, size));
+    }
+
+    @Operation(
+            summary = "거래내역 : 나눔받은 내역 리스트 (커서)",
+            description = "최신순 다음 페이지를 커서로 조회. 첫 페이지는 cursor 생략, 이후 응답의 nextCursor 전달"
+    )
+    @GetMapping("/received/details/cursor")
+    public ApiResponse<CursorSlice<TradeReceivedItem>> listReceivedByCursor(
+            @CurrentMemberId Long memberId,
+            @RequestParam(required = false) TradeStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        return ApiResponse.success(tradeListService.listReceivedByCursor(memberId, status, cursor, size));
+    }
+
     @Operation(summary = "나눔 상세 내역 조회")
     @GetMapping("/{tradeId}")
     public ApiResponse<TradeDetailResponse> get(@PathVariable Long tradeId) {
@@ -0,0 +1,36 @@
+package likelion.itgoserver.domain.trade.dto;
+
+import likelion.itgoserver.global.error.GlobalErrorCode;
+import likelion.itgoserver.global.error.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 거래 내역 커서 : 마지막 행의 (regDate, id), 최신순(regDate desc, id desc) 기준
+ */
+public record TradeCursor(
+        LocalDateTime regDate,
+        Long id
+) {
+    private static final String SEP = "|";
+
+    public String encode() {
+        String raw = regDate + SEP + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TradeCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) throw new IllegalArgumentException(raw);
+            return new TradeCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
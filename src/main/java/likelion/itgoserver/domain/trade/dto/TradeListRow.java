@@ -0,0 +1,39 @@
+package likelion.itgoserver.domain.trade.dto;
+
+import likelion.itgoserver.domain.trade.entity.TradeStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 거래 내역 리스트 조회 행 (Querydsl 생성자 프로젝션)
+ * - trade 테이블의 스냅샷 컬럼만 사용 (조인 없음)
+ * - counterpart: 나눔한 내역이면 받는 가게, 나눔받은 내역이면 주는 가게
+ */
+public record TradeListRow(
+        Long tradeId,
+        TradeStatus status,
+        LocalDateTime completedAt,
+        LocalDateTime canceledAt,
+        LocalDateTime regDate,
+
+        String primaryImageKey,
+        Boolean primaryThumbnailReady,
+        String brand,
+        String itemName,
+        LocalTime openTime,
+        LocalTime closeTime,
+        LocalDate expirationDate,
+        Integer wishQuantity,
+        Double distanceMeters,
+
+        Long counterpartStoreId,
+        String counterpartStoreImageKey,
+        Boolean counterpartStoreImageThumbnailReady,
+        String counterpartStoreName,
+        String counterpartRoadAddress,
+        LocalTime counterpartOpenTime,
+        LocalTime counterpartCloseTime,
+        String counterpartPhoneNumber
+) {}
@@ -3,13 +3,16 @@ package likelion.itgoserver.domain.trade.entity;
 import jakarta.persistence.*;
 import likelion.itgoserver.domain.claim.entity.Claim;
 import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.share.entity.ShareImage;
 import likelion.itgoserver.domain.store.entity.Store;
 import likelion.itgoserver.domain.wish.entity.Wish;
 import likelion.itgoserver.global.support.BaseTimeEntity;
+import likelion.itgoserver.global.support.geo.GeoDistance;
 import lombok.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 @Entity
 @Getter
@@ -20,9 +23,13 @@ import java.time.LocalDateTime;
         name = "trade",
         uniqueConstraints = @UniqueConstraint(name = "uk_trade_claim", columnNames = "claim_id"),
         indexes = {
-                @Index(name = "idx_trade_giver_store", columnList = "giver_store_id"),
-                @Index(name = "idx_trade_receiver_store", columnList = "receiver_store_id"),
-                @Index(name = "idx_trade_status_regdate", columnList = "status,regDate")
+                // 거래 내역 리스트 : (가게, 상태) 필터 + (reg_date, id) 정렬/커서를 인덱스 순서로 (filesort 없음)
+                @Index(name = "idx_trade_giver_status_regdate_id", columnList = "giver_store_id, status, reg_date, id"),
+                @Index(name = "idx_trade_receiver_status_regdate_id", columnList = "receiver_store_id, status, reg_date, id"),
+                // 상태 필터 없는 전체 내역
+                @Index(name = "idx_trade_giver_regdate_id", columnList = "giver_store_id, reg_date, id"),
+                @Index(name = "idx_trade_receiver_regdate_id", columnList = "receiver_store_id, reg_date, id"),
+                @Index(name = "idx_trade_status_regdate", columnList = "status, reg_date")
         }
 )
 public class Trade extends BaseTimeEntity {
@@ -53,11 +60,45 @@ public class Trade extends BaseTimeEntity {
     @Column(length = 512)
     private String primaryImageKey;
 
+    /** 대표이미지 썸네일 생성 여부 (null/false 면 원본 URL) */
+    private Boolean primaryThumbnailReady;
+
     private String itemName;
     private String brand;
     private Integer quantity;
     private LocalDate expirationDate;
 
+    /** 거래 내역 화면용 읽기 모델 (가게 정보/픽업 시간/거리 스냅샷) */
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "storeName", column = @Column(name = "giver_store_name", length = 50)),
+            @AttributeOverride(name = "storeImageKey", column = @Column(name = "giver_store_image_key")),
+            @AttributeOverride(name = "storeImageThumbnailReady", column = @Column(name = "giver_store_image_thumbnail_ready")),
+            @AttributeOverride(name = "roadAddress", column = @Column(name = "giver_road_address")),
+            @AttributeOverride(name = "phoneNumber", column = @Column(name = "giver_phone_number", length = 20)),
+            @AttributeOverride(name = "openTime", column = @Column(name = "giver_open_time")),
+            @AttributeOverride(name = "closeTime", column = @Column(name = "giver_close_time"))
+    })
+    private TradeStoreSnapshot giverSnapshot;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "storeName", column = @Column(name = "receiver_store_name", length = 50)),
+            @AttributeOverride(name = "storeImageKey", column = @Column(name = "receiver_store_image_key")),
+            @AttributeOverride(name = "storeImageThumbnailReady", column = @Column(name = "receiver_store_image_thumbnail_ready")),
+            @AttributeOverride(name = "roadAddress", column = @Column(name = "receiver_road_address")),
+            @AttributeOverride(name = "phoneNumber", column = @Column(name = "receiver_phone_number", length = 20)),
+            @AttributeOverride(name = "openTime", column = @Column(name = "receiver_open_time")),
+            @AttributeOverride(name = "closeTime", column = @Column(name = "receiver_close_time"))
+    })
+    private TradeStoreSnapshot receiverSnapshot;
+
+    private LocalTime pickupOpenTime;
+    private LocalTime pickupCloseTime;
+
+    /** 주는 가게 ↔ 받는 가게 거리(m), null 이면 아직 스냅샷 미적재 (TradeViewBackfill 대상) */
+    private Double distanceMeters;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private TradeStatus status;
@@ -65,20 +106,30 @@ public class Trade extends BaseTimeEntity {
     private LocalDateTime completedAt;
     private LocalDateTime canceledAt;
 
-    public static Trade fromAcceptedClaim(Claim claim, String primaryImageKeySnapshot) {
+    public static Trade fromAcceptedClaim(Claim claim, ShareImage primaryImage) {
         var s = claim.getShare();
         var w = claim.getWish();
+        var giver = s.getStore();
+        var receiver = w.getStore();
         return Trade.builder()
                 .claim(claim)
                 .share(s)
                 .wish(w)
-                .giverStore(s.getStore())
-                .receiverStore(w.getStore())
-                .primaryImageKey(primaryImageKeySnapshot)
+                .giverStore(giver)
+                .receiverStore(receiver)
+                .primaryImageKey(primaryImage == null ? null : primaryImage.getObjectKey())
+                .primaryThumbnailReady(primaryImage != null && primaryImage.hasThumbnail())
                 .itemName(s.getItemName())
                 .brand(s.getBrand())
                 .quantity(claim.getQuantity())
                 .expirationDate(s.getExpirationDate())
+                .giverSnapshot(TradeStoreSnapshot.of(giver))
+                .receiverSnapshot(TradeStoreSnapshot.of(receiver))
+                .pickupOpenTime(s.getOpenTime())
+                .pickupCloseTime(s.getCloseTime())
+                .distanceMeters(GeoDistance.meters(
+                        giver.getAddress().getLatitude(), giver.getAddress().getLongitude(),
+                        receiver.getAddress().getLatitude(), receiver.getAddress().getLongitude()))
                 .status(TradeStatus.MATCHED)
                 .build();
     }
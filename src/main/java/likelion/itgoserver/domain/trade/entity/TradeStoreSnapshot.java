@@ -0,0 +1,41 @@
+package likelion.itgoserver.domain.trade.entity;
+
+import jakarta.persistence.Embeddable;
+import likelion.itgoserver.domain.store.entity.Store;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+/**
+ * 거래 내역 화면용 가게 정보 스냅샷 (Trade 에 giver_/receiver_ 접두어로 저장)
+ * - 거래 생성 시 채우고, 가게 정보 변경 시 TradeRepository.refreshStoreSnapshots 로 갱신
+ */
+@Embeddable
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TradeStoreSnapshot {
+
+    private String storeName;
+    private String storeImageKey;
+    private Boolean storeImageThumbnailReady;
+    private String roadAddress;
+    private String phoneNumber;
+    private LocalTime openTime;
+    private LocalTime closeTime;
+
+    public static TradeStoreSnapshot of(Store store) {
+        return new TradeStoreSnapshot(
+                store.getStoreName(),
+                store.getStoreImageKey(),
+                store.hasImageThumbnail(),
+                store.getAddress().getRoadAddress(),
+                store.getPhoneNumber(),
+                store.getOpenTime(),
+                store.getCloseTime()
+        );
+    }
+}
@@ -2,19 +2,18 @@ package likelion.itgoserver.domain.trade.repository;
 
 import jakarta.persistence.LockModeType;
 import likelion.itgoserver.domain.trade.entity.Trade;
-import likelion.itgoserver.domain.trade.entity.TradeStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface TradeRepository extends JpaRepository<Trade, Long> {
+public interface TradeRepository extends JpaRepository<Trade, Long>, TradeRepositoryCustom {
 
     @EntityGraph(attributePaths = {"giverStore", "receiverStore", "share", "wish"})
     Optional<Trade> findById(Long id);
@@ -26,18 +25,6 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
     @EntityGraph(attributePaths = {"giverStore", "receiverStore", "share", "wish"})
     Optional<Trade> findByClaimId(Long claimId);
 
-    @EntityGraph(attributePaths = {"giverStore", "receiverStore", "share", "wish"})
-    Page<Trade> findByGiverStoreId(Long giverStoreId, Pageable pageable);
-
-    @EntityGraph(attributePaths = {"giverStore", "receiverStore", "share", "wish"})
-    Page<Trade> findByGiverStoreIdAndStatus(Long giverStoreId, TradeStatus status, Pageable pageable);
-
-    @EntityGraph(attributePaths = {"giverStore", "receiverStore", "share", "wish"})
-    Page<Trade> findByReceiverStoreId(Long receiverStoreId, Pageable pageable);
-
-    @EntityGraph(attributePaths = {"giverStore", "receiverStore", "share", "wish"})
-    Page<Trade> findByReceiverStoreIdAndStatus(Long receiverStoreId, TradeStatus status, Pageable pageable);
-
     interface TradeIdByClaim {
         Long getClaimId();
         Long getTradeId();
@@ -45,4 +32,55 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
 
     @Query("select t.claim.id as claimId, t.id as tradeId from Trade t where t.claim.id in :claimIds")
     List<TradeIdByClaim> findTradeIdsByClaimIds(@Param("claimIds") List<Long> claimIds);
-}
\ No newline at end of file
+
+    /**
+     * 거래 내역 읽기 모델 갱신 SQL (양쪽 가게 스냅샷 + 거리)
+     */
+    String REFRESH_STORE_SNAPSHOTS = """
+            update trade t
+              join store g on g.id = t.giver_store_id
+              join store r on r.id = t.receiver_store_id
+               set t.giver_store_name = g.store_name, t.giver_store_image_key = g.store_image_key,
+                   t.giver_store_image_thumbnail_ready = (g.store_image_thumbnail_status = 'READY'),
+                   t.giver_road_address = g.road_address, t.giver_phone_number = g.phone_number,
+                   t.giver_open_time = g.open_time, t.giver_close_time = g.close_time,
+                   t.receiver_store_name = r.store_name, t.receiver_store_image_key = r.store_image_key,
+                   t.receiver_store_image_thumbnail_ready = (r.store_image_thumbnail_status = 'READY'),
+                   t.receiver_road_address = r.road_address, t.receiver_phone_number = r.phone_number,
+                   t.receiver_open_time = r.open_time, t.receiver_close_time = r.close_time,
+                   t.distance_meters = ST_Distance_Sphere(point(g.longitude, g.latitude), point(r.longitude, r.latitude))
+            """;
+
+    /** 가게 정보(이름/주소/연락처/시간/이미지) 변경 → 해당 가게가 낀 거래 스냅샷 갱신 */
+    @Modifying(flushAutomatically = true)
+    @Query(value = REFRESH_STORE_SNAPSHOTS + " where t.giver_store_id = :storeId or t.receiver_store_id = :storeId",
+            nativeQuery = true)
+    int refreshStoreSnapshots(@Param("storeId") Long storeId);
+
+    /** 스냅샷 도입 이전 거래 채우기 (나눔 픽업 시간 포함) */
+    @Modifying
+    @Query(value = """
+            update trade t
+              join share s on s.id = t.share_id
+               set t.pickup_open_time = s.open_time, t.pickup_close_time = s.close_time
+             where t.id in (:ids)
+            """, nativeQuery = true)
+    int fillPickupTimes(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = REFRESH_STORE_SNAPSHOTS + " where t.id in (:ids)", nativeQuery = true)
+    int refreshStoreSnapshotsByIds(@Param("ids") List<Long> ids);
+
+    @Query("select t.id from Trade t where t.id > :afterId and t.distanceMeters is null order by t.id asc")
+    List<Long> findIdsWithoutView(@Param("afterId") Long afterId, Pageable pageable);
+
+    /** 대표이미지 썸네일 생성 완료 → 해당 이미지를 스냅샷으로 가진 거래에 반영 */
+    @Modifying(flushAutomatically = true)
+    @Query("update Trade t set t.primaryThumbnailReady = true where t.share.id = :shareId and t.primaryImageKey = :key")
+    int markPrimaryThumbnailReady(@Param("shareId") Long shareId, @Param("key") String key);
+
+    /** 거래 대표이미지 스냅샷이 draft 키로 찍힌 경우 확정 키로 교체 (비동기 이미지 확정) */
+    @Modifying(flushAutomatically = true)
+    @Query("update Trade t set t.primaryImageKey = :to where t.share.id = :shareId and t.primaryImageKey = :from")
+    int replacePrimaryImageKey(@Param("shareId") Long shareId, @Param("from") String from, @Param("to") String to);
+}
@@ -0,0 +1,23 @@
+package likelion.itgoserver.domain.trade.repository;
+
+import likelion.itgoserver.domain.trade.dto.TradeCursor;
+import likelion.itgoserver.domain.trade.dto.TradeListRow;
+import likelion.itgoserver.domain.trade.entity.TradeStatus;
+import likelion.itgoserver.global.response.CursorSlice;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface TradeRepositoryCustom {
+
+    /** 나눔한 내역 (counterpart = 받는 가게) */
+    Page<TradeListRow> findGivenRows(Long giverStoreId, TradeStatus status, Pageable pageable);
+
+    /** 나눔받은 내역 (counterpart = 주는 가게) */
+    Page<TradeListRow> findReceivedRows(Long receiverStoreId, TradeStatus status, Pageable pageable);
+
+    /** 나눔한 내역 커서 조회 (최신순) */
+    CursorSlice<TradeListRow> findGivenRowsAfter(Long giverStoreId, TradeStatus status, TradeCursor cursor, int size);
+
+    /** 나눔받은 내역 커서 조회 (최신순) */
+    CursorSlice<TradeListRow> findReceivedRowsAfter(Long receiverStoreId, TradeStatus status, TradeCursor cursor, int size);
+}
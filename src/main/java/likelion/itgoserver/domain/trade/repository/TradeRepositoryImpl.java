@@ -0,0 +1,161 @@
+package likelion.itgoserver.domain.trade.repository;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import likelion.itgoserver.domain.trade.dto.TradeCursor;
+import likelion.itgoserver.domain.trade.dto.TradeListRow;
+import likelion.itgoserver.domain.trade.entity.QTradeStoreSnapshot;
+import likelion.itgoserver.domain.trade.entity.TradeStatus;
+import likelion.itgoserver.global.response.CursorSlice;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static likelion.itgoserver.domain.trade.entity.QTrade.trade;
+
+@Repository
+@RequiredArgsConstructor
+public class TradeRepositoryImpl implements TradeRepositoryCustom {
+
+    private final JPAQueryFactory query;
+
+    @Override
+    public Page<TradeListRow> findGivenRows(Long giverStoreId, TradeStatus status, Pageable pageable) {
+        return findRows(trade.giverStore.id, giverStoreId, trade.receiverStore.id, trade.receiverSnapshot, status, pageable);
+    }
+
+    @Override
+    public Page<TradeListRow> findReceivedRows(Long receiverStoreId, TradeStatus status, Pageable pageable) {
+        return findRows(trade.receiverStore.id, receiverStoreId, trade.giverStore.id, trade.giverSnapshot, status, pageable);
+    }
+
+    @Override
+    public CursorSlice<TradeListRow> findGivenRowsAfter(Long giverStoreId, TradeStatus status, TradeCursor cursor, int size) {
+        return findRowsAfter(trade.giverStore.id, giverStoreId, trade.receiverStore.id, trade.receiverSnapshot, status, cursor, size);
+    }
+
+    @Override
+    public CursorSlice<TradeListRow> findReceivedRowsAfter(Long receiverStoreId, TradeStatus status, TradeCursor cursor, int size) {
+        return findRowsAfter(trade.receiverStore.id, receiverStoreId, trade.giverStore.id, trade.giverSnapshot, status, cursor, size);
+    }
+
+    /**
+     * 내부 유틸
+     * - trade 단일 테이블 조회 (상품/가게 정보는 Trade 의 스냅샷 컬럼, 거리도 저장된 값)
+     */
+    private Page<TradeListRow> findRows(NumberPath<Long> ownerStoreId, Long storeId,
+                                        NumberPath<Long> counterpartStoreId, QTradeStoreSnapshot counterpart,
+                                        TradeStatus status, Pageable pageable) {
+        BooleanExpression where = ownerStoreId.eq(storeId).and(statusEq(status));
+
+        List<TradeListRow> content = query
+                .select(rowOf(counterpartStoreId, counterpart))
+                .from(trade)
+                .where(where)
+                .orderBy(orderOf(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = query
+                .select(trade.count())
+                .from(trade)
+                .where(where);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /** (store, status?) 인덱스 범위에서 (reg_date, id) 역순으로 seek, size + 1 건으로 다음 페이지 판단 */
+    private CursorSlice<TradeListRow> findRowsAfter(NumberPath<Long> ownerStoreId, Long storeId,
+                                                    NumberPath<Long> counterpartStoreId, QTradeStoreSnapshot counterpart,
+                                                    TradeStatus status, TradeCursor cursor, int size) {
+        BooleanExpression where = ownerStoreId.eq(storeId).and(statusEq(status)).and(seekAfter(cursor));
+
+        List<TradeListRow> rows = query
+                .select(rowOf(counterpartStoreId, counterpart))
+                .from(trade)
+                .where(where)
+                .orderBy(trade.regDate.desc(), trade.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<TradeListRow> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            TradeListRow last = content.get(content.size() - 1);
+            nextCursor = new TradeCursor(last.regDate(), last.tradeId()).encode();
+        }
+        return new CursorSlice<>(List.copyOf(content), size, hasNext, nextCursor);
+    }
+
+    private static ConstructorExpression<TradeListRow> rowOf(NumberPath<Long> counterpartStoreId, QTradeStoreSnapshot counterpart) {
+        return Projections.constructor(TradeListRow.class,
+                trade.id,
+                trade.status,
+                trade.completedAt,
+                trade.canceledAt,
+                trade.regDate,
+
+                trade.primaryImageKey,
+                trade.primaryThumbnailReady,
+                trade.brand,
+                trade.itemName,
+                trade.pickupOpenTime,
+                trade.pickupCloseTime,
+                trade.expirationDate,
+                trade.quantity,
+                trade.distanceMeters,
+
+                counterpartStoreId,
+                counterpart.storeImageKey,
+                counterpart.storeImageThumbnailReady,
+                counterpart.storeName,
+                counterpart.roadAddress,
+                counterpart.openTime,
+                counterpart.closeTime,
+                counterpart.phoneNumber
+        );
+    }
+
+    private static BooleanExpression seekAfter(TradeCursor c) {
+        if (c == null) return null;
+        return trade.regDate.lt(c.regDate())
+                .or(trade.regDate.eq(c.regDate()).and(trade.id.lt(c.id())));
+    }
+
+    private static BooleanExpression statusEq(TradeStatus status) {
+        return status == null ? null : trade.status.eq(status);
+    }
+
+    /** 허용된 정렬 키만 반영 (기본 regDate desc), 동률은 id desc */
+    private static OrderSpecifier<?>[] orderOf(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order o : sort) {
+            ComparableExpressionBase<?> path = switch (o.getProperty()) {
+                case "regDate" -> trade.regDate;
+                case "completedAt" -> trade.completedAt;
+                case "canceledAt" -> trade.canceledAt;
+                case "id" -> trade.id;
+                default -> null;
+            };
+            if (path != null) orders.add(o.isAscending() ? path.asc() : path.desc());
+        }
+        if (orders.isEmpty()) orders.add(trade.regDate.desc());
+        orders.add(new OrderSpecifier<>(Order.DESC, trade.id));
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+}
@@ -1,21 +1,27 @@
 package likelion.itgoserver.domain.trade.service;
 
-import likelion.itgoserver.domain.store.entity.Store;
 import likelion.itgoserver.domain.store.repository.StoreRepository;
+import likelion.itgoserver.domain.trade.dto.TradeCursor;
 import likelion.itgoserver.domain.trade.dto.TradeGivenItem;
+import likelion.itgoserver.domain.trade.dto.TradeListRow;
 import likelion.itgoserver.domain.trade.dto.TradeReceivedItem;
-import likelion.itgoserver.domain.trade.entity.Trade;
 import likelion.itgoserver.domain.trade.entity.TradeStatus;
 import likelion.itgoserver.domain.trade.repository.TradeRepository;
 import likelion.itgoserver.global.error.GlobalErrorCode;
 import likelion.itgoserver.global.error.exception.CustomException;
+import likelion.itgoserver.global.infra.image.ThumbnailKeys;
 import likelion.itgoserver.global.infra.s3.service.PublicUrlResolver;
+import likelion.itgoserver.global.response.CursorSlice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 거래 내역 리스트
+ * - Trade 의 읽기 모델 컬럼(상품/가게 스냅샷, 거리)만 프로젝션(TradeListRow)으로 조회
+ */
 @Service
 @RequiredArgsConstructor
 public class TradeListService {
@@ -27,109 +33,102 @@ public class TradeListService {
     /** 나눔한 내역 조회 */
     @Transactional(readOnly = true)
     public Page<TradeGivenItem> listGiven(Long memberId, TradeStatus status, Pageable pageable) {
-        Long storeId = storeRepository.findIdByOwnerId(memberId)
-                .orElseThrow(() -> new CustomException(GlobalErrorCode.NOT_FOUND, "해당 회원의 매장이 없습니다."));
+        Long storeId = myStoreId(memberId);
 
-        Page<Trade> page = (status == null)
-                ? tradeRepository.findByGiverStoreId(storeId, pageable)
-                : tradeRepository.findByGiverStoreIdAndStatus(storeId, status, pageable);
-
-        return page.map(t -> {
-            var share = t.getShare();
-            var wish = t.getWish();
-            var giver = t.getGiverStore();
-            var receiver = t.getReceiverStore();
-            Double distance = round1(distanceKm(giver, receiver));
-            String imageKey = t.getPrimaryImageKey();
-
-            return new TradeGivenItem(
-                    t.getId(),
-                    t.getStatus().name(),
-                    t.getCompletedAt(),
-                    t.getCanceledAt(),
-                    t.getRegDate(),
-
-                    publicUrlResolver.toUrl(imageKey),
-                    share.getBrand(),
-                    share.getItemName(),
-                    share.getOpenTime(),
-                    share.getCloseTime(),
-                    share.getExpirationDate(),
-                    wish.getQuantity(),
-                    distance,
-
-                    receiver.getId(),
-                    publicUrlResolver.toUrl(receiver.getStoreImageKey()),
-                    receiver.getStoreName(),
-                    receiver.getAddress().getRoadAddress(),
-                    receiver.getOpenTime(),
-                    receiver.getCloseTime(),
-                    receiver.getPhoneNumber()
-            );
-        });
+        return tradeRepository.findGivenRows(storeId, status, pageable).map(this::toGivenItem);
     }
 
     /** 나눔받은 내역 조회 */
     @Transactional(readOnly = true)
     public Page<TradeReceivedItem> listReceived(Long memberId, TradeStatus status, Pageable pageable) {
-        Long storeId = storeRepository.findIdByOwnerId(memberId)
+        Long storeId = myStoreId(memberId);
+
+        return tradeRepository.findReceivedRows(storeId, status, pageable).map(this::toReceivedItem);
+    }
+
+    /** 나눔한 내역 커서 조회 (최신순, count 쿼리 없음) */
+    @Transactional(readOnly = true)
+    public CursorSlice<TradeGivenItem> listGivenByCursor(Long memberId, TradeStatus status, String cursor, int size) {
+        Long storeId = myStoreId(memberId);
+        return tradeRepository.findGivenRowsAfter(storeId, status, TradeCursor.decode(cursor), size)
+                .map(this::toGivenItem);
+    }
+
+    /** 나눔받은 내역 커서 조회 (최신순, count 쿼리 없음) */
+    @Transactional(readOnly = true)
+    public CursorSlice<TradeReceivedItem> listReceivedByCursor(Long memberId, TradeStatus status, String cursor, int size) {
+        Long storeId = myStoreId(memberId);
+        return tradeRepository.findReceivedRowsAfter(storeId, status, TradeCursor.decode(cursor), size)
+                .map(this::toReceivedItem);
+    }
+
+    /**
+     * 내부 유틸
+     */
+    private Long myStoreId(Long memberId) {
+        return storeRepository.findIdByOwnerId(memberId)
                 .orElseThrow(() -> new CustomException(GlobalErrorCode.NOT_FOUND, "해당 회원의 매장이 없습니다."));
+    }
 
-        Page<Trade> page = (status == null)
-                ? tradeRepository.findByReceiverStoreId(storeId, pageable)
-                : tradeRepository.findByReceiverStoreIdAndStatus(storeId, status, pageable);
-
-        return page.map(t -> {
-            var share = t.getShare();
-            var wish = t.getWish();
-            var giver = t.getGiverStore();
-            var receiver = t.getReceiverStore();
-            Double distance = round1(distanceKm(giver, receiver));
-            String imageKey = t.getPrimaryImageKey();
-
-            return new TradeReceivedItem(
-                    t.getId(),
-                    t.getStatus().name(),
-                    t.getCompletedAt(),
-                    t.getCanceledAt(),
-                    t.getRegDate(),
-
-                    publicUrlResolver.toUrl(imageKey),
-                    share.getBrand(),
-                    share.getItemName(),
-                    share.getOpenTime(),
-                    share.getCloseTime(),
-                    share.getExpirationDate(),
-                    wish.getQuantity(),
-                    distance,
-
-                    giver.getId(),
-                    publicUrlResolver.toUrl(giver.getStoreImageKey()),
-                    giver.getStoreName(),
-                    giver.getAddress().getRoadAddress(),
-                    giver.getOpenTime(),
-                    giver.getCloseTime(),
-                    giver.getPhoneNumber()
-            );
-        });
+    private TradeGivenItem toGivenItem(TradeListRow r) {
+        return new TradeGivenItem(
+                r.tradeId(),
+                r.status().name(),
+                r.completedAt(),
+                r.canceledAt(),
+                r.regDate(),
+
+                publicUrlResolver.toThumbnailUrl(r.primaryImageKey(), ThumbnailKeys.MEDIUM, Boolean.TRUE.equals(r.primaryThumbnailReady())),
+                r.brand(),
+                r.itemName(),
+                r.openTime(),
+                r.closeTime(),
+                r.expirationDate(),
+                r.wishQuantity(),
+                toKm(r.distanceMeters()),
+
+                r.counterpartStoreId(),
+                publicUrlResolver.toThumbnailUrl(r.counterpartStoreImageKey(), ThumbnailKeys.SMALL,
+                        Boolean.TRUE.equals(r.counterpartStoreImageThumbnailReady())),
+                r.counterpartStoreName(),
+                r.counterpartRoadAddress(),
+                r.counterpartOpenTime(),
+                r.counterpartCloseTime(),
+                r.counterpartPhoneNumber()
+        );
     }
 
-    private static double distanceKm(Store a, Store b) {
-        final double R = 6371.0088; // km
-        double lat1 = a.getAddress().getLatitude();
-        double lon1 = a.getAddress().getLongitude();
-        double lat2 = b.getAddress().getLatitude();
-        double lon2 = b.getAddress().getLongitude();
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double va = Math.sin(dLat/2) * Math.sin(dLat/2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon/2) * Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(va), Math.sqrt(1 - va));
-        return R * c;
+    private TradeReceivedItem toReceivedItem(TradeListRow r) {
+        return new TradeReceivedItem(
+                r.tradeId(),
+                r.status().name(),
+                r.completedAt(),
+                r.canceledAt(),
+                r.regDate(),
+
+                publicUrlResolver.toThumbnailUrl(r.primaryImageKey(), ThumbnailKeys.MEDIUM, Boolean.TRUE.equals(r.primaryThumbnailReady())),
+                r.brand(),
+                r.itemName(),
+                r.openTime(),
+                r.closeTime(),
+                r.expirationDate(),
+                r.wishQuantity(),
+                toKm(r.distanceMeters()),
+
+                r.counterpartStoreId(),
+                publicUrlResolver.toThumbnailUrl(r.counterpartStoreImageKey(), ThumbnailKeys.SMALL,
+                        Boolean.TRUE.equals(r.counterpartStoreImageThumbnailReady())),
+                r.counterpartStoreName(),
+                r.counterpartRoadAddress(),
+                r.counterpartOpenTime(),
+                r.counterpartCloseTime(),
+                r.counterpartPhoneNumber()
+        );
     }
 
-    private static Double round1(double v) {
-        return Math.round(v * 10.0) / 10.0;
+    /** m → km, 소수 첫째 자리 반올림 */
+    private static Double toKm(Double meters) {
+        if (meters == null) return null;
+        return Math.round(meters / 100.0) / 10.0;
     }
-}
\ No newline at end of file
+}
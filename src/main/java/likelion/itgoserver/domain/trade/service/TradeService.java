@@ -5,7 +5,7 @@ import likelion.itgoserver.domain.claim.entity.ClaimStatus;
 import likelion.itgoserver.domain.claim.repository.ClaimRepository;
 import likelion.itgoserver.domain.image.repository.ShareImageRepository;
 import likelion.itgoserver.domain.share.entity.ShareImage;
-import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.domain.share.stock.ShareStockService;
 import likelion.itgoserver.domain.store.entity.Store;
 import likelion.itgoserver.domain.trade.dto.TradeDetailResponse;
 import likelion.itgoserver.domain.trade.entity.Trade;
@@ -14,19 +14,25 @@ import likelion.itgoserver.domain.trade.repository.TradeRepository;
 import likelion.itgoserver.global.error.GlobalErrorCode;
 import likelion.itgoserver.global.error.exception.CustomException;
 import likelion.itgoserver.global.infra.s3.service.PublicUrlResolver;
+import likelion.itgoserver.global.support.tx.TransactionRetryExecutor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class TradeService {
 
     private final TradeRepository tradeRepository;
     private final ClaimRepository claimRepository;
-    private final ShareRepository shareRepository;
     private final ShareImageRepository shareImageRepository;
     private final PublicUrlResolver publicUrlResolver;
+    private final ShareStockService shareStockService;
+    private final TransactionRetryExecutor transactionRetryExecutor;
 
     /**
      * Claim 수락 직후 호출해 Trade 생성
@@ -36,12 +42,11 @@ public class TradeService {
         // 1. 동일 claim으로 이미 Trade가 있으면 반환
         tradeRepository.findByClaimId(claim.getId()).orElseGet(() -> {
             // 2) 대표 이미지 키 스냅샷(seq=0)
-            String primaryKey = shareImageRepository
+            ShareImage primaryImage = shareImageRepository
                     .findByShareIdAndSeq(claim.getShare().getId(), 0)
-                    .map(ShareImage::getObjectKey)
                     .orElse(null);
 
-            Trade trade = Trade.fromAcceptedClaim(claim, primaryKey);
+            Trade trade = Trade.fromAcceptedClaim(claim, primaryImage);
             try {
                 return tradeRepository.save(trade);
             } catch (org.springframework.dao.DataIntegrityViolationException e) {
@@ -51,6 +56,33 @@ public class TradeService {
         });
     }
 
+    /**
+     * 일괄 수락된 Claim 들(같은 Share)의 Trade 를 한 번에 생성
+     * - 대표 이미지 조회 1회, 이미 거래가 있는 Claim 은 건너뜀
+     * @return claimId → tradeId
+     */
+    @Transactional
+    public Map<Long, Long> createFromAcceptedClaims(Long shareId, List<Claim> claims) {
+        if (claims.isEmpty()) return Map.of();
+
+        List<Long> claimIds = claims.stream().map(Claim::getId).toList();
+        Map<Long, Long> tradeIdByClaimId = new HashMap<>();
+        tradeRepository.findTradeIdsByClaimIds(claimIds)
+                .forEach(t -> tradeIdByClaimId.put(t.getClaimId(), t.getTradeId()));
+
+        ShareImage primaryImage = shareImageRepository
+                .findByShareIdAndSeq(shareId, 0)
+                .orElse(null);
+
+        List<Trade> trades = claims.stream()
+                .filter(c -> !tradeIdByClaimId.containsKey(c.getId()))
+                .map(c -> Trade.fromAcceptedClaim(c, primaryImage))
+                .toList();
+        tradeRepository.saveAll(trades)
+                .forEach(t -> tradeIdByClaimId.put(t.getClaim().getId(), t.getId()));
+        return tradeIdByClaimId;
+    }
+
     /** 상세 조회 */
     @Transactional(readOnly = true)
     public TradeDetailResponse get(Long tradeId) {
@@ -110,9 +142,12 @@ public class TradeService {
         return get(tradeId);
     }
 
-    /** 나눔 취소 */
-    @Transactional
+    /** 나눔 취소 (동시성 충돌 시 트랜잭션 단위 재시도) */
     public TradeDetailResponse cancel(Long tradeId) {
+        return transactionRetryExecutor.execute("trade.cancel", () -> cancelOnce(tradeId));
+    }
+
+    private TradeDetailResponse cancelOnce(Long tradeId) {
         // Trade 잠금
         Trade trade = tradeRepository.findByIdForUpdate(tradeId)
                 .orElseThrow(() -> new CustomException(GlobalErrorCode.NOT_FOUND, "trade가 존재하지 않습니다. id=" + tradeId));
@@ -130,9 +165,7 @@ public class TradeService {
 
         // 재고 복구
         if (claim.getStatus() != ClaimStatus.CANCELED) {
-            var share = shareRepository.findByIdForUpdate(trade.getShare().getId())
-                    .orElseThrow(() -> new CustomException(GlobalErrorCode.NOT_FOUND, "share가 존재하지 않습니다. id=" + trade.getShare().getId()));
-            share.increaseQuantity(claim.getQuantity());
+            shareStockService.increase(trade.getShare().getId(), claim.getQuantity());
             claim.cancel();
         }
 
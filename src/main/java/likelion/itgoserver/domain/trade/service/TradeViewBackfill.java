@@ -0,0 +1,53 @@
+package likelion.itgoserver.domain.trade.service;
+
+import likelion.itgoserver.domain.trade.repository.TradeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 읽기 모델 컬럼 도입 이전에 생성된 Trade 의 스냅샷 채우기 (기동 시 1회, 배치 단위 커밋)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TradeViewBackfill {
+
+    private static final int BATCH = 500;
+
+    private final TradeRepository tradeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int total = 0;
+            long after = 0L;
+            while (true) {
+                final long from = after;
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> batch = tradeRepository.findIdsWithoutView(from, PageRequest.of(0, BATCH));
+                    if (!batch.isEmpty()) {
+                        tradeRepository.refreshStoreSnapshotsByIds(batch);
+                        tradeRepository.fillPickupTimes(batch);
+                    }
+                    return batch;
+                });
+                if (ids == null || ids.isEmpty()) break;
+
+                total += ids.size();
+                after = ids.get(ids.size() - 1);
+                if (ids.size() < BATCH) break;
+            }
+            if (total > 0) log.info("[TradeView] backfill trades={}", total);
+        } catch (Exception e) {
+            log.warn("[TradeView] backfill 실패", e);
+        }
+    }
+}
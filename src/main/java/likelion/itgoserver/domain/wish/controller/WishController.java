@@ -5,9 +5,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import likelion.itgoserver.domain.wish.dto.WishCardResponse;
 import likelion.itgoserver.domain.wish.dto.WishCreateAndMatchResponse;
+import likelion.itgoserver.domain.wish.dto.WishMatchCountResponse;
 import likelion.itgoserver.domain.wish.dto.WishUpsertRequest;
 import likelion.itgoserver.domain.wish.service.WishService;
 import likelion.itgoserver.global.response.ApiResponse;
+import likelion.itgoserver.global.support.idempotency.Idempotent;
 import likelion.itgoserver.global.support.resolver.CurrentMemberId;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
@@ -33,12 +35,14 @@ public class WishController {
             사용자가 Wish를 저장하면, 같은 트랜잭션 흐름에서 조건을 만족하는 Share 리스트를 같이 반환
             기본 매칭 조건:
             1) wish.store.address.dong == share.store.address.dong
-            2) wish.itemName == share.itemName
+            2) 품목명 정규화 토큰 일치 (공백/대소문자/동의어 무시)
             3) share.quantity >= wish.quantity
             4) 거래 가능 시간대가 겹침 (open/close overlap)
             + 유통기한 및 km 반경 선택 옵션
+            응답은 hasNext 만 포함, 총 개수는 GET /wish/{wishId}/matches/count
             """
     )
+    @Idempotent
     @PostMapping("/match")
     public ApiResponse<WishCreateAndMatchResponse> createAndMatch(
             @CurrentMemberId Long memberId,
@@ -49,6 +53,18 @@ public class WishController {
         return ApiResponse.success(resp, "나눔 요청 등록 완료");
     }
 
+    @Operation(
+            summary = "Wish 매칭 총 개수",
+            description = "Wish 생성 응답은 hasNext 만 제공하므로, 총 개수가 필요할 때만 호출"
+    )
+    @GetMapping("/{wishId}/matches/count")
+    public ApiResponse<WishMatchCountResponse> countMatches(
+            @CurrentMemberId Long memberId,
+            @PathVariable Long wishId
+    ) {
+        return ApiResponse.success(wishService.countMatches(memberId, wishId), "매칭 개수 조회 완료");
+    }
+
     @Operation(summary = "사용자가 올린 모든 Wish 카드 리스트")
     @GetMapping()
     public ApiResponse<Page<WishCardResponse>> myShares(
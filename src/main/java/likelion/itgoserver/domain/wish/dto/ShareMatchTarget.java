@@ -0,0 +1,44 @@
+package likelion.itgoserver.domain.wish.dto;
+
+import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.store.entity.Address;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 매칭 라운드 입력 (Share 에서 매칭 조건에 쓰는 값만 트랜잭션 안에서 복사)
+ */
+public record ShareMatchTarget(
+        Long shareId,
+        Long storeId,
+        String dong,
+        double latitude,
+        double longitude,
+        String itemName,
+        int quantity,
+        LocalDate expirationDate,
+        LocalTime openTime,
+        LocalTime closeTime
+) {
+    public static ShareMatchTarget of(Share share) {
+        Address addr = share.getStore().getAddress();
+        return new ShareMatchTarget(
+                share.getId(),
+                share.getStore().getId(),
+                addr.getDong(),
+                addr.getLatitude(),
+                addr.getLongitude(),
+                share.getItemName(),
+                share.getQuantity() == null ? 0 : share.getQuantity(),
+                share.getExpirationDate(),
+                share.getOpenTime(),
+                share.getCloseTime()
+        );
+    }
+
+    /** 매칭 대상 여부 (재고 > 0, 유통기한 미경과) */
+    public boolean isActiveOn(LocalDate today) {
+        return quantity > 0 && (expirationDate == null || !expirationDate.isBefore(today));
+    }
+}
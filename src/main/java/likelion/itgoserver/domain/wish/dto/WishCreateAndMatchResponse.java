@@ -7,5 +7,7 @@ import java.util.List;
 @Schema(description = "Wish 생성 + 매칭 응답")
 public record WishCreateAndMatchResponse(
         Long wishId,
-        List<WishMatchItem> matches
+        List<WishMatchItem> matches,
+        @Schema(description = "다음 매칭 결과 존재 여부 (총 개수는 /wish/{wishId}/matches/count)")
+        boolean hasNext
 ) {}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package likelion.itgoserver.domain.wish.dto;
+
+/**
+ * Share 기준으로 찾은 매칭 Wish (id + 가게 간 거리)
+ */
+public record WishMatchCandidate(Long wishId, Double distanceMeters) {
+}
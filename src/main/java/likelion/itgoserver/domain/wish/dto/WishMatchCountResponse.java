@@ -0,0 +1,9 @@
+package likelion.itgoserver.domain.wish.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Wish 매칭 총 개수 응답")
+public record WishMatchCountResponse(
+        Long wishId,
+        long total
+) {}
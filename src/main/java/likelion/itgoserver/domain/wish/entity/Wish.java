@@ -4,11 +4,14 @@ import jakarta.persistence.*;
 import likelion.itgoserver.domain.claim.entity.Claim;
 import likelion.itgoserver.domain.store.entity.Store;
 import likelion.itgoserver.global.support.BaseTimeEntity;
+import likelion.itgoserver.global.support.text.ItemNameNormalizer;
 import lombok.*;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Getter
@@ -58,7 +61,30 @@ public class Wish extends BaseTimeEntity {
     @Builder.Default
     private List<Claim> claims = new ArrayList<>();
 
+    /** 정규화된 품목 토큰 (Share → Wish 매칭용 역색인) */
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "wish_item_token",
+            joinColumns = @JoinColumn(name = "wish_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_wish_item_token", columnNames = {"token", "wish_id"}))
+    @Column(name = "token", nullable = false, length = ItemNameNormalizer.MAX_TOKEN_LENGTH)
+    @Builder.Default
+    private Set<String> itemTokens = new HashSet<>();
+
+    /** itemTokens 개수 (매칭 점수 분모) */
+    @Column(name = "item_token_count")
+    private Integer itemTokenCount;
+
     public void close() {
         this.isActive = false;
     }
+
+    @PrePersist
+    public void refreshItemTokens() {
+        Set<String> fresh = ItemNameNormalizer.tokens(this.itemName);
+        if (!fresh.equals(this.itemTokens)) {
+            this.itemTokens.clear();
+            this.itemTokens.addAll(fresh);
+        }
+        this.itemTokenCount = fresh.size();
+    }
 }
\ No newline at end of file
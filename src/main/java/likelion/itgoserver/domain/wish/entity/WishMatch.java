@@ -0,0 +1,42 @@
+package likelion.itgoserver.domain.wish.entity;
+
+import jakarta.persistence.*;
+import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.global.support.BaseTimeEntity;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Wish ↔ Share 매칭 후보
+ * - Share 생성/수정 후 비동기 매칭 엔진이 기록 (WishMatchingService)
+ * - matchedAt: 마지막으로 매칭이 확인된 시각 (재계산 시 이전 라운드 행 정리에 사용)
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "wish_match",
+        uniqueConstraints = @UniqueConstraint(name = "uk_wish_match_wish_share", columnNames = {"wish_id", "share_id"}),
+        indexes = @Index(name = "idx_wish_match_share", columnList = "share_id, matched_at"))
+public class WishMatch extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "wish_id", nullable = false)
+    private Wish wish;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "share_id", nullable = false)
+    private Share share;
+
+    @Column(name = "distance_meters")
+    private Double distanceMeters;
+
+    @Column(name = "matched_at", nullable = false)
+    private LocalDateTime matchedAt;
+}
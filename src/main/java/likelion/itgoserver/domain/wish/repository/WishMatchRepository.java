@@ -0,0 +1,21 @@
+package likelion.itgoserver.domain.wish.repository;
+
+import likelion.itgoserver.domain.wish.entity.WishMatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface WishMatchRepository extends JpaRepository<WishMatch, Long>, WishMatchRepositoryCustom {
+
+    @Modifying
+    @Query("delete from WishMatch m where m.share.id = :shareId")
+    int deleteByShareId(@Param("shareId") Long shareId);
+
+    /** 이번 라운드에서 다시 확인되지 않은(= 더 이상 매칭되지 않는) 행 정리 */
+    @Modifying
+    @Query("delete from WishMatch m where m.share.id = :shareId and m.matchedAt < :round")
+    int deleteStale(@Param("shareId") Long shareId, @Param("round") LocalDateTime round);
+}
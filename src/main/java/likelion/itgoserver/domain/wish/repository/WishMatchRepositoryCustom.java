@@ -0,0 +1,12 @@
+package likelion.itgoserver.domain.wish.repository;
+
+import likelion.itgoserver.domain.wish.dto.WishMatchCandidate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface WishMatchRepositoryCustom {
+
+    /** (wish, share) 단위 upsert, JDBC batch 로 한 번에 전송 */
+    int upsertAll(Long shareId, List<WishMatchCandidate> candidates, LocalDateTime matchedAt);
+}
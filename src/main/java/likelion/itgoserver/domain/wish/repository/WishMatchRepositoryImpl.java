@@ -0,0 +1,47 @@
+package likelion.itgoserver.domain.wish.repository;
+
+import likelion.itgoserver.domain.wish.dto.WishMatchCandidate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * wish_match 배치 upsert
+ * - matched_at 은 앞으로만 이동 (늦게 끝난 이전 라운드가 최신 라운드 결과를 덮지 않도록)
+ * - MySQL 은 SET 절을 왼쪽부터 평가하므로 matched_at 갱신은 마지막에 둠
+ */
+@Repository
+@RequiredArgsConstructor
+public class WishMatchRepositoryImpl implements WishMatchRepositoryCustom {
+
+    private static final String UPSERT_SQL = """
+            insert into wish_match (wish_id, share_id, distance_meters, matched_at, reg_date, mod_date)
+            values (?, ?, ?, ?, now(6), now(6))
+            on duplicate key update
+                distance_meters = if(values(matched_at) >= matched_at, values(distance_meters), distance_meters),
+                mod_date = if(values(matched_at) >= matched_at, now(6), mod_date),
+                matched_at = greatest(matched_at, values(matched_at))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int upsertAll(Long shareId, List<WishMatchCandidate> candidates, LocalDateTime matchedAt) {
+        if (candidates.isEmpty()) return 0;
+
+        Timestamp round = Timestamp.valueOf(matchedAt);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, candidates, candidates.size(), (ps, c) -> {
+            ps.setLong(1, c.wishId());
+            ps.setLong(2, shareId);
+            if (c.distanceMeters() == null) ps.setNull(3, Types.DOUBLE);
+            else ps.setDouble(3, c.distanceMeters());
+            ps.setTimestamp(4, round);
+        });
+        return candidates.size();
+    }
+}
@@ -4,9 +4,18 @@ import likelion.itgoserver.domain.wish.entity.Wish;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface WishRepository extends JpaRepository<Wish, Long> {
+import java.util.List;
+
+public interface WishRepository extends JpaRepository<Wish, Long>, WishRepositoryCustom {
     Page<Wish> findByStoreId(Long storeId, Pageable pageable);
 
     Page<Wish> findByStoreIdAndIsActiveTrue(Long storeId, Pageable pageable);
+
+    @Query("select w from Wish w where w.id > :afterId and w.itemTokenCount is null order by w.id asc")
+    List<Wish> findWithoutItemTokens(@Param("afterId") Long afterId, Pageable pageable);
+
+    List<Wish> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
\ No newline at end of file
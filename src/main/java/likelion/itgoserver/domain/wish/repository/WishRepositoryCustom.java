@@ -0,0 +1,27 @@
+package likelion.itgoserver.domain.wish.repository;
+
+import likelion.itgoserver.domain.wish.dto.WishMatchCandidate;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+public interface WishRepositoryCustom {
+
+    /**
+     * Share 조건에 맞는 진행중 Wish (wish.id ASC keyset 배치)
+     * - 품목은 정규화 토큰이 wish 토큰 수 대비 일정 비율 이상 겹치면 매칭
+     */
+    List<WishMatchCandidate> findActiveMatchesForShare(
+            String dong,
+            Set<String> itemTokens,
+            int shareQuantity,
+            LocalTime openTime,
+            LocalTime closeTime,
+            Long shareStoreId,
+            double shareLat,
+            double shareLng,
+            Long afterWishId,
+            int limit
+    );
+}
@@ -0,0 +1,72 @@
+package likelion.itgoserver.domain.wish.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import likelion.itgoserver.domain.wish.dto.WishMatchCandidate;
+import likelion.itgoserver.global.support.geo.BoundingBox;
+import likelion.itgoserver.global.support.geo.GeoExpressions;
+import likelion.itgoserver.global.support.time.TimeWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static likelion.itgoserver.domain.store.entity.QStore.store;
+import static likelion.itgoserver.domain.wish.entity.QWish.wish;
+
+@Repository
+@RequiredArgsConstructor
+public class WishRepositoryImpl implements WishRepositoryCustom {
+
+    private final JPAQueryFactory query;
+
+    @Value("${app.share.search-radius-km:3.0}")
+    private double searchRadiusKm;
+
+    @Value("${app.match.min-token-score:0.5}")
+    private double minTokenScore;
+
+    @Override
+    public List<WishMatchCandidate> findActiveMatchesForShare(
+            String dong, Set<String> itemTokens, int shareQuantity,
+            LocalTime openTime, LocalTime closeTime, Long shareStoreId,
+            double shareLat, double shareLng, Long afterWishId, int limit) {
+
+        if (itemTokens.isEmpty()) return List.of();
+
+        NumberExpression<Double> distMeters = GeoExpressions.distanceSphere(
+                store.address.latitude, store.address.longitude, shareLat, shareLng);
+
+        // 토큰 테이블과 한 번 조인 + wish 별 GROUP BY 로 겹친 토큰 수 계산 (상관 서브쿼리 없음)
+        StringPath token = Expressions.stringPath("matchToken");
+
+        return query
+                .select(Projections.constructor(WishMatchCandidate.class, wish.id, distMeters))
+                .from(wish)
+                .join(wish.store, store)
+                .join(wish.itemTokens, token)
+                .where(
+                        store.address.dong.eq(dong),
+                        GeoExpressions.mbrContains(BoundingBox.around(shareLat, shareLng, searchRadiusKm), store.address.location),
+                        store.id.ne(shareStoreId),
+                        wish.isActive.isTrue(),
+                        token.in(itemTokens),
+                        wish.quantity.loe(shareQuantity),
+                        // 시간대 겹침 (자정 넘김 포함, findMatchesForWish 와 동일 규칙)
+                        TimeWindow.of(openTime, closeTime).overlapPredicate(wish.openTime, wish.closeTime),
+                        afterWishId == null ? null : wish.id.gt(afterWishId)
+                )
+                .groupBy(wish.id, store.id)
+                .having(token.count().goe(
+                        Expressions.numberTemplate(Long.class, "greatest(1, ceiling({0} * {1}))", wish.itemTokenCount, minTokenScore)))
+                .orderBy(wish.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
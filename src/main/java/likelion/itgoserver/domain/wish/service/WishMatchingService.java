@@ -0,0 +1,113 @@
+package likelion.itgoserver.domain.wish.service;
+
+import likelion.itgoserver.domain.share.event.ShareSavedEvent;
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.domain.wish.dto.ShareMatchTarget;
+import likelion.itgoserver.domain.wish.dto.WishMatchCandidate;
+import likelion.itgoserver.domain.wish.repository.WishMatchRepository;
+import likelion.itgoserver.domain.wish.repository.WishRepository;
+import likelion.itgoserver.global.support.text.ItemNameNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Share → Wish 방향 매칭 엔진
+ * - Share 생성/수정 커밋 후 비동기로 실행 (등록 API 지연 없음)
+ * - 같은 동네 / 품목 토큰 일치 / 수량 충족 / 시간대 겹침 Wish 를 keyset 배치로 찾아 wish_match 에 upsert
+ * - 이번 라운드에 다시 확인되지 않은 기존 후보는 마지막에 정리
+ * - 같은 Share 의 라운드는 인스턴스 안에서 직렬화 (진행 중에 들어온 요청은 끝난 뒤 한 번으로 합쳐 재실행)
+ * - 인스턴스 간에는 upsert 가 matched_at 을 되돌리지 않으므로 늦게 끝난 이전 라운드가 최신 결과를 덮지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WishMatchingService {
+
+    private final ShareRepository shareRepository;
+    private final WishRepository wishRepository;
+    private final WishMatchRepository wishMatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.match.batch-size:500}")
+    private int batchSize;
+
+    /** 라운드 진행 중인 shareId → 진행 중 재실행 요청 여부 */
+    private final Map<Long, Boolean> running = new ConcurrentHashMap<>();
+
+    @Async("matchingExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onShareSaved(ShareSavedEvent event) {
+        try {
+            matchShare(event.shareId());
+        } catch (Exception e) {
+            log.warn("[WishMatch] 매칭 실패 shareId={}", event.shareId(), e);
+        }
+    }
+
+    /**
+     * @return 매칭 수, 같은 Share 의 라운드가 이미 진행 중이면 재실행만 예약하고 0
+     */
+    public int matchShare(Long shareId) {
+        // 없으면 FALSE 로 등록해 이 스레드가 실행, 있으면 TRUE(재실행 요청)로 바꾸고 반환
+        if (running.compute(shareId, (k, v) -> (v == null) ? Boolean.FALSE : Boolean.TRUE)) return 0;
+        try {
+            while (true) {
+                running.replace(shareId, Boolean.FALSE);
+                int matched = runRound(shareId);
+                if (running.remove(shareId, Boolean.FALSE)) return matched;
+            }
+        } catch (RuntimeException e) {
+            running.remove(shareId);
+            throw e;
+        }
+    }
+
+    private int runRound(Long shareId) {
+        ShareMatchTarget s = transactionTemplate.execute(status ->
+                shareRepository.findByIdWithStore(shareId)
+                        .map(ShareMatchTarget::of)
+                        .orElse(null));
+        if (s == null) return 0; // 그 사이 삭제됨
+
+        LocalDateTime round = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int matched = 0;
+
+        if (s.isActiveOn(LocalDate.now())) {
+            Set<String> itemTokens = ItemNameNormalizer.tokens(s.itemName());
+            Long after = null;
+            while (true) {
+                List<WishMatchCandidate> batch = wishRepository.findActiveMatchesForShare(
+                        s.dong(), itemTokens, s.quantity(),
+                        s.openTime(), s.closeTime(), s.storeId(),
+                        s.latitude(), s.longitude(),
+                        after, batchSize
+                );
+                if (batch.isEmpty()) break;
+
+                Integer n = transactionTemplate.execute(status -> wishMatchRepository.upsertAll(shareId, batch, round));
+                matched += (n == null) ? 0 : n;
+
+                if (batch.size() < batchSize) break;
+                after = batch.get(batch.size() - 1).wishId();
+            }
+        }
+
+        Integer stale = transactionTemplate.execute(status -> wishMatchRepository.deleteStale(shareId, round));
+        log.info("[WishMatch] shareId={} matched={} removed={}", shareId, matched, stale);
+        return matched;
+    }
+}
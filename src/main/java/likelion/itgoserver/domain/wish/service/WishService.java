@@ -4,10 +4,12 @@ import likelion.itgoserver.domain.claim.repository.ClaimRepository;
 import likelion.itgoserver.domain.image.repository.ShareImageRepository;
 import likelion.itgoserver.domain.share.dto.ShareWithDistance;
 import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.share.index.ShareGeoIndex;
 import likelion.itgoserver.domain.share.repository.ShareRepository;
 import likelion.itgoserver.domain.store.repository.StoreRepository;
 import likelion.itgoserver.domain.wish.dto.WishCardResponse;
 import likelion.itgoserver.domain.wish.dto.WishCreateAndMatchResponse;
+import likelion.itgoserver.domain.wish.dto.WishMatchCountResponse;
 import likelion.itgoserver.domain.wish.dto.WishMatchItem;
 import likelion.itgoserver.domain.wish.dto.WishUpsertRequest;
 import likelion.itgoserver.domain.wish.entity.Wish;
@@ -15,9 +17,11 @@ import likelion.itgoserver.domain.wish.repository.WishRepository;
 import likelion.itgoserver.domain.store.entity.Store;
 import likelion.itgoserver.global.error.GlobalErrorCode;
 import likelion.itgoserver.global.error.exception.CustomException;
+import likelion.itgoserver.global.infra.image.ThumbnailKeys;
 import likelion.itgoserver.global.infra.s3.service.PublicUrlResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,6 +33,7 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,12 +47,17 @@ public class WishService {
     private final ShareImageRepository shareImageRepository;
     private final ClaimRepository claimRepository;
     private final PublicUrlResolver publicUrlResolver;
+    private final ShareGeoIndex shareGeoIndex;
+
+    @Value("${app.match.window-index.max-in-list:2000}")
+    private int windowIndexMaxInList;
 
     @Transactional
     public WishCreateAndMatchResponse createAndMatch(Long memberId, WishUpsertRequest req, Pageable pageable) {
         // 1. 기본 검증
-        if (!req.openTime().isBefore(req.closeTime())) {
-            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "openTime은 closeTime보다 앞서야 합니다.");
+        // openTime > closeTime 은 자정을 넘기는 시간대로 취급
+        if (req.openTime().equals(req.closeTime())) {
+            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "openTime과 closeTime은 달라야 합니다.");
         }
 
         // 2. store 확인
@@ -67,10 +77,10 @@ public class WishService {
                 .build();
         wish = wishRepository.save(wish);
 
-        // 4) 매칭 쿼리
-        var page = shareRepository.findMatchesForWish(wish.getId(), pageable);
+        // 4) 매칭 쿼리 (Slice: 총 개수는 별도 API)
+        var slice = shareRepository.findMatchesForWish(wish, windowCandidates(wish), pageable);
 
-        List<Long> shareIds = page.getContent().stream()
+        List<Long> shareIds = slice.getContent().stream()
                 .map(swd -> swd.share().getId())
                 .toList();
 
@@ -79,16 +89,29 @@ public class WishService {
                 .stream()
                 .collect(Collectors.toMap(
                         si -> si.getShare().getId(),
-                        si -> publicUrlResolver.toUrl(si.getObjectKey()),
+                        si -> publicUrlResolver.toThumbnailUrl(si.getObjectKey(), ThumbnailKeys.MEDIUM, si.hasThumbnail()),
                         (a, b) -> a
                 ));
 
         // 5) DTO 매핑
-        var items = page.stream()
+        var items = slice.stream()
                 .map(swd -> toMatchItem(swd, primaryUrlByShareId.get(swd.share().getId())))
                 .toList();
 
-        return new WishCreateAndMatchResponse(wish.getId(), items);
+        return new WishCreateAndMatchResponse(wish.getId(), items, slice.hasNext());
+    }
+
+    /**
+     * Wish 매칭 총 개수 (필요할 때만 호출)
+     */
+    @Transactional(readOnly = true)
+    public WishMatchCountResponse countMatches(Long memberId, Long wishId) {
+        Wish wish = wishRepository.findById(wishId)
+                .orElseThrow(() -> new CustomException(GlobalErrorCode.NOT_FOUND, "wish가 존재하지 않습니다. id=" + wishId));
+        if (!wish.getStore().getOwner().getId().equals(memberId)) {
+            throw new CustomException(GlobalErrorCode.INVALID_PERMISSION, "본인 가게의 요청만 조회할 수 있습니다.");
+        }
+        return new WishMatchCountResponse(wishId, shareRepository.countMatchesForWish(wish, windowCandidates(wish)));
     }
 
     public Page<WishCardResponse> listMyWishCards(Long memberId, Pageable pageable) {
@@ -182,4 +205,14 @@ public class WishService {
                 kmRounded
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 픽업 시간대가 겹치는 진행중 Share 후보 (인메모리 시간대 인덱스)
+     * - 인덱스 준비 전이거나 후보가 너무 많으면 null → SQL 시간대 조건
+     */
+    private Set<Long> windowCandidates(Wish wish) {
+        return shareGeoIndex.sharesOverlapping(wish.getStore().getAddress().getDong(), wish.getOpenTime(), wish.getCloseTime())
+                .filter(ids -> ids.size() <= windowIndexMaxInList)
+                .orElse(null);
+    }
+}
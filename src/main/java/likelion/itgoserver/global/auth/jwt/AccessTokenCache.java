@@ -0,0 +1,118 @@
+package likelion.itgoserver.global.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import likelion.itgoserver.global.auth.jwt.dto.UserDetailsImpl;
+import likelion.itgoserver.global.auth.jwt.dto.VerifiedToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 검증 완료된 Access 토큰 캐시
+ * - key : 토큰 SHA-256 다이제스트 (원문 토큰은 보관하지 않음)
+ * - 만료 : 토큰 exp 와 max-ttl 중 빠른 시점
+ * - 적중률/eviction 은 주기 로그로 확인 (jwt.cache.stats-log-interval-ms)
+ */
+@Slf4j
+@Component
+public class AccessTokenCache {
+
+    private final JwtProvider jwtProvider;
+    private final Cache<String, CachedPrincipal> cache;
+    private CacheStats lastLogged = CacheStats.empty();
+
+    public AccessTokenCache(
+            JwtProvider jwtProvider,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this.jwtProvider = jwtProvider;
+
+        long maxTtlNanos = Duration.ofSeconds(maxTtlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+                        long untilExp = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+                        return Math.max(0L, Math.min(untilExp, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Access 토큰 → 사용자 정보
+     * - 캐시 hit : 서명 검증 생략
+     * - 캐시 miss : 검증 후 캐싱 (유효하지 않은 토큰은 캐싱하지 않음)
+     */
+    public Optional<UserDetailsImpl> resolve(String token) {
+        String key = digest(token);
+
+        CachedPrincipal cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(Instant.now())) {
+                return Optional.of(cached.userDetails());
+            }
+            cache.invalidate(key);
+        }
+
+        Optional<VerifiedToken> verified = jwtProvider.verifyAccessToken(token);
+        verified.ifPresent(v -> cache.put(key, new CachedPrincipal(v.toUserDetails(), v.expiresAt())));
+        return verified.map(VerifiedToken::toUserDetails);
+    }
+
+    /** hit/miss/eviction 누적 통계 (기동 이후) */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /** 직전 주기 대비 hit/miss/eviction 로그 (요청이 없던 주기는 생략) */
+    @Scheduled(fixedDelayString = "${jwt.cache.stats-log-interval-ms:60000}")
+    public void logStats() {
+        CacheStats now = stats();
+        CacheStats delta = now.minus(lastLogged);
+        lastLogged = now;
+        if (delta.requestCount() == 0) return;
+        log.info("[TokenCache] hit={} miss={} hitRate={}% eviction={} size={}",
+                delta.hitCount(), delta.missCount(), Math.round(delta.hitRate() * 100),
+                delta.evictionCount(), cache.estimatedSize());
+    }
+
+    /**
+     * 내부 유틸
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원 환경", e);
+        }
+    }
+
+    private record CachedPrincipal(UserDetailsImpl userDetails, Instant expiresAt) {}
+}
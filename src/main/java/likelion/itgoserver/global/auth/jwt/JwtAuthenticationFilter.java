@@ -23,15 +23,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtProvider jwtProvider;
+    private final AccessTokenCache accessTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String token = resolveToken(request);
-        if (StringUtils.hasText(token) && jwtProvider.isValidAccessToken(token)) {
-            setAuthentication(token);
+        if (StringUtils.hasText(token)) {
+            // 캐시 hit 시 서명 검증 생략, miss 시 한 번의 파싱으로 검증
+            accessTokenCache.resolve(token).ifPresent(this::setAuthentication);
         }
         filterChain.doFilter(request, response);
     }
@@ -44,14 +45,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private void setAuthentication(String token) {
-        Long userId = jwtProvider.getUserId(token);
-        Long memberId = jwtProvider.getMemberId(token);
-        String role = jwtProvider.getRole(token);
-
-        // 사용자 정보를 담는 구현체 생성
-        UserDetailsImpl userDetails = new UserDetailsImpl(userId, memberId, role);
-
+    private void setAuthentication(UserDetailsImpl userDetails) {
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
@@ -3,12 +3,15 @@ package likelion.itgoserver.global.auth.jwt;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import likelion.itgoserver.domain.member.entity.Role;
+import likelion.itgoserver.global.auth.jwt.dto.VerifiedToken;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -18,6 +21,7 @@ public class JwtProvider {
     private static final String TOKEN_TYPE_REFRESH = "refresh";
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
@@ -26,6 +30,7 @@ public class JwtProvider {
             @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
             @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
     }
@@ -56,6 +61,43 @@ public class JwtProvider {
         return builder.compact();
     }
 
+    /**
+     * 단일 파싱 검증 : 서명 + 만료 + 타입을 한 번에 확인
+     */
+    public Optional<VerifiedToken> verifyAccessToken(String token) {
+        return verify(token).filter(t -> TOKEN_TYPE_ACCESS.equals(t.tokenType()));
+    }
+
+    public Optional<VerifiedToken> verifyRefreshToken(String token) {
+        return verify(token).filter(t -> TOKEN_TYPE_REFRESH.equals(t.tokenType()));
+    }
+
+    public Optional<VerifiedToken> verify(String token) {
+        Claims claims;
+        try {
+            claims = getClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("토큰 유효성 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        VerifiedToken verified;
+        try {
+            verified = new VerifiedToken(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("memberId", Long.class),
+                    claims.get("role", String.class),
+                    claims.get("tokenType", String.class),
+                    claims.getExpiration() == null ? null : claims.getExpiration().toInstant()
+            );
+        } catch (RuntimeException e) {
+            log.debug("토큰 클레임 추출 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        return verified.isExpired(Instant.now()) ? Optional.empty() : Optional.of(verified);
+    }
+
     /**
      * 클레임 추출
      */
@@ -79,57 +121,18 @@ public class JwtProvider {
      * 토큰 유효성 및 상태 검증
      */
     public boolean isValidAccessToken(String token) {
-        return validateToken(token) && !isTokenExpired(token) && isAccessToken(token);
+        return verifyAccessToken(token).isPresent();
     }
 
     public boolean isValidRefreshToken(String token) {
-        return validateToken(token) && !isTokenExpired(token) && isRefreshToken(token);
-    }
-
-    private boolean isRefreshToken(String token) {
-        return TOKEN_TYPE_REFRESH.equals(getTokenType(token));
-    }
-
-    private boolean isAccessToken(String token) {
-        return TOKEN_TYPE_ACCESS.equals(getTokenType(token));
-    }
-
-    private String getTokenType(String token) {
-        try {
-            return getClaims(token).get("tokenType", String.class);
-        } catch (JwtException | IllegalArgumentException e) {
-            log.debug("토큰 타입 추출 실패: {}", e.getMessage());
-            return null;
-        }
-    }
-
-    private boolean validateToken(String token) {
-        try {
-            getClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.debug("토큰 유효성 검증 실패: {}", e.getMessage());
-            return false;
-        }
-    }
-
-    private boolean isTokenExpired(String token) {
-        try {
-            return getExpiration(token).before(new Date());
-        } catch (JwtException | IllegalArgumentException e) {
-            log.debug("만료 확인 중 예외 발생: {}", e.getMessage());
-            return true;
-        }
+        return verifyRefreshToken(token).isPresent();
     }
 
     /**
      * 내부 유틸
      */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
 }
\ No newline at end of file
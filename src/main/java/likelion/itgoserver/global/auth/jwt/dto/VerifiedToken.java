@@ -0,0 +1,22 @@
+package likelion.itgoserver.global.auth.jwt.dto;
+
+import java.time.Instant;
+
+/**
+ * 서명/만료 검증을 한 번에 끝낸 토큰의 불변 뷰
+ */
+public record VerifiedToken(
+        Long userId,
+        Long memberId,
+        String role,
+        String tokenType,
+        Instant expiresAt
+) {
+    public boolean isExpired(Instant now) {
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
+
+    public UserDetailsImpl toUserDetails() {
+        return new UserDetailsImpl(userId, memberId, role);
+    }
+}
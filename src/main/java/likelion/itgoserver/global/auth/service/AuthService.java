@@ -7,6 +7,7 @@ import likelion.itgoserver.domain.user.entity.User;
 import likelion.itgoserver.domain.user.repository.UserRepository;
 import likelion.itgoserver.global.auth.dto.TokenRefreshResponse;
 import likelion.itgoserver.global.auth.jwt.JwtProvider;
+import likelion.itgoserver.global.auth.jwt.dto.VerifiedToken;
 import likelion.itgoserver.global.error.GlobalErrorCode;
 import likelion.itgoserver.global.error.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -66,8 +67,9 @@ public class AuthService {
             accessToken = accessToken.substring(7);
         }
 
-        Long userId = jwtProvider.getUserId(accessToken);
-        refreshTokenService.delete(userId);
+        VerifiedToken token = jwtProvider.verifyAccessToken(accessToken)
+                .orElseThrow(() -> new CustomException(GlobalErrorCode.INVALID_TOKEN, "유효하지 않은 Access 토큰입니다."));
+        refreshTokenService.delete(token.userId());
     }
 
     /**
@@ -75,13 +77,10 @@ public class AuthService {
      */
     public TokenRefreshResponse reissueTokens(String refreshToken) {
 
-        // 1. 리프레시 토큰 JWT 유효성 검증
-        if (!jwtProvider.isValidRefreshToken(refreshToken)) {
-            throw new CustomException(GlobalErrorCode.INVALID_REFRESH_TOKEN, "유효하지 않은 Refresh 토큰입니다.");
-        }
-
-        // 2. 사용자 ID 추출
-        Long userId = jwtProvider.getUserId(refreshToken);
+        // 1. 리프레시 토큰 JWT 유효성 검증 + 2. 사용자 ID 추출 (단일 파싱)
+        VerifiedToken verified = jwtProvider.verifyRefreshToken(refreshToken)
+                .orElseThrow(() -> new CustomException(GlobalErrorCode.INVALID_REFRESH_TOKEN, "유효하지 않은 Refresh 토큰입니다."));
+        Long userId = verified.userId();
 
         // 3. Redis에 저장된 토큰과 일치 여부 + 블랙리스트 검증 포함
         if (!refreshTokenService.validateToken(userId, refreshToken)) {
@@ -0,0 +1,101 @@
+package likelion.itgoserver.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Wish ↔ Share 매칭 전용 풀
+     * - 큐가 가득 차면 호출 스레드에서 실행 (유실보다 지연을 택함)
+     */
+    @Bean(name = "matchingExecutor")
+    public ThreadPoolTaskExecutor matchingExecutor(
+            @Value("${app.match.executor.core-size:2}") int coreSize,
+            @Value("${app.match.executor.max-size:4}") int maxSize,
+            @Value("${app.match.executor.queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("match-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * S3 HEAD/복사 등 블로킹 I/O 병렬 처리용 풀 (요청 스레드가 결과를 기다림)
+     * - 큐가 가득 차면 호출 스레드에서 실행
+     */
+    @Bean(name = "s3Executor")
+    public ThreadPoolTaskExecutor s3Executor(
+            @Value("${app.s3.executor.core-size:8}") int coreSize,
+            @Value("${app.s3.executor.max-size:16}") int maxSize,
+            @Value("${app.s3.executor.queue-capacity:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Share 이미지 비동기 확정 워커 풀
+     * - 작업은 DB(image_finalize_job)에 남아 있으므로 큐가 가득 차면 버리고 폴러가 이어받음
+     */
+    @Bean(name = "imageFinalizeExecutor")
+    public ThreadPoolTaskExecutor imageFinalizeExecutor(
+            @Value("${app.image.finalize.executor.core-size:2}") int coreSize,
+            @Value("${app.image.finalize.executor.max-size:4}") int maxSize,
+            @Value("${app.image.finalize.executor.queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("img-finalize-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 썸네일 생성 풀 (디코딩이 메모리/CPU 를 많이 쓰므로 작게 고정)
+     * - 큐가 가득 차면 버림 → 생성 대기 상태로 남아 ThumbnailService 주기 보충에서 처리
+     */
+    @Bean(name = "thumbnailExecutor")
+    public ThreadPoolTaskExecutor thumbnailExecutor(
+            @Value("${app.image.thumbnail.executor.pool-size:2}") int poolSize,
+            @Value("${app.image.thumbnail.executor.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumb-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
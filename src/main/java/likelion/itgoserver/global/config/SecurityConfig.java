@@ -1,9 +1,9 @@
 package likelion.itgoserver.global.config;
 
+import likelion.itgoserver.global.auth.jwt.AccessTokenCache;
 import likelion.itgoserver.global.auth.jwt.JwtAccessDeniedHandler;
 import likelion.itgoserver.global.auth.jwt.JwtAuthenticationEntryPoint;
 import likelion.itgoserver.global.auth.jwt.JwtAuthenticationFilter;
-import likelion.itgoserver.global.auth.jwt.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,7 +29,7 @@ import java.util.List;
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
-    private final JwtProvider jwtProvider;
+    private final AccessTokenCache accessTokenCache;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
@@ -41,7 +41,7 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
-        JwtAuthenticationFilter customFilter = new JwtAuthenticationFilter(jwtProvider);
+        JwtAuthenticationFilter customFilter = new JwtAuthenticationFilter(accessTokenCache);
 
         http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -85,8 +85,8 @@ public class SecurityConfig {
         ));
 
         cors.setAllowedMethods(List.of("GET","POST","PUT","PATCH","DELETE","OPTIONS"));
-        cors.setAllowedHeaders(List.of("Authorization","Content-Type","X-Refresh-Token"));
-        cors.setExposedHeaders(List.of("Authorization","X-Refresh-Token"));
+        cors.setAllowedHeaders(List.of("Authorization","Content-Type","X-Refresh-Token","Idempotency-Key"));
+        cors.setExposedHeaders(List.of("Authorization","X-Refresh-Token","Idempotent-Replayed"));
 
         cors.setAllowCredentials(false);
         cors.setMaxAge(Duration.ofHours(1));
@@ -0,0 +1,60 @@
+package likelion.itgoserver.global.config;
+
+import likelion.itgoserver.domain.store.entity.Address;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * store.location (POINT SRID 4326) 컬럼과 SPATIAL INDEX 보장
+ * - ddl-auto 는 인덱스 종류(SPATIAL)를 지정할 수 없어 기동 시 직접 생성
+ * - ddl-auto 를 끈 환경을 위해 컬럼이 없으면 컬럼도 추가
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpatialIndexInitializer implements ApplicationRunner {
+
+    private static final String TABLE = "store";
+    private static final String COLUMN = "location";
+    private static final String INDEX = "idx_store_location";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (!columnExists()) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD COLUMN " + COLUMN + " " + Address.LOCATION_COLUMN_DEFINITION);
+                log.info("[SpatialIndex] {}.{} 컬럼 추가", TABLE, COLUMN);
+            }
+            if (!indexExists()) {
+                jdbcTemplate.execute("CREATE SPATIAL INDEX " + INDEX + " ON " + TABLE + " (" + COLUMN + ")");
+                log.info("[SpatialIndex] {} 생성", INDEX);
+            }
+        } catch (Exception e) {
+            // 인덱스가 없어도 조회는 동작하므로 기동은 막지 않는다
+            log.warn("[SpatialIndex] 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean columnExists() {
+        Integer cnt = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.columns
+                 WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?
+                """, Integer.class, TABLE, COLUMN);
+        return cnt != null && cnt > 0;
+    }
+
+    private boolean indexExists() {
+        Integer cnt = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                 WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?
+                   AND index_type = 'SPATIAL'
+                """, Integer.class, TABLE, COLUMN);
+        return cnt != null && cnt > 0;
+    }
+}
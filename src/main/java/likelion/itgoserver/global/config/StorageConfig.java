@@ -0,0 +1,52 @@
+package likelion.itgoserver.global.config;
+
+import com.amazonaws.services.s3.AmazonS3;
+import likelion.itgoserver.global.infra.cdn.HmacUrlSigner;
+import likelion.itgoserver.global.infra.storage.LocalObjectStorage;
+import likelion.itgoserver.global.infra.storage.ObjectStorage;
+import likelion.itgoserver.global.infra.storage.S3ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * 이미지 저장소 선택 (app.storage.type)
+ * - s3(기본): AWS S3
+ * - local: 로컬 디렉터리 + HMAC 서명 업로드 URL (local 프로필, AWS 없이 draft → commit 흐름 부하 테스트)
+ */
+@Slf4j
+@Configuration
+public class StorageConfig {
+
+    @Value("${app.storage.type:s3}")
+    private String type;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${app.storage.local.root:./build/local-storage}")
+    private String localRoot;
+
+    @Value("${app.storage.local.base-url:http://localhost:8080/local-storage/}")
+    private String localBaseUrl;
+
+    @Value("${app.storage.local.secret:}")
+    private String localSecret;
+
+    @Bean
+    public ObjectStorage objectStorage(AmazonS3 amazonS3) {
+        return switch (type.trim().toLowerCase(Locale.ROOT)) {
+            case "s3" -> new S3ObjectStorage(amazonS3, bucket);
+            case "local" -> {
+                if (localSecret.isBlank()) throw new IllegalStateException("app.storage.local.secret 가 필요합니다.");
+                log.info("[Storage] local root={}, baseUrl={}", localRoot, localBaseUrl);
+                yield new LocalObjectStorage(Path.of(localRoot), localBaseUrl, new HmacUrlSigner(localSecret));
+            }
+            default -> throw new IllegalStateException("지원하지 않는 app.storage.type: " + type);
+        };
+    }
+}
@@ -1,9 +1,11 @@
 package likelion.itgoserver.global.config;
 
+import likelion.itgoserver.global.support.idempotency.IdempotencyInterceptor;
 import likelion.itgoserver.global.support.resolver.CurrentMemberIdArgumentResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -13,9 +15,15 @@ import java.util.List;
 public class WebConfig implements WebMvcConfigurer {
 
     private final CurrentMemberIdArgumentResolver currentMemberIdArgumentResolver;
+    private final IdempotencyInterceptor idempotencyInterceptor;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentMemberIdArgumentResolver);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(idempotencyInterceptor).addPathPatterns("/api/**");
+    }
 }
\ No newline at end of file
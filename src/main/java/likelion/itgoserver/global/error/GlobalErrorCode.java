@@ -33,6 +33,8 @@ public enum GlobalErrorCode implements ErrorCode {
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "REQUEST_010", "유효하지 않은 토큰입니다."),
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "REQUEST_011", "토큰이 일치하지 않습니다"),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "REQUEST_012", "토큰의 유효기간이 만료되었습니다."),
+    CONFLICT(HttpStatus.CONFLICT, "REQUEST_013", "다른 요청과 충돌했습니다. 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "REQUEST_014", "같은 Idempotency-Key 로 다른 요청이 전송되었습니다."),
 
     /**
      * 500 : 응답 실패
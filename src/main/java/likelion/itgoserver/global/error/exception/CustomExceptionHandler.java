@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import likelion.itgoserver.global.error.GlobalErrorCode;
 import likelion.itgoserver.global.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -46,6 +47,14 @@ public class CustomExceptionHandler {
                 .body(ApiResponse.fail(GlobalErrorCode.NOT_FOUND));
     }
 
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ApiResponse> handleConflictException(Exception e) {
+        log.warn("ConcurrencyFailureException : {}", e.getMessage());
+        return ResponseEntity
+                .status(GlobalErrorCode.CONFLICT.getStatus())
+                .body(ApiResponse.fail(GlobalErrorCode.CONFLICT));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse> handleException(Exception e) {
         log.error("Exception : {}", e.getMessage(), e);
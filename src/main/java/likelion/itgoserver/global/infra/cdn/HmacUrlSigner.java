@@ -0,0 +1,54 @@
+package likelion.itgoserver.global.infra.cdn;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 로컬/테스트용 서명기 : HMAC-SHA256(url + "|" + expires)
+ * - 결과 쿼리: expires, sig (verify 로 검증)
+ */
+public class HmacUrlSigner implements UrlSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public HmacUrlSigner(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("app.cdn.signed-urls.hmac.secret 가 필요합니다.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    @Override
+    public String sign(String url, Instant expiresAt) {
+        long epoch = expiresAt.getEpochSecond();
+        return url + (url.indexOf('?') >= 0 ? '&' : '?')
+                + "expires=" + epoch
+                + "&sig=" + signature(url, epoch);
+    }
+
+    /** sign 결과 URL 검증 (서명 일치 + 만료 전) */
+    public boolean verify(String url, long expiresEpoch, String sig, Instant now) {
+        if (sig == null || now.getEpochSecond() >= expiresEpoch) return false;
+        return MessageDigest.isEqual(
+                signature(url, expiresEpoch).getBytes(StandardCharsets.US_ASCII),
+                sig.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String signature(String url, long epoch) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] raw = mac.doFinal((url + "|" + epoch).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("URL 서명 실패", e);
+        }
+    }
+}
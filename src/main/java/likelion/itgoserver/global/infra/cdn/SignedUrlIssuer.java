@@ -0,0 +1,121 @@
+package likelion.itgoserver.global.infra.cdn;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 URL 발급 (app.cdn.signed-urls.enabled=true 일 때만 동작)
+ * - 만료 시각을 window 단위로 맞춤 → 같은 window 안에서는 서버/요청이 달라도 같은 URL (브라우저/CDN 캐시 적중)
+ * - 발급 URL 은 window 가 끝날 때까지 키별 캐시에서 재사용, 만료는 그보다 min-remaining 만큼 뒤
+ *   → 캐시에서 꺼낸 URL 도 최소 min-remaining 동안은 유효
+ * - UrlSigner / Clock 빈이 따로 등록돼 있으면(테스트 스텁 등) 그것을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SignedUrlIssuer {
+
+    private final ObjectProvider<UrlSigner> signerOverride;
+    private final ObjectProvider<Clock> clockOverride;
+
+    @Value("${app.cdn.signed-urls.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.cdn.signed-urls.signer:cloudfront}")
+    private String signerType;
+
+    @Value("${app.cdn.signed-urls.window-seconds:3600}")
+    private long windowSeconds;
+
+    @Value("${app.cdn.signed-urls.min-remaining-seconds:300}")
+    private long minRemainingSeconds;
+
+    @Value("${app.cdn.signed-urls.cache-max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${app.cdn.signed-urls.cloudfront.key-pair-id:}")
+    private String keyPairId;
+
+    @Value("${app.cdn.signed-urls.cloudfront.private-key:}")
+    private String privateKeyPem;
+
+    @Value("${app.cdn.signed-urls.hmac.secret:}")
+    private String hmacSecret;
+
+    private Clock clock;
+    private UrlSigner signer;
+    private Cache<String, SignedUrl> cache;
+
+    /** 발급된 서명 URL 과 재사용 마감 시각 */
+    private record SignedUrl(String url, Instant reuseUntil) {}
+
+    @PostConstruct
+    void init() {
+        if (!enabled) return;
+        if (windowSeconds <= 0) throw new IllegalStateException("app.cdn.signed-urls.window-seconds 는 0보다 커야 합니다.");
+
+        clock = clockOverride.getIfAvailable(Clock::systemUTC);
+        signer = signerOverride.getIfAvailable(this::createSigner);
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis())) // 만료 계산을 같은 시계로
+                .expireAfter(new Expiry<String, SignedUrl>() {
+                    @Override
+                    public long expireAfterCreate(String key, SignedUrl value, long currentTime) {
+                        return Math.max(0L, Duration.between(clock.instant(), value.reuseUntil()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, SignedUrl value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, SignedUrl value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        log.info("[SignedUrl] enabled signer={}, window={}s", signer.getClass().getSimpleName(), windowSeconds);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** objectKey 단위로 캐시된 서명 URL, 없거나 window 가 지났으면 새로 서명 */
+    public String issue(String objectKey, String url) {
+        Instant now = clock.instant();
+        SignedUrl cached = cache.getIfPresent(objectKey);
+        if (cached != null && now.isBefore(cached.reuseUntil())) return cached.url();
+
+        long windowStart = Math.floorDiv(now.getEpochSecond(), windowSeconds) * windowSeconds;
+        Instant reuseUntil = Instant.ofEpochSecond(windowStart + windowSeconds);
+        Instant expiresAt = reuseUntil.plusSeconds(minRemainingSeconds);
+
+        SignedUrl fresh = new SignedUrl(signer.sign(url, expiresAt), reuseUntil);
+        cache.put(objectKey, fresh);
+        return fresh.url();
+    }
+
+    private UrlSigner createSigner() {
+        return switch (signerType.trim().toLowerCase(Locale.ROOT)) {
+            case "cloudfront" -> new CloudFrontUrlSigner(keyPairId, privateKeyPem);
+            case "hmac" -> new HmacUrlSigner(hmacSecret);
+            default -> throw new IllegalStateException("지원하지 않는 app.cdn.signed-urls.signer: " + signerType);
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package likelion.itgoserver.global.infra.cdn;
+
+import java.time.Instant;
+
+/**
+ * 비공개 버킷 객체에 접근하는 서명 URL 생성기 (app.cdn.signed-urls.signer 로 선택)
+ */
+public interface UrlSigner {
+
+    /** url 에 만료 시각 expiresAt 까지 유효한 서명을 붙여 반환 */
+    String sign(String url, Instant expiresAt);
+}
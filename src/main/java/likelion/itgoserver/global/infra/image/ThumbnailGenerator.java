@@ -0,0 +1,138 @@
+package likelion.itgoserver.global.infra.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 원본 이미지 → 고정 폭 JPEG 썸네일
+ * - JDK ImageIO 로 디코딩 가능한 형식(JPEG/PNG/GIF)만 처리, 그 외(WebP 등)는 UnreadableImageException
+ * - 디코딩 전에 헤더로 해상도를 확인해 max-pixels 초과 이미지는 거부 (압축 폭탄 방어)
+ * - 원본이 목표 폭보다 훨씬 크면 디코딩 단계에서 행/열을 건너뛰어 읽음 (전체 해상도 비트맵을 만들지 않음)
+ * - 원본보다 큰 폭은 확대하지 않음, 투명 배경은 흰색으로
+ */
+@Component
+public class ThumbnailGenerator {
+
+    @Value("${app.image.thumbnail.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${app.image.thumbnail.quality:0.8}")
+    private float quality;
+
+    /** 디코딩할 수 없는(또는 허용 범위를 벗어난) 이미지 → 재시도 무의미 */
+    public static class UnreadableImageException extends RuntimeException {
+        public UnreadableImageException(String message) {
+            super(message);
+        }
+    }
+
+    /** @return 폭 → JPEG 바이트 (요청 순서) */
+    public Map<Integer, byte[]> generate(byte[] original, List<Integer> widths) {
+        int maxWidth = widths.stream().mapToInt(Integer::intValue).max().orElse(1);
+        BufferedImage src = decode(original, maxWidth);
+        Map<Integer, byte[]> result = new LinkedHashMap<>();
+        for (int width : widths) {
+            result.put(width, encodeJpeg(resize(src, width)));
+        }
+        return result;
+    }
+
+    /**
+     * 내부 메서드
+     */
+    private BufferedImage decode(byte[] bytes, int maxTargetWidth) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = (in == null) ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new UnreadableImageException("지원하지 않는 이미지 형식");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels <= 0 || pixels > maxPixels) {
+                    throw new UnreadableImageException("허용 해상도 초과: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = subsampling(reader.getWidth(0), maxTargetWidth);
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UnreadableImageException("이미지 디코딩 실패: " + e.getMessage());
+        }
+    }
+
+    /** 디코딩 간격 : 읽은 폭이 목표 폭의 2배 아래로 내려가지 않는 최대값 (나머지는 resize 에서 보간) */
+    static int subsampling(int sourceWidth, int maxTargetWidth) {
+        return Math.max(1, sourceWidth / (maxTargetWidth * 2));
+    }
+
+    /** 목표 폭의 2배 이하가 될 때까지 절반씩 줄인 뒤 마지막에 목표 폭으로 (한 번에 크게 줄일 때의 계단 현상 방지) */
+    private static BufferedImage resize(BufferedImage src, int targetWidth) {
+        int w = Math.min(targetWidth, src.getWidth());
+        int h = Math.max(1, Math.round(src.getHeight() * (w / (float) src.getWidth())));
+
+        BufferedImage current = src;
+        int cw = src.getWidth(), ch = src.getHeight();
+        while (cw / 2 >= w * 2) {
+            cw /= 2;
+            ch = Math.max(1, ch / 2);
+            current = draw(current, cw, ch);
+        }
+        return draw(current, w, h);
+    }
+
+    private static BufferedImage draw(BufferedImage src, int w, int h) {
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, w, h);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private byte[] encodeJpeg(BufferedImage img) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bos)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(img, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return bos.toByteArray();
+    }
+}
@@ -0,0 +1,47 @@
+package likelion.itgoserver.global.infra.image;
+
+import java.util.List;
+
+/**
+ * 원본 objectKey → 썸네일 키 (고정 폭, 항상 JPEG)
+ * - shares/10/images/0_ab12.png → thumbs/w480/shares/10/images/0_ab12.jpg
+ * - 키를 결정적으로 만들어 DB 에는 생성 여부(ThumbnailStatus)만 기록
+ */
+public final class ThumbnailKeys {
+
+    /** 작은 아바타(가게 이미지 등) */
+    public static final int SMALL = 240;
+    /** 리스트 카드 */
+    public static final int MEDIUM = 480;
+    public static final List<Integer> WIDTHS = List.of(SMALL, MEDIUM);
+
+    private static final String PREFIX = "thumbs/";
+
+    private ThumbnailKeys() {}
+
+    public static String of(String originalKey, int width) {
+        String key = trimSlashes(originalKey);
+        int slash = key.lastIndexOf('/');
+        int dot = key.lastIndexOf('.');
+        String base = (dot > slash) ? key.substring(0, dot) : key;
+        return PREFIX + "w" + width + "/" + base + ".jpg";
+    }
+
+    public static List<String> allOf(String originalKey) {
+        return WIDTHS.stream().map(w -> of(originalKey, w)).toList();
+    }
+
+    /** 썸네일을 만들 수 있는 원본 키인지 (draft/썸네일/외부 URL 제외) */
+    public static boolean isDerivable(String key) {
+        if (key == null || key.isBlank()) return false;
+        String k = trimSlashes(key);
+        return !k.startsWith(PREFIX) && !k.startsWith("drafts/") && !k.contains("://");
+    }
+
+    private static String trimSlashes(String s) {
+        int start = 0, end = s.length();
+        while (start < end && s.charAt(start) == '/') start++;
+        while (end > start && s.charAt(end - 1) == '/') end--;
+        return s.substring(start, end);
+    }
+}
@@ -0,0 +1,62 @@
+package likelion.itgoserver.global.infra.s3.cleanup;
+
+import likelion.itgoserver.global.infra.image.ThumbnailKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * S3 객체 삭제 예약
+ * - enqueue: 호출측 트랜잭션에 합류 → 커밋되면 삭제, 롤백되면 예약도 사라짐
+ * - enqueueNow: 별도 트랜잭션 (롤백 보상, 트랜잭션 종료 후 훅 등 호출측 트랜잭션과 무관하게 지워야 할 때)
+ * 실제 삭제는 S3CleanupWorker 가 DeleteObjects 배치로 수행, 원본 키는 파생 썸네일 키까지 함께 예약
+ */
+@Component
+@RequiredArgsConstructor
+public class S3CleanupQueue {
+
+    private final S3CleanupTaskRepository repository;
+
+    @Transactional
+    public void enqueue(Collection<String> keys) {
+        save(keys);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueNow(Collection<String> keys) {
+        save(keys);
+    }
+
+    private void save(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) return;
+        List<S3CleanupTask> tasks = keys.stream()
+                .filter(Objects::nonNull)
+                .map(S3CleanupQueue::normalize)
+                .filter(k -> !k.isEmpty())
+                .flatMap(S3CleanupQueue::withThumbnails)
+                .distinct()
+                .map(S3CleanupTask::of)
+                .toList();
+        if (!tasks.isEmpty()) repository.saveAll(tasks);
+    }
+
+    /** 원본이면 파생 썸네일도 함께 (없는 키 삭제는 S3 에서 성공 처리) */
+    private static Stream<String> withThumbnails(String key) {
+        if (!ThumbnailKeys.isDerivable(key)) return Stream.of(key);
+        return Stream.concat(Stream.of(key), ThumbnailKeys.allOf(key).stream());
+    }
+
+    /** DeleteObjects 오류 키와 비교할 수 있도록 앞뒤 '/' 제거 */
+    private static String normalize(String key) {
+        int start = 0, end = key.length();
+        while (start < end && (key.charAt(start) == '/' || Character.isWhitespace(key.charAt(start)))) start++;
+        while (end > start && (key.charAt(end - 1) == '/' || Character.isWhitespace(key.charAt(end - 1)))) end--;
+        return key.substring(start, end);
+    }
+}
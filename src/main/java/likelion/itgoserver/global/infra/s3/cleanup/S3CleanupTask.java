@@ -0,0 +1,65 @@
+package likelion.itgoserver.global.infra.s3.cleanup;
+
+import jakarta.persistence.*;
+import likelion.itgoserver.global.support.BaseTimeEntity;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 대기 S3 객체 (s3_cleanup_task)
+ * - 업무 트랜잭션 안에서 적재 → 커밋된 삭제만 남고, 실패해도 재시도 대상으로 유지
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "s3_cleanup_task",
+        indexes = {
+                @Index(name = "idx_s3_cleanup_task_next", columnList = "next_attempt_at, id"),
+                @Index(name = "idx_s3_cleanup_task_claim", columnList = "claim_token")
+        })
+public class S3CleanupTask extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** 점유 만료 시각 (워커가 죽으면 이후 다른 워커가 다시 집어감) */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static S3CleanupTask of(String objectKey) {
+        return S3CleanupTask.builder()
+                .objectKey(objectKey)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void retryAt(LocalDateTime at, String error) {
+        this.attempts++;
+        this.nextAttemptAt = at;
+        this.lockedUntil = null;
+        this.claimToken = null;
+        this.lastError = (error == null || error.length() <= MAX_ERROR_LENGTH) ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
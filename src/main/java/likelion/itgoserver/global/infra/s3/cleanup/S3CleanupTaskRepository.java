@@ -0,0 +1,35 @@
+package likelion.itgoserver.global.infra.s3.cleanup;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface S3CleanupTaskRepository extends JpaRepository<S3CleanupTask, Long> {
+
+    /**
+     * 실행할 차례인 작업을 최대 limit 개 점유 (UPDATE ... ORDER BY ... LIMIT)
+     * - 조건부 UPDATE 라 여러 인스턴스가 동시에 돌아도 같은 행을 나눠 갖지 않음
+     */
+    @Modifying
+    @Query(value = """
+            update s3_cleanup_task
+               set claim_token = :token, locked_until = :lockedUntil
+             where next_attempt_at <= :now
+               and (locked_until is null or locked_until < :now)
+             order by id
+             limit :limit
+            """, nativeQuery = true)
+    int claim(@Param("token") String token,
+              @Param("now") LocalDateTime now,
+              @Param("lockedUntil") LocalDateTime lockedUntil,
+              @Param("limit") int limit);
+
+    List<S3CleanupTask> findByClaimToken(String claimToken);
+
+    @Query("select count(t) from S3CleanupTask t where t.nextAttemptAt <= :now")
+    long countDue(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,166 @@
+package likelion.itgoserver.global.infra.s3.cleanup;
+
+import likelion.itgoserver.global.infra.s3.service.S3ImageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * s3_cleanup_task 배출
+ * - 주기마다 만기 작업을 최대 1000개씩 점유 → DeleteObjects 한 번 → 성공 행 삭제, 실패 행은 지수 백오프로 재예약
+ * - 한 주기에 max-batches-per-run 배치까지 연속 처리 (적체 시 빠르게 소진)
+ * - 큐 깊이/처리량은 stats-log-interval-ms 주기 로그로 확인 (처리할 게 없어도 대기 중인 작업이 있으면 기록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3CleanupWorker {
+
+    private final S3CleanupTaskRepository repository;
+    private final S3ImageService s3ImageService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.s3.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.s3.cleanup.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.s3.cleanup.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${app.s3.cleanup.backoff-seconds:30}")
+    private long backoffSeconds;
+
+    @Value("${app.s3.cleanup.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    /** 이 횟수 이상 실패한 키는 ERROR 로그 (백오프 상한 간격으로 계속 재시도) */
+    @Value("${app.s3.cleanup.alert-attempts:10}")
+    private int alertAttempts;
+
+    @Value("${app.s3.cleanup.depth-warn:10000}")
+    private long depthWarn;
+
+    private final AtomicLong deletedTotal = new AtomicLong();
+    private final AtomicLong failedTotal = new AtomicLong();
+    private volatile double lastRunPerSecond;
+
+    /**
+     * 큐 현황
+     * @param depth 전체 대기 수
+     * @param due 지금 실행 가능한 수
+     * @param deletedTotal 기동 후 누적 삭제 수
+     * @param failedTotal 기동 후 누적 실패(재예약) 수
+     * @param lastRunPerSecond 직전 주기 처리량 (keys/s)
+     */
+    public record Stats(long depth, long due, long deletedTotal, long failedTotal, double lastRunPerSecond) {}
+
+    public Stats stats() {
+        return new Stats(repository.count(), repository.countDue(LocalDateTime.now()),
+                deletedTotal.get(), failedTotal.get(), lastRunPerSecond);
+    }
+
+    @Scheduled(fixedDelayString = "${app.s3.cleanup.interval-ms:5000}")
+    public void drain() {
+        long started = System.nanoTime();
+        int limit = Math.min(Math.max(batchSize, 1), S3ImageService.MAX_DELETE_BATCH);
+        int deleted = 0, failed = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int[] result = drainBatch(limit);
+                deleted += result[0];
+                failed += result[1];
+                if (result[0] + result[1] < limit) break;
+            }
+        } catch (Exception e) {
+            // 점유한 행은 lease 만료 후 다시 처리됨
+            log.warn("[S3Cleanup] 배치 처리 실패", e);
+        }
+
+        if (deleted + failed == 0) return;
+        double seconds = Math.max((System.nanoTime() - started) / 1e9, 1e-3);
+        lastRunPerSecond = deleted / seconds;
+        log.info("[S3Cleanup] deleted={} failed={} ({}/s)", deleted, failed, Math.round(lastRunPerSecond));
+    }
+
+    /**
+     * 큐 현황 주기 로그
+     * - 재시도 대기(백오프)만 남아 drain 이 조용한 동안에도 적체가 보이도록 별도 주기로 기록
+     * - 대기 작업이 없으면 생략, depth-warn 이상이면 WARN
+     */
+    @Scheduled(fixedDelayString = "${app.s3.cleanup.stats-log-interval-ms:60000}")
+    public void logStats() {
+        Stats s = stats();
+        if (s.depth() == 0) return;
+        log.info("[S3Cleanup] depth={} due={} deletedTotal={} failedTotal={} lastRun={}/s",
+                s.depth(), s.due(), s.deletedTotal(), s.failedTotal(), Math.round(s.lastRunPerSecond()));
+        if (s.depth() >= depthWarn) {
+            log.warn("[S3Cleanup] 삭제 대기 적체 depth={} due={}", s.depth(), s.due());
+        }
+    }
+
+    /** @return {삭제 수, 실패 수} */
+    private int[] drainBatch(int limit) {
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<S3CleanupTask> tasks = transactionTemplate.execute(status -> {
+            int n = repository.claim(token, now, now.plusSeconds(leaseSeconds), limit);
+            return (n == 0) ? List.<S3CleanupTask>of() : repository.findByClaimToken(token);
+        });
+        if (tasks == null || tasks.isEmpty()) return new int[]{0, 0};
+
+        // 같은 키가 여러 번 예약됐을 수 있음 → 요청은 중복 없이
+        List<String> keys = tasks.stream().map(S3CleanupTask::getObjectKey).distinct().toList();
+        Map<String, String> errors;
+        try {
+            errors = s3ImageService.deleteObjects(keys);
+        } catch (Exception e) {
+            String msg = e.getClass().getSimpleName() + ": " + e.getMessage();
+            errors = new java.util.HashMap<>();
+            for (String k : keys) errors.put(k, msg);
+        }
+
+        List<Long> doneIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (S3CleanupTask t : tasks) {
+            (errors.containsKey(t.getObjectKey()) ? failedIds : doneIds).add(t.getId());
+        }
+
+        Map<String, String> errorByKey = errors;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!doneIds.isEmpty()) repository.deleteAllByIdInBatch(doneIds);
+            if (!failedIds.isEmpty()) {
+                LocalDateTime retryBase = LocalDateTime.now();
+                for (S3CleanupTask t : repository.findAllById(failedIds)) {
+                    t.retryAt(retryBase.plusSeconds(backoffOf(t.getAttempts() + 1)), errorByKey.get(t.getObjectKey()));
+                    if (t.getAttempts() >= alertAttempts) {
+                        log.error("[S3Cleanup] 삭제 반복 실패 key={} attempts={} error={}",
+                                t.getObjectKey(), t.getAttempts(), t.getLastError());
+                    }
+                }
+            }
+        });
+
+        deletedTotal.addAndGet(doneIds.size());
+        failedTotal.addAndGet(failedIds.size());
+        return new int[]{doneIds.size(), failedIds.size()};
+    }
+
+    /** backoff * 2^(attempts-1), 상한 max-backoff */
+    private long backoffOf(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(backoffSeconds << shift, maxBackoffSeconds);
+    }
+}
@@ -1,57 +1,105 @@
 package likelion.itgoserver.global.infra.s3.service;
 
-import com.amazonaws.services.s3.AmazonS3;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import likelion.itgoserver.global.infra.cdn.SignedUrlIssuer;
+import likelion.itgoserver.global.infra.image.ThumbnailKeys;
+import likelion.itgoserver.global.infra.storage.ObjectStorage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * objectKey → public URL 변환 (리스트 응답에서 행마다 호출되는 경로)
+ * - base URL(CDN 또는 S3 엔드포인트)은 기동 시 한 번만 계산
+ * - URL 인코딩이 필요 없는 키는 문자열 결합만으로 변환
+ * - 인코딩이 필요한 키만 저장소(ObjectStorage.publicUrl) 로 변환하고 결과를 크기 제한 캐시에 보관
+ * - 서명 URL 모드(app.cdn.signed-urls.enabled)면 SignedUrlIssuer 가 시간 구간 단위 서명을 붙임
+ */
 @Component
 @RequiredArgsConstructor
 public class PublicUrlResolver {
 
-    private final AmazonS3 s3;
+    private static final String PROBE_KEY = "_";
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final ObjectStorage storage;
+    private final SignedUrlIssuer signedUrlIssuer;
 
     @Value("${app.cdn.base-url:}")
     private String cdnBaseUrl;
 
+    @Value("${app.url-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    /** 끝이 '/' 인 base URL */
+    private String baseUrl;
+    private boolean cdn;
+    private Cache<String, String> encodedKeyCache;
+
+    @PostConstruct
+    void init() {
+        String cdnBase = (cdnBaseUrl == null) ? "" : cdnBaseUrl.trim();
+        cdn = !cdnBase.isEmpty();
+        if (cdn) {
+            baseUrl = removeTrailingSlash(cdnBase) + "/";
+        } else {
+            // 저장소 엔드포인트 해석(S3 virtual-host/path style 등)은 한 번만
+            String probe = storage.publicUrl(PROBE_KEY);
+            baseUrl = probe.substring(0, probe.length() - PROBE_KEY.length());
+        }
+        encodedKeyCache = Caffeine.newBuilder().maximumSize(cacheMaxSize).build();
+    }
+
     /** DB에 저장한 objectKey를 publicURL로 변환 */
     public String toUrl(String objectKey) {
-        if (isBlank(objectKey)) return null;
+        if (objectKey == null || objectKey.isBlank()) return null;
         if (isAbsoluteUrl(objectKey)) return objectKey;
 
         String key = trimSlashes(objectKey);
-        String cdn = (cdnBaseUrl == null) ? "" : cdnBaseUrl.trim();
+        String url = (cdn || isUrlSafe(key))
+                ? new StringBuilder(baseUrl.length() + key.length()).append(baseUrl).append(key).toString()
+                : encodedKeyCache.get(key, storage::publicUrl);
+        return signedUrlIssuer.isEnabled() ? signedUrlIssuer.issue(key, url) : url;
+    }
 
-        if (!isBlank(cdn)) {
-            String base = removeTrailingSlash(cdnBaseUrl);
-            return base + "/" + key;
+    /**
+     * 리스트용 썸네일 URL (생성 전이거나 만들 수 없는 키면 원본 URL)
+     * @param available 해당 원본의 썸네일 생성 완료 여부 (ThumbnailStatus.READY)
+     */
+    public String toThumbnailUrl(String objectKey, int width, boolean available) {
+        if (available && ThumbnailKeys.isDerivable(objectKey)) {
+            return toUrl(ThumbnailKeys.of(objectKey, width));
         }
-        return s3.getUrl(bucket, key).toString();
+        return toUrl(objectKey);
     }
 
     /**
      * 내부 메서드
      */
     private static boolean isAbsoluteUrl(String s) {
-        String t = s.toLowerCase(java.util.Locale.ROOT);
-        return t.startsWith("http://") || t.startsWith("https://");
+        return s.regionMatches(true, 0, "http://", 0, 7) || s.regionMatches(true, 0, "https://", 0, 8);
+    }
+
+    /** URL 인코딩 없이 그대로 경로에 쓸 수 있는 키인지 (RFC 3986 unreserved + '/') */
+    private static boolean isUrlSafe(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            boolean ok = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || c == '/';
+            if (!ok) return false;
+        }
+        return true;
     }
 
     private static String trimSlashes(String s) {
         int start = 0, end = s.length();
         while (start < end && s.charAt(start) == '/') start++;
         while (end > start && s.charAt(end - 1) == '/') end--;
-        return s.substring(start, end);
+        return (start == 0 && end == s.length()) ? s : s.substring(start, end);
     }
 
     private static String removeTrailingSlash(String s) {
         return (s.endsWith("/")) ? s.substring(0, s.length() - 1) : s;
     }
-
-    private static boolean isBlank(String s) {
-        return s == null || s.trim().isEmpty();
-    }
-}
\ No newline at end of file
+}
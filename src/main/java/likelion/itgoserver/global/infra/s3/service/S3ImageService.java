@@ -1,13 +1,10 @@
 // S3ImageService.java
 package likelion.itgoserver.global.infra.s3.service;
 
-import com.amazonaws.HttpMethod;
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CopyObjectRequest;
-import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import likelion.itgoserver.global.infra.storage.ObjectStorage;
+import likelion.itgoserver.global.infra.storage.ObjectStorage.ObjectInfo;
+import likelion.itgoserver.global.infra.storage.ObjectStorage.Page;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.net.URL;
@@ -24,10 +21,7 @@ public class S3ImageService {
 
     private static final Set<String> ALLOWED_EXT = Set.of("jpg","jpeg","png","webp","gif");
 
-    private final AmazonS3 s3;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final ObjectStorage storage;
 
     public String storeDraftKey(Long memberId, String ext) {
         return join("drafts", memberId.toString(), "store", "image", uuid() + "." + cleanExt(ext));
@@ -48,51 +42,77 @@ public class S3ImageService {
 
     /** 업로드용 Presigned PUT URL 발급 */
     public URL createPresignedPutUrl(String key, String contentType, Duration ttl) {
-        String k = trimSlashes(key);
-        Date expiration = Date.from(Instant.now().plus(clampTtl(ttl)));
+        return createPresignedPutUrl(key, contentType, presignExpiration(ttl));
+    }
 
-        GeneratePresignedUrlRequest req = new GeneratePresignedUrlRequest(bucket, k)
-                .withMethod(HttpMethod.PUT)
-                .withExpiration(expiration);
+    /** 만료 시각을 공유하는 여러 건 발급용 (presignExpiration 으로 한 번 계산) */
+    public URL createPresignedPutUrl(String key, String contentType, Instant expiresAt) {
+        return storage.presignPut(trimSlashes(key), isBlank(contentType) ? null : contentType, expiresAt);
+    }
 
-        if (!isBlank(contentType)) {
-            req.addRequestParameter("Content-Type", contentType);
-        }
-        return s3.generatePresignedUrl(req);
+    /** presign 만료 시각 (TTL 은 15분 기본, 최대 7일로 보정) */
+    public Instant presignExpiration(Duration ttl) {
+        return Instant.now().plus(clampTtl(ttl));
+    }
+
+    /** 브라우저 POST 정책 업로드 가능 여부 (S3 저장소만) */
+    public boolean supportsPresignedPost() {
+        return storage.supportsPresignedPost();
     }
 
     /** 객체 존재 여부 */
     public boolean doesObjectExist(String key) {
-        return s3.doesObjectExist(bucket, trimSlashes(key));
+        return storage.exists(trimSlashes(key));
     }
 
-    /** 메타데이터 조회 */
-    public ObjectMetadata getObjectMetadata(String key) {
-        return s3.getObjectMetadata(bucket, trimSlashes(key));
+    /** 메타데이터 조회 (없으면 ObjectNotFoundException) */
+    public ObjectInfo headObject(String key) {
+        return storage.head(trimSlashes(key));
     }
 
-    /** S3 객체 복사 */
+    /** 객체 복사 */
     public void copyObject(String srcKey, String dstKey) {
-        String src = trimSlashes(srcKey);
-        String dst = trimSlashes(dstKey);
+        copyObject(srcKey, dstKey, headObject(srcKey));
+    }
+
+    /** 객체 복사 (이미 HEAD 로 받은 원본 메타데이터 재사용) */
+    public void copyObject(String srcKey, String dstKey, ObjectInfo src) {
+        storage.copy(trimSlashes(srcKey), trimSlashes(dstKey), src);
+    }
 
-        // 원본 메타데이터 조회
-        ObjectMetadata srcMd = s3.getObjectMetadata(bucket, src);
-        ObjectMetadata newMd = new ObjectMetadata();
-        newMd.setContentLength(srcMd.getContentLength());
-        newMd.setContentType(
-                Optional.ofNullable(srcMd.getContentType()).orElse("image/jpeg")
-        );
-        newMd.setCacheControl("public, max-age=31536000, immutable");
+    /** 객체 전체 읽기 (업로드 제한 10MB 이내 이미지 전용) */
+    public byte[] readObject(String key) {
+        return storage.read(trimSlashes(key));
+    }
 
-        CopyObjectRequest req = new CopyObjectRequest(bucket, src, bucket, dst)
-                .withNewObjectMetadata(newMd);
-        s3.copyObject(req);
+    /** 서버에서 만든 파생 객체(썸네일 등) 업로드 */
+    public void putObject(String key, byte[] bytes, String contentType) {
+        storage.put(trimSlashes(key), bytes, contentType);
     }
 
     /** 삭제 */
     public void deleteObject(String key) {
-        s3.deleteObject(bucket, trimSlashes(key));
+        storage.delete(trimSlashes(key));
+    }
+
+    /** DeleteObjects 1회 최대 키 수 (S3 제한) */
+    public static final int MAX_DELETE_BATCH = 1000;
+
+    /**
+     * 다중 삭제
+     * - 없는 키는 성공으로 처리
+     * - 요청 자체가 실패하면 예외, 일부 키만 실패하면 그 키 → 오류 메시지 반환
+     */
+    public Map<String, String> deleteObjects(Collection<String> keys) {
+        if (keys.isEmpty()) return Map.of();
+        if (keys.size() > MAX_DELETE_BATCH)
+            throw new IllegalArgumentException("DeleteObjects 는 최대 " + MAX_DELETE_BATCH + "개");
+        return storage.deleteAll(keys.stream().map(S3ImageService::trimSlashes).toList());
+    }
+
+    /** prefix 아래 목록 한 페이지 (최대 MAX_DELETE_BATCH 건) */
+    public Page listObjects(String prefix, String continuationToken) {
+        return storage.list(prefix, continuationToken, MAX_DELETE_BATCH);
     }
 
     /**
@@ -0,0 +1,121 @@
+package likelion.itgoserver.global.infra.s3.service;
+
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 브라우저 POST 업로드용 정책 서명 (SigV4)
+ * - 서명 한 번으로 keyPrefix 아래 여러 객체 업로드 허용 (키 이름은 클라이언트가 정함)
+ * - Content-Type 접두어, 크기 범위는 정책 조건으로 S3 가 검증
+ * - SDK v1 은 POST 정책 서명을 지원하지 않아 서명 키 유도를 직접 수행
+ */
+@Component
+@RequiredArgsConstructor
+public class S3PresignedPostIssuer {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String PROBE_KEY = "_";
+    private static final DateTimeFormatter AMZ_DATE =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter SCOPE_DATE =
+            DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter EXPIRATION =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'").withZone(ZoneOffset.UTC);
+
+    private final AmazonS3 s3;
+    private final BasicAWSCredentials credentials;
+    private final ObjectMapper objectMapper;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    /** 버킷 루트 URL (POST 대상) */
+    private String bucketUrl;
+
+    /**
+     * @param url 업로드 대상 (multipart/form-data POST)
+     * @param fields 폼에 그대로 넣을 필드 (key, Content-Type, file 은 클라이언트가 추가)
+     */
+    public record PresignedPost(String url, String keyPrefix, Map<String, String> fields, Instant expiresAt) {}
+
+    @PostConstruct
+    void init() {
+        String probe = s3.getUrl(bucket, PROBE_KEY).toString();
+        bucketUrl = probe.substring(0, probe.length() - PROBE_KEY.length());
+    }
+
+    public PresignedPost issue(String keyPrefix, String contentTypePrefix, long maxBytes, Instant expiresAt) {
+        Instant now = Instant.now();
+        String region = s3.getRegionName();
+        String credential = credentials.getAWSAccessKeyId() + "/" + SCOPE_DATE.format(now) + "/" + region + "/s3/aws4_request";
+        String amzDate = AMZ_DATE.format(now);
+
+        List<Object> conditions = List.of(
+                Map.of("bucket", bucket),
+                List.of("starts-with", "$key", keyPrefix),
+                List.of("starts-with", "$Content-Type", contentTypePrefix),
+                List.of("content-length-range", 1, maxBytes),
+                Map.of("x-amz-algorithm", ALGORITHM),
+                Map.of("x-amz-credential", credential),
+                Map.of("x-amz-date", amzDate)
+        );
+        Map<String, Object> policy = new LinkedHashMap<>();
+        policy.put("expiration", EXPIRATION.format(expiresAt));
+        policy.put("conditions", conditions);
+
+        String encodedPolicy = Base64.getEncoder().encodeToString(toJson(policy).getBytes(StandardCharsets.UTF_8));
+        byte[] signingKey = signingKey(credentials.getAWSSecretKey(), SCOPE_DATE.format(now), region);
+        String signature = HexFormat.of().formatHex(hmac(signingKey, encodedPolicy));
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("policy", encodedPolicy);
+        fields.put("x-amz-algorithm", ALGORITHM);
+        fields.put("x-amz-credential", credential);
+        fields.put("x-amz-date", amzDate);
+        fields.put("x-amz-signature", signature);
+        return new PresignedPost(bucketUrl, keyPrefix, fields, expiresAt);
+    }
+
+    /**
+     * 내부 메서드
+     */
+    private static byte[] signingKey(String secretKey, String date, String region) {
+        byte[] kDate = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), date);
+        byte[] kRegion = hmac(kDate, region);
+        byte[] kService = hmac(kRegion, "s3");
+        return hmac(kService, "aws4_request");
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("POST 정책 서명 실패", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
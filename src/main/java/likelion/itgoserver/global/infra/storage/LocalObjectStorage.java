@@ -0,0 +1,251 @@
+package likelion.itgoserver.global.infra.storage;
+
+import likelion.itgoserver.global.infra.cdn.HmacUrlSigner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일시스템 저장소 (부하 테스트/개발용, app.storage.type=local)
+ * - root 아래에 키 경로 그대로 저장
+ * - 쓰기/복사는 같은 디렉터리의 임시 파일에 끝까지 쓴 뒤 ATOMIC_MOVE → 읽는 쪽은 완성된 파일만 봄
+ * - presign 은 HMAC 서명 URL 로 흉내 (LocalStorageController 가 검증 후 PUT 처리)
+ * - 파일 서빙은 LocalStorageController 가 file() 경로로 처리 (Tomcat sendfile, Range 요청은 Resource)
+ */
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final String TMP_PREFIX = ".upload-";
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg", "jpeg", "image/jpeg", "png", "image/png",
+            "webp", "image/webp", "gif", "image/gif");
+
+    private final Path root;
+    /** 끝이 '/' 인 공개 base URL (LocalStorageController 경로) */
+    private final String baseUrl;
+    private final HmacUrlSigner signer;
+
+    public LocalObjectStorage(Path root, String baseUrl, HmacUrlSigner signer) {
+        this.root = root.toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.signer = signer;
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장소 디렉터리 생성 실패: " + this.root, e);
+        }
+    }
+
+    @Override
+    public ObjectInfo head(String key) {
+        Path path = resolve(key);
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attrs.isRegularFile()) throw new ObjectNotFoundException(key);
+            return new ObjectInfo(key, attrs.size(), contentTypeOf(key), attrs.lastModifiedTime().toInstant());
+        } catch (NoSuchFileException e) {
+            throw new ObjectNotFoundException(key, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void copy(String srcKey, String dstKey, ObjectInfo src) {
+        Path source = resolve(srcKey);
+        if (!Files.isRegularFile(source)) throw new ObjectNotFoundException(srcKey);
+        writeAtomically(dstKey, tmp -> Files.copy(source, tmp, StandardCopyOption.REPLACE_EXISTING));
+    }
+
+    @Override
+    public byte[] read(String key) {
+        try {
+            return Files.readAllBytes(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new ObjectNotFoundException(key, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        writeAtomically(key, tmp -> Files.write(tmp, bytes));
+    }
+
+    /**
+     * presign PUT 본문 저장 (maxBytes 초과 시 IllegalArgumentException, 기존 파일은 그대로)
+     * - Content-Length 없는 chunked 본문도 maxBytes 를 넘는 순간 중단 (끝까지 디스크에 쓰지 않음)
+     */
+    public void write(String key, InputStream in, long maxBytes) {
+        writeAtomically(key, tmp -> {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                byte[] buffer = new byte[8192];
+                long written = 0;
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    written += n;
+                    if (written > maxBytes) throw new IllegalArgumentException("업로드 최대 크기 초과: " + maxBytes + " bytes");
+                    out.write(buffer, 0, n);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteAll(Collection<String> keys) {
+        Map<String, String> failed = new HashMap<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException | RuntimeException e) {
+                failed.put(key, e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+        return failed;
+    }
+
+    /** 키 사전순, continuationToken 은 직전 페이지 마지막 키 */
+    @Override
+    public Page list(String prefix, String continuationToken, int maxKeys) {
+        int slash = prefix.lastIndexOf('/');
+        Path dir = (slash < 0) ? root : resolve(prefix.substring(0, slash));
+        if (!Files.isDirectory(dir)) return new Page(List.of(), null);
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(p -> !p.getFileName().toString().startsWith(TMP_PREFIX))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<String> keys = files.stream()
+                .map(this::keyOf)
+                .filter(k -> k.startsWith(prefix))
+                .filter(k -> continuationToken == null || k.compareTo(continuationToken) > 0)
+                .sorted()
+                .limit(maxKeys + 1L)
+                .toList();
+        boolean truncated = keys.size() > maxKeys;
+        List<ObjectInfo> objects = new ArrayList<>(Math.min(keys.size(), maxKeys));
+        for (String key : truncated ? keys.subList(0, maxKeys) : keys) {
+            try {
+                objects.add(head(key));
+            } catch (ObjectNotFoundException ignore) {
+                // 목록 조회 중 삭제됨
+            }
+        }
+        return new Page(objects, truncated ? keys.get(maxKeys - 1) : null);
+    }
+
+    @Override
+    public URL presignPut(String key, String contentType, Instant expiresAt) {
+        try {
+            return URI.create(signer.sign(putTarget(key, contentType), expiresAt)).toURL();
+        } catch (java.net.MalformedURLException e) {
+            throw new IllegalStateException("로컬 presign URL 생성 실패: " + key, e);
+        }
+    }
+
+    /** presignPut 으로 발급한 URL 인지 (서명 일치 + 만료 전) */
+    public boolean verifyPut(String key, String contentType, long expires, String sig) {
+        return signer.verify(putTarget(key, contentType), expires, sig, Instant.now());
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        StringBuilder sb = new StringBuilder(baseUrl);
+        String[] segments = key.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) sb.append('/');
+            sb.append(URLEncoder.encode(segments[i], StandardCharsets.UTF_8).replace("+", "%20"));
+        }
+        return sb.toString();
+    }
+
+    /** 키 → 실제 파일 경로 (서빙용, 없으면 ObjectNotFoundException) */
+    public Path file(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) throw new ObjectNotFoundException(key);
+        return path;
+    }
+
+    /**
+     * 내부 메서드
+     */
+    private interface TmpWriter {
+        void write(Path tmp) throws IOException;
+    }
+
+    private void writeAtomically(String key, TmpWriter writer) {
+        Path target = resolve(key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            tmp = Files.createTempFile(target.getParent(), TMP_PREFIX, ".tmp");
+            writer.write(tmp);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignore) {
+                    // 남은 임시 파일은 목록에서 제외됨
+                }
+            }
+        }
+    }
+
+    /** 키 → 경로 (root 밖을 가리키는 키는 거부) */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("잘못된 objectKey: " + key);
+        }
+        return path;
+    }
+
+    private String keyOf(Path path) {
+        return root.relativize(path).toString().replace('\\', '/');
+    }
+
+    private String putTarget(String key, String contentType) {
+        String url = publicUrl(key);
+        if (contentType == null || contentType.isBlank()) return url;
+        return url + "?contentType=" + URLEncoder.encode(contentType, StandardCharsets.UTF_8);
+    }
+
+    private static String contentTypeOf(String key) {
+        int dot = key.lastIndexOf('.');
+        String ext = (dot < 0) ? "" : key.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return CONTENT_TYPES.getOrDefault(ext, "application/octet-stream");
+    }
+}
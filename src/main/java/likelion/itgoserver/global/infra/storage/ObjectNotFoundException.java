@@ -0,0 +1,13 @@
+package likelion.itgoserver.global.infra.storage;
+
+/** 저장소에 해당 키가 없음 */
+public class ObjectNotFoundException extends RuntimeException {
+
+    public ObjectNotFoundException(String key) {
+        super("객체가 존재하지 않습니다. key=" + key);
+    }
+
+    public ObjectNotFoundException(String key, Throwable cause) {
+        super("객체가 존재하지 않습니다. key=" + key, cause);
+    }
+}
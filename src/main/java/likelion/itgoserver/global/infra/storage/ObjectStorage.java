@@ -0,0 +1,51 @@
+package likelion.itgoserver.global.infra.storage;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지 객체 저장소 (app.storage.type: s3 | local)
+ * - 키는 앞뒤 '/' 를 제거한 상대 경로 (S3ImageService 가 정리해서 전달)
+ * - 없는 객체는 ObjectNotFoundException
+ */
+public interface ObjectStorage {
+
+    /** 객체 메타데이터 */
+    record ObjectInfo(String key, long size, String contentType, Instant lastModified) {}
+
+    /** 목록 한 페이지, nextToken 이 null 이면 마지막 */
+    record Page(List<ObjectInfo> objects, String nextToken) {}
+
+    ObjectInfo head(String key);
+
+    boolean exists(String key);
+
+    /** 원본 메타데이터(타입)를 유지해 복사, 목적지는 완성된 뒤에만 보임 */
+    void copy(String srcKey, String dstKey, ObjectInfo src);
+
+    byte[] read(String key);
+
+    void put(String key, byte[] bytes, String contentType);
+
+    void delete(String key);
+
+    /** @return 실패한 키 → 오류 메시지 (없는 키는 성공) */
+    Map<String, String> deleteAll(Collection<String> keys);
+
+    /** prefix 아래 키 순서 목록 (continuationToken 은 직전 Page.nextToken) */
+    Page list(String prefix, String continuationToken, int maxKeys);
+
+    /** 클라이언트 직접 업로드용 PUT URL (contentType 이 있으면 요청 Content-Type 도 일치해야 함) */
+    URL presignPut(String key, String contentType, Instant expiresAt);
+
+    /** 서명 없는 공개 URL */
+    String publicUrl(String key);
+
+    /** 브라우저 POST 정책 업로드 지원 여부 */
+    default boolean supportsPresignedPost() {
+        return false;
+    }
+}
@@ -0,0 +1,138 @@
+package likelion.itgoserver.global.infra.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.time.Instant;
+import java.util.*;
+
+/** 기본 저장소: AWS S3 */
+@RequiredArgsConstructor
+public class S3ObjectStorage implements ObjectStorage {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final AmazonS3 s3;
+    private final String bucket;
+
+    @Override
+    public ObjectInfo head(String key) {
+        try {
+            ObjectMetadata md = s3.getObjectMetadata(bucket, key);
+            return new ObjectInfo(key, md.getContentLength(), md.getContentType(), toInstant(md.getLastModified()));
+        } catch (AmazonS3Exception e) {
+            throw translate(key, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return s3.doesObjectExist(bucket, key);
+    }
+
+    @Override
+    public void copy(String srcKey, String dstKey, ObjectInfo src) {
+        ObjectMetadata newMd = new ObjectMetadata();
+        newMd.setContentLength(src.size());
+        newMd.setContentType(Optional.ofNullable(src.contentType()).orElse("image/jpeg"));
+        newMd.setCacheControl(CACHE_CONTROL);
+
+        try {
+            s3.copyObject(new CopyObjectRequest(bucket, srcKey, bucket, dstKey).withNewObjectMetadata(newMd));
+        } catch (AmazonS3Exception e) {
+            throw translate(srcKey, e);
+        }
+    }
+
+    @Override
+    public byte[] read(String key) {
+        try (S3Object obj = s3.getObject(bucket, key)) {
+            return obj.getObjectContent().readAllBytes();
+        } catch (AmazonS3Exception e) {
+            throw translate(key, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        ObjectMetadata md = new ObjectMetadata();
+        md.setContentLength(bytes.length);
+        md.setContentType(contentType);
+        md.setCacheControl(CACHE_CONTROL);
+        s3.putObject(bucket, key, new ByteArrayInputStream(bytes), md);
+    }
+
+    @Override
+    public void delete(String key) {
+        s3.deleteObject(bucket, key);
+    }
+
+    /** DeleteObjects 1회 (quiet 모드: 실패한 키만 응답) */
+    @Override
+    public Map<String, String> deleteAll(Collection<String> keys) {
+        List<DeleteObjectsRequest.KeyVersion> kvs = keys.stream()
+                .map(DeleteObjectsRequest.KeyVersion::new)
+                .toList();
+        try {
+            s3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(kvs).withQuiet(true));
+            return Map.of();
+        } catch (MultiObjectDeleteException e) {
+            Map<String, String> failed = new HashMap<>();
+            e.getErrors().forEach(err -> failed.put(err.getKey(), err.getCode() + ": " + err.getMessage()));
+            return failed;
+        }
+    }
+
+    @Override
+    public Page list(String prefix, String continuationToken, int maxKeys) {
+        ListObjectsV2Result result = s3.listObjectsV2(new ListObjectsV2Request()
+                .withBucketName(bucket)
+                .withPrefix(prefix)
+                .withMaxKeys(maxKeys)
+                .withContinuationToken(continuationToken));
+        List<ObjectInfo> objects = result.getObjectSummaries().stream()
+                .map(o -> new ObjectInfo(o.getKey(), o.getSize(), null, toInstant(o.getLastModified())))
+                .toList();
+        return new Page(objects, result.isTruncated() ? result.getNextContinuationToken() : null);
+    }
+
+    @Override
+    public URL presignPut(String key, String contentType, Instant expiresAt) {
+        GeneratePresignedUrlRequest req = new GeneratePresignedUrlRequest(bucket, key)
+                .withMethod(HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt));
+        if (contentType != null && !contentType.isBlank()) {
+            req.addRequestParameter("Content-Type", contentType);
+        }
+        return s3.generatePresignedUrl(req);
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return s3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public boolean supportsPresignedPost() {
+        return true;
+    }
+
+    /**
+     * 내부 메서드
+     */
+    private static RuntimeException translate(String key, AmazonS3Exception e) {
+        return (e.getStatusCode() == 404) ? new ObjectNotFoundException(key, e) : e;
+    }
+
+    private static Instant toInstant(Date date) {
+        return (date == null) ? null : date.toInstant();
+    }
+}
@@ -0,0 +1,127 @@
+package likelion.itgoserver.global.infra.storage.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import likelion.itgoserver.global.error.GlobalErrorCode;
+import likelion.itgoserver.global.error.exception.CustomException;
+import likelion.itgoserver.global.infra.storage.LocalObjectStorage;
+import likelion.itgoserver.global.infra.storage.ObjectNotFoundException;
+import likelion.itgoserver.global.infra.storage.ObjectStorage;
+import likelion.itgoserver.global.infra.storage.ObjectStorage.ObjectInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * 로컬 저장소(app.storage.type=local) 객체 서빙/업로드 (S3 GET, presigned PUT 대체)
+ * - s3 모드에서는 404
+ * - 전체 GET 은 Tomcat sendfile 로 위임 (커널이 파일 → 소켓 직접 전송, 힙/유저 버퍼 복사 없음)
+ * - Range/HEAD 요청이나 sendfile 미지원 컨테이너는 Resource 로 반환 (Spring 이 206/부분 전송 처리, 버퍼 복사)
+ */
+@RestController
+@RequestMapping(LocalStorageController.PATH)
+@RequiredArgsConstructor
+public class LocalStorageController {
+
+    static final String PATH = "/local-storage";
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final ObjectStorage objectStorage;
+
+    @Value("${app.storage.local.max-upload-bytes:20971520}")
+    private long maxUploadBytes;
+
+    @GetMapping("/**")
+    public ResponseEntity<Resource> get(HttpServletRequest request) throws IOException {
+        LocalObjectStorage storage = localStorage();
+        String key = keyOf(request);
+        ObjectInfo info;
+        Path file;
+        try {
+            info = storage.head(key);
+            file = storage.file(key);
+        } catch (ObjectNotFoundException | IllegalArgumentException e) {
+            throw new CustomException(GlobalErrorCode.NOT_FOUND, "객체가 존재하지 않습니다. key=" + key);
+        }
+
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(info.contentType()))
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (sendfileSupported(request)) {
+            // 본문은 비워 두고 응답 완료 시 컨테이너가 파일을 직접 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, info.size());
+            return ok.contentLength(info.size()).build();
+        }
+        return ok.body(new FileSystemResource(file));
+    }
+
+    @PutMapping("/**")
+    public ResponseEntity<Void> put(
+            HttpServletRequest request,
+            @RequestParam(required = false) String contentType,
+            @RequestParam long expires,
+            @RequestParam String sig
+    ) throws IOException {
+        LocalObjectStorage storage = localStorage();
+        String key = keyOf(request);
+        if (!storage.verifyPut(key, contentType, expires, sig))
+            throw new CustomException(GlobalErrorCode.INVALID_PERMISSION, "서명이 올바르지 않거나 만료된 업로드 URL입니다.");
+        if (contentType != null && !contentType.equalsIgnoreCase(mediaTypeOf(request.getContentType())))
+            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "서명된 Content-Type과 다릅니다.");
+        if (request.getContentLengthLong() > maxUploadBytes)
+            throw new CustomException(GlobalErrorCode.BAD_REQUEST, "업로드 최대 크기 초과");
+
+        try {
+            storage.write(key, request.getInputStream(), maxUploadBytes);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(GlobalErrorCode.BAD_REQUEST, e.getMessage());
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 내부 메서드
+     */
+    private LocalObjectStorage localStorage() {
+        if (objectStorage instanceof LocalObjectStorage local) return local;
+        throw new CustomException(GlobalErrorCode.NOT_SUPPORTED_URI);
+    }
+
+    /** 전체 본문 GET 이고 컨테이너가 sendfile 을 지원할 때만 (Range 는 Spring 의 부분 응답 처리에 맡김) */
+    private static boolean sendfileSupported(HttpServletRequest request) {
+        return "GET".equals(request.getMethod())
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED));
+    }
+
+    private static String keyOf(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String raw = uri.substring(Math.min(uri.length(), PATH.length() + 1));
+        return URLDecoder.decode(raw.replace("+", "%2B"), StandardCharsets.UTF_8);
+    }
+
+    private static String mediaTypeOf(String contentType) {
+        if (contentType == null) return "";
+        return contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+    }
+}
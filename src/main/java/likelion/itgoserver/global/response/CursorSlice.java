@@ -0,0 +1,28 @@
+package likelion.itgoserver.global.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "커서 기반 무한스크롤 응답")
+public record CursorSlice<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        @Schema(description = "다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)")
+        String nextCursor
+) {
+    public static <T> CursorSlice<T> empty(int size) {
+        return new CursorSlice<>(List.of(), size, false, null);
+    }
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorSlice<>(mapped, size, hasNext, nextCursor);
+    }
+
+    public <R> CursorSlice<R> withContent(List<R> newContent) {
+        return new CursorSlice<>(newContent, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,31 @@
+package likelion.itgoserver.global.support.geo;
+
+/**
+ * 중심점 + 반경(km)으로 만든 위경도 사각형 (MBRContains 사전 필터용)
+ */
+public record BoundingBox(double minLat, double minLng, double maxLat, double maxLng) {
+
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    public static BoundingBox around(double lat, double lng, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE_LAT;
+        // 고위도에서 cos → 0 이 되는 것 방지
+        double cos = Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+        double dLng = radiusKm / (KM_PER_DEGREE_LAT * cos);
+
+        return new BoundingBox(
+                Math.max(lat - dLat, -90.0), Math.max(lng - dLng, -180.0),
+                Math.min(lat + dLat, 90.0), Math.min(lng + dLng, 180.0)
+        );
+    }
+
+    /** axis-order=long-lat 기준 POLYGON WKT */
+    public String toWkt() {
+        return "POLYGON(("
+                + minLng + " " + minLat + ", "
+                + maxLng + " " + minLat + ", "
+                + maxLng + " " + maxLat + ", "
+                + minLng + " " + maxLat + ", "
+                + minLng + " " + minLat + "))";
+    }
+}
@@ -0,0 +1,22 @@
+package likelion.itgoserver.global.support.geo;
+
+/**
+ * 구면 거리 계산 (DB 의 ST_Distance_Sphere 와 같은 용도의 애플리케이션 측 계산)
+ */
+public final class GeoDistance {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private GeoDistance() {}
+
+    /** 두 좌표 사이 거리(m), 좌표가 없으면 null */
+    public static Double meters(Double lat1, Double lng1, Double lat2, Double lng2) {
+        if (lat1 == null || lng1 == null || lat2 == null || lng2 == null) return null;
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return EARTH_RADIUS_METERS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
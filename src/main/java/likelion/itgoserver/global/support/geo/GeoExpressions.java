@@ -0,0 +1,37 @@
+package likelion.itgoserver.global.support.geo;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+
+/**
+ * Querydsl 용 MySQL 공간 함수 템플릿
+ */
+public final class GeoExpressions {
+
+    private GeoExpressions() {}
+
+    /**
+     * location(POINT SRID 4326) 이 box 안에 있는지 (SPATIAL INDEX 사용)
+     * - GeoFunctionContributor 가 boolean 함수로 등록 → 비교식 없이 조건 자체로 렌더링
+     */
+    public static BooleanExpression mbrContains(BoundingBox box, Expression<?> location) {
+        return Expressions.booleanTemplate(
+                GeoFunctionContributor.MBR_CONTAINS + "(ST_GeomFromText({0}, 4326, {1}), {2})",
+                Expressions.constant(box.toWkt()), Expressions.constant("axis-order=long-lat"),
+                location
+        );
+    }
+
+    /** (lat, lng) 컬럼과 기준점 사이 구면 거리(m) */
+    public static NumberExpression<Double> distanceSphere(Expression<Double> latitude, Expression<Double> longitude,
+                                                          double originLat, double originLng) {
+        return Expressions.numberTemplate(
+                Double.class,
+                "ST_Distance_Sphere(point({0}, {1}), point({2}, {3}))",
+                longitude, latitude,
+                Expressions.constant(originLng), Expressions.constant(originLat)
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package likelion.itgoserver.global.support.geo;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL 공간 함수를 boolean 함수로 등록
+ * - 조건절에 "MBRContains(...) = 1" 이 아닌 "MBRContains(...)" 그대로 렌더링 → SPATIAL INDEX range 접근 가능
+ * - META-INF/services/org.hibernate.boot.model.FunctionContributor 로 등록
+ */
+public class GeoFunctionContributor implements FunctionContributor {
+
+    public static final String MBR_CONTAINS = "MBRContains";
+
+    @Override
+    public void contributeFunctions(FunctionContributions contributions) {
+        contributions.getFunctionRegistry().registerPattern(
+                MBR_CONTAINS,
+                "MBRContains(?1, ?2)",
+                contributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
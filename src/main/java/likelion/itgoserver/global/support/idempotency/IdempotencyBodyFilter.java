@@ -0,0 +1,166 @@
+package likelion.itgoserver.global.support.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.RequestPath;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Idempotency-Key 가 붙은 {@link Idempotent} 요청의 본문을 미리 읽어 지문(SHA-256)을 남김
+ * - 인터셉터가 같은 키로 다른 본문이 온 경우를 가려낼 수 있게 함
+ * - 대상 핸들러는 DispatcherServlet 과 같은 매핑으로 미리 조회 → 애너테이션 없는 API 는 버퍼링하지 않음
+ * - 본문은 메모리에 보관해 컨트롤러가 그대로 다시 읽음
+ * - app.idempotency.max-body-bytes 를 넘는 본문은 지문 없이 통과 (본문 비교 생략)
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyBodyFilter extends OncePerRequestFilter {
+
+    static final String ATTR_FINGERPRINT = IdempotencyBodyFilter.class.getName() + ".fingerprint";
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+
+    @Value("${app.idempotency.max-body-bytes:1048576}")
+    private long maxBodyBytes;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String key = request.getHeader(IdempotencyInterceptor.HEADER);
+        return key == null || key.isBlank() || !targetsIdempotentHandler(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long length = request.getContentLengthLong();
+        if (length > maxBodyBytes) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        // Content-Length 없이 온 큰 본문도 지문 없이 통과
+        if (body.length <= maxBodyBytes) {
+            request.setAttribute(ATTR_FINGERPRINT, fingerprint(body));
+        }
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    /** 요청이 {@link Idempotent} 핸들러로 가는지 (조회 실패/매핑 없음이면 대상 아님) */
+    private boolean targetsIdempotentHandler(HttpServletRequest request) {
+        RequestMappingHandlerMapping mapping = handlerMapping.getIfAvailable();
+        if (mapping == null) return false;
+
+        // 경로 패턴 매칭은 파싱된 RequestPath 를 요구 → 조회 동안만 캐시하고 원래대로 되돌림
+        RequestPath previous = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request) : null;
+        try {
+            ServletRequestPathUtils.parseAndCache(request);
+            HandlerExecutionChain chain = mapping.getHandler(request);
+            return chain != null
+                    && chain.getHandler() instanceof HandlerMethod hm
+                    && hm.hasMethodAnnotation(Idempotent.class);
+        } catch (Exception e) {
+            return false;
+        } finally {
+            if (previous != null) ServletRequestPathUtils.setParsedRequestPath(previous, request);
+            else ServletRequestPathUtils.clearParsedRequestPath(request);
+        }
+    }
+
+    static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 미리 읽어둔 본문을 다시 내주는 요청 래퍼 */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /** 본문이 이미 메모리에 있음 → 남은 데이터/끝 알림을 바로 전달 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) readListener.onDataAvailable();
+                        if (isFinished()) readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String enc = getCharacterEncoding();
+            Charset charset = (enc != null) ? Charset.forName(enc) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package likelion.itgoserver.global.support.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import likelion.itgoserver.global.auth.jwt.dto.UserDetailsImpl;
+import likelion.itgoserver.global.error.GlobalErrorCode;
+import likelion.itgoserver.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * {@link Idempotent} 핸들러 앞단에서 Idempotency-Key 처리
+ * - 처음 온 키: 처리 권한 선점 후 통과 (응답 저장은 IdempotencyResponseAdvice)
+ * - 완료된 키: 저장된 응답을 그대로 재전송, 서비스 로직 실행 안 함
+ * - 처리 중인 키: 완료될 때까지 잠시 대기 후 재전송, 시간 초과면 409
+ * - 같은 키인데 본문이 다르면 422 (키 재사용 실수, 저장된 응답을 엉뚱한 요청에 돌려주지 않음)
+ * 키 범위는 회원 + HTTP 메서드 + 경로 (다른 API/다른 회원의 키와 섞이지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String ATTR_KEY = IdempotencyInterceptor.class.getName() + ".key";
+    static final String ATTR_STORED = IdempotencyInterceptor.class.getName() + ".stored";
+    static final String ATTR_FINGERPRINT = IdempotencyBodyFilter.ATTR_FINGERPRINT;
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.wait-ms:5000}")
+    private long waitMs;
+
+    @Value("${app.idempotency.poll-ms:50}")
+    private long pollMs;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod hm) || !hm.hasMethodAnnotation(Idempotent.class)) return true;
+
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) return true;
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, GlobalErrorCode.BAD_REQUEST, HEADER + " 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+            return false;
+        }
+
+        String key = IdempotencyStore.key(scope(request), idempotencyKey.trim());
+        String fingerprint = (String) request.getAttribute(ATTR_FINGERPRINT);
+        if (store.tryLock(key, fingerprint)) {
+            request.setAttribute(ATTR_KEY, key);
+            return true;
+        }
+
+        // 이미 처리됐거나 처리 중 → 완료될 때까지 대기
+        long deadline = System.currentTimeMillis() + waitMs;
+        while (true) {
+            Optional<IdempotencyStore.Entry> entry = store.find(key);
+            if (entry.isEmpty()) {
+                // 앞선 요청이 실패해 선점이 풀림 → 이번 요청이 처리
+                if (store.tryLock(key, fingerprint)) {
+                    request.setAttribute(ATTR_KEY, key);
+                    return true;
+                }
+            } else if (!entry.get().matches(fingerprint)) {
+                log.info("[Idempotency] 같은 키로 다른 본문 요청 key={}", key);
+                writeError(response, GlobalErrorCode.IDEMPOTENCY_KEY_REUSED, "같은 " + HEADER + " 로 다른 내용의 요청을 보낼 수 없습니다. 새 키를 사용해주세요.");
+                return false;
+            } else if (entry.get().isDone()) {
+                replay(response, entry.get());
+                return false;
+            }
+            if (System.currentTimeMillis() >= deadline) break;
+            Thread.sleep(pollMs);
+        }
+
+        log.info("[Idempotency] 처리 중인 요청 대기 시간 초과 key={}", key);
+        writeError(response, GlobalErrorCode.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object key = request.getAttribute(ATTR_KEY);
+        if (key != null && request.getAttribute(ATTR_STORED) == null) {
+            store.release((String) key);
+        }
+    }
+
+    /**
+     * 내부 유틸
+     */
+    private static String scope(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String member = (auth != null && auth.getPrincipal() instanceof UserDetailsImpl u)
+                ? String.valueOf(u.memberId())
+                : "anonymous";
+        return member + ":" + request.getMethod() + ":" + request.getRequestURI();
+    }
+
+    private static void replay(HttpServletResponse response, IdempotencyStore.Entry entry) throws IOException {
+        response.setStatus(entry.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        writeBody(response, entry.body());
+    }
+
+    private void writeError(HttpServletResponse response, GlobalErrorCode code, String message) throws IOException {
+        response.setStatus(code.getStatus().value());
+        writeBody(response, objectMapper.writeValueAsString(ApiResponse.fail(code, message)));
+    }
+
+    private static void writeBody(HttpServletResponse response, String body) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(body == null ? "" : body);
+    }
+}
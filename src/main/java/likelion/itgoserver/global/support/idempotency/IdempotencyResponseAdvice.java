@@ -0,0 +1,63 @@
+package likelion.itgoserver.global.support.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Idempotency-Key 로 선점한 요청의 응답(ApiResponse)을 저장
+ * - 2xx/4xx 는 최종 결과로 보고 저장 → 재요청 시 같은 응답
+ * - 5xx, 409(동시성 충돌) 는 일시적 실패라 저장하지 않음 → 선점 해제 후 같은 키로 재시도 가능
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class IdempotencyResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest req) || !(response instanceof ServletServerHttpResponse res)) {
+            return body;
+        }
+        HttpServletRequest servletRequest = req.getServletRequest();
+        Object key = servletRequest.getAttribute(IdempotencyInterceptor.ATTR_KEY);
+        if (key == null || servletRequest.getAttribute(IdempotencyInterceptor.ATTR_STORED) != null) return body;
+
+        HttpServletResponse servletResponse = res.getServletResponse();
+        int status = servletResponse.getStatus();
+        if (status >= 500 || status == HttpStatus.CONFLICT.value()) return body;
+
+        try {
+            String fingerprint = (String) servletRequest.getAttribute(IdempotencyInterceptor.ATTR_FINGERPRINT);
+            store.complete((String) key, fingerprint, status, objectMapper.writeValueAsString(body));
+            servletRequest.setAttribute(IdempotencyInterceptor.ATTR_STORED, Boolean.TRUE);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 저장 실패 시 선점은 afterCompletion 에서 해제 (응답 자체는 정상 반환)
+            log.warn("[Idempotency] 응답 저장 실패 key={}", key, e);
+        }
+        return body;
+    }
+}
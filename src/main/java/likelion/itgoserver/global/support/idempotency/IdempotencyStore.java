@@ -0,0 +1,153 @@
+package likelion.itgoserver.global.support.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency-Key 상태 저장소 (Redis)
+ * - 처리 중: IN_PROGRESS 표시를 SET NX 로 선점 (짧은 TTL, 서버가 죽어도 풀림)
+ * - 처리 완료: 응답 상태/본문을 app.idempotency.ttl-hours 동안 보관
+ * - 선점한 키는 처리가 끝날 때까지 주기적으로 TTL 연장 (느린 요청 도중 선점이 풀려 중복 실행되지 않도록)
+ * - 요청 본문 지문을 함께 보관해 같은 키로 다른 본문이 오면 가려냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idem:";
+
+    /** 내가 선점한 값 그대로일 때만 TTL 연장 (이미 완료/해제/다른 인스턴스가 선점했으면 건드리지 않음) */
+    private static final RedisScript<Long> EXTEND_IF_OWNER = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    /** 내가 선점한 값 그대로일 때만 삭제 */
+    private static final RedisScript<Long> DELETE_IF_OWNER = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${app.idempotency.lock-seconds:30}")
+    private long lockSeconds;
+
+    /** 이 인스턴스가 선점 중인 키 → 선점 시 기록한 값 (TTL 연장/해제 시 소유 확인용) */
+    private final Map<String, String> held = new ConcurrentHashMap<>();
+
+    /**
+     * 저장된 요청 상태
+     * - fingerprint: 요청 본문 SHA-256 (본문이 너무 커 지문을 못 남긴 요청은 null)
+     * - owner: 선점 값을 인스턴스/요청마다 구분하기 위한 토큰 (IN_PROGRESS 에만 사용)
+     */
+    public record Entry(State state, int status, String body, String fingerprint, String owner) {
+        public enum State { IN_PROGRESS, DONE }
+
+        static Entry inProgress(String fingerprint) {
+            return new Entry(State.IN_PROGRESS, 0, null, fingerprint, UUID.randomUUID().toString());
+        }
+
+        public boolean isDone() {
+            return state == State.DONE;
+        }
+
+        /** 둘 다 지문이 있을 때만 비교 (지문 없는 요청은 키만으로 판단) */
+        public boolean matches(String requestFingerprint) {
+            return fingerprint == null || requestFingerprint == null || fingerprint.equals(requestFingerprint);
+        }
+    }
+
+    public static String key(String scope, String idempotencyKey) {
+        return KEY_PREFIX + scope + ":" + idempotencyKey;
+    }
+
+    /** 처리 권한 선점, 이미 누가 처리 중이거나 끝났으면 false */
+    public boolean tryLock(String key, String fingerprint) {
+        String value = write(Entry.inProgress(fingerprint));
+        Boolean ok = redisTemplate.opsForValue().setIfAbsent(key, value, Duration.ofSeconds(lockSeconds));
+        if (!Boolean.TRUE.equals(ok)) return false;
+        held.put(key, value);
+        return true;
+    }
+
+    public Optional<Entry> find(String key) {
+        String raw = redisTemplate.opsForValue().get(key);
+        if (raw == null) return Optional.empty();
+        try {
+            return Optional.of(objectMapper.readValue(raw, Entry.class));
+        } catch (JsonProcessingException e) {
+            log.warn("[Idempotency] 손상된 항목 제거 key={}", key);
+            redisTemplate.delete(key);
+            return Optional.empty();
+        }
+    }
+
+    public void complete(String key, String fingerprint, int status, String body) {
+        held.remove(key);
+        redisTemplate.opsForValue().set(key, write(new Entry(Entry.State.DONE, status, body, fingerprint, null)),
+                Duration.ofHours(ttlHours));
+    }
+
+    /** 처리 실패 → 선점 해제 (같은 키로 다시 시도 가능), 이미 남의 선점으로 바뀌었으면 그대로 둠 */
+    public void release(String key) {
+        String value = held.remove(key);
+        if (value == null) return;
+        redisTemplate.execute(DELETE_IF_OWNER, List.of(key), value);
+    }
+
+    /**
+     * 처리 중인 키의 선점 연장 (lock-extend-ms 주기, lock-seconds 보다 충분히 짧게)
+     * - 요청이 lock-seconds 보다 오래 걸려도 다른 요청이 같은 키로 끼어들지 못함
+     * - 인스턴스가 죽으면 연장이 멈춰 lock-seconds 뒤 자연히 풀림
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.lock-extend-ms:10000}")
+    public void extendHeldLocks() {
+        if (held.isEmpty()) return;
+        String ttlMs = String.valueOf(Duration.ofSeconds(lockSeconds).toMillis());
+        held.forEach((key, value) -> {
+            try {
+                Long r = redisTemplate.execute(EXTEND_IF_OWNER, List.of(key), value, ttlMs);
+                if (r == null || r == 0L) {
+                    // 이미 만료돼 다른 요청이 가져감 → 더는 내 선점이 아님
+                    held.remove(key, value);
+                    log.warn("[Idempotency] 선점 연장 실패, 이미 만료된 키 key={}", key);
+                }
+            } catch (RuntimeException e) {
+                log.warn("[Idempotency] 선점 연장 중 오류 key={}", key, e);
+            }
+        });
+    }
+
+    private String write(Entry entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
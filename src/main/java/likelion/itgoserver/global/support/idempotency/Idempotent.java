@@ -0,0 +1,14 @@
+package likelion.itgoserver.global.support.idempotency;
+
+import java.lang.annotation.*;
+
+/**
+ * Idempotency-Key 헤더를 지원하는 변경 API 표시
+ * - 같은 키로 재요청하면 서비스 로직 없이 저장된 응답을 그대로 반환
+ * - 헤더가 없으면 평소대로 처리
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Idempotent {
+}
@@ -0,0 +1,77 @@
+package likelion.itgoserver.global.support.text;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static java.util.Map.entry;
+
+/**
+ * 품목명 정규화 + 매칭 토큰 생성
+ * - NFKC: 전각/반각, 호환 자모(ㅇ, ㅜ …) → 완성형 정리
+ * - 소문자화, 공백/구두점 기준 단어 분리, 동의어 치환
+ * - 한글 3자 이상 단어는 끝 2글자(중심어)도 토큰으로 추가 ("서울우유" → 우유, "우유식빵" → 식빵)
+ *   한국어 복합명사는 뒤가 중심어라 앞/가운데 2-gram 까지 넣으면 "우유" 가 "우유식빵" 에 걸림
+ */
+public final class ItemNameNormalizer {
+
+    public static final int MAX_TOKEN_LENGTH = 50;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s\\p{Punct}\\p{IsPunctuation}]+");
+
+    /** 동의어 → 대표어 */
+    private static final Map<String, String> SYNONYMS = Map.ofEntries(
+            entry("밀크", "우유"),
+            entry("milk", "우유"),
+            entry("계란", "달걀"),
+            entry("egg", "달걀"),
+            entry("쥬스", "주스"),
+            entry("juice", "주스"),
+            entry("요거트", "요구르트"),
+            entry("yogurt", "요구르트"),
+            entry("떡볶기", "떡볶이"),
+            entry("도너츠", "도넛"),
+            entry("도나쓰", "도넛"),
+            entry("샌드윗치", "샌드위치"),
+            entry("케잌", "케이크"),
+            entry("케익", "케이크"),
+            entry("cake", "케이크"),
+            entry("bread", "빵")
+    );
+
+    private ItemNameNormalizer() {}
+
+    public static String normalize(String raw) {
+        if (raw == null) return "";
+        String s = Normalizer.normalize(raw, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(s).replaceAll(" ").trim();
+    }
+
+    public static Set<String> tokens(String raw) {
+        Set<String> tokens = new LinkedHashSet<>();
+        String normalized = normalize(raw);
+        if (normalized.isEmpty()) return tokens;
+
+        for (String word : normalized.split(" ")) {
+            String w = canonical(word);
+            tokens.add(w);
+
+            if (!SYNONYMS.containsKey(word) && w.length() >= 3 && isHangul(w)) { // 동의어 대표어는 그대로
+                tokens.add(canonical(w.substring(w.length() - 2)));
+            }
+        }
+        return tokens;
+    }
+
+    private static String canonical(String word) {
+        String w = SYNONYMS.getOrDefault(word, word);
+        return (w.length() > MAX_TOKEN_LENGTH) ? w.substring(0, MAX_TOKEN_LENGTH) : w;
+    }
+
+    private static boolean isHangul(String s) {
+        return s.codePoints().allMatch(cp -> Character.UnicodeScript.of(cp) == Character.UnicodeScript.HANGUL);
+    }
+}
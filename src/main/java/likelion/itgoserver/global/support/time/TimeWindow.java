@@ -0,0 +1,51 @@
+package likelion.itgoserver.global.support.time;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.TimePath;
+
+import java.time.LocalTime;
+
+/**
+ * 하루 중 시간대 [open, close] (양 끝 포함)
+ * - open > close 이면 자정을 넘기는 시간대 (예: 22:00 ~ 02:00)
+ */
+public record TimeWindow(LocalTime open, LocalTime close) {
+
+    public static TimeWindow of(LocalTime open, LocalTime close) {
+        return new TimeWindow(open, close);
+    }
+
+    public boolean isOvernight() {
+        return open.isAfter(close);
+    }
+
+    /**
+     * 겹침 판정
+     * - 둘 다 당일: aOpen ≤ bClose && aClose ≥ bOpen
+     * - 한쪽만 자정 넘김: [open, 24:00) ∪ [00:00, close] 로 나눠 판단
+     * - 둘 다 자정 넘김: 자정을 공유하므로 항상 겹침
+     */
+    public boolean overlaps(TimeWindow other) {
+        if (!isOvernight() && !other.isOvernight()) {
+            return !open.isAfter(other.close) && !close.isBefore(other.open);
+        }
+        if (isOvernight() && other.isOvernight()) return true;
+
+        TimeWindow night = isOvernight() ? this : other;
+        TimeWindow day = isOvernight() ? other : this;
+        return !night.open.isAfter(day.close) || !night.close.isBefore(day.open);
+    }
+
+    /** overlaps 와 같은 규칙의 SQL 조건 ([openPath, closePath] 컬럼 vs 이 시간대) */
+    public BooleanExpression overlapPredicate(TimePath<LocalTime> openPath, TimePath<LocalTime> closePath) {
+        BooleanExpression sameDay = openPath.loe(closePath);
+        BooleanExpression overnight = openPath.gt(closePath);
+
+        if (!isOvernight()) {
+            return sameDay.and(openPath.loe(close)).and(closePath.goe(open))
+                    .or(overnight.and(openPath.loe(close).or(closePath.goe(open))));
+        }
+        return sameDay.and(closePath.goe(open).or(openPath.loe(close)))
+                .or(overnight);
+    }
+}
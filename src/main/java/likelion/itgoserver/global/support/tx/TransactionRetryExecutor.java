@@ -0,0 +1,59 @@
+package likelion.itgoserver.global.support.tx;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 동시성 충돌(낙관락 버전 불일치, 데드락, 잠금 대기 초과) 시 트랜잭션 단위로 재시도
+ * - 시도마다 새 트랜잭션, 횟수는 app.tx.retry.max-attempts 로 제한
+ * - 이미 트랜잭션 안에서 호출되면 재시도 불가 → 그대로 한 번만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.tx.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.tx.retry.backoff-ms:20}")
+    private long backoffMs;
+
+    public <T> T execute(String name, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        int attempts = Math.max(1, maxAttempts);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= attempts) throw e;
+                log.info("[TxRetry] {} 충돌로 재시도 {}/{}: {}", name, attempt, attempts, e.getMessage());
+                sleep(attempt);
+            }
+        }
+    }
+
+    /** 시도 횟수에 비례한 대기 + 지터 (동시에 재충돌하지 않도록) */
+    private void sleep(int attempt) {
+        if (backoffMs <= 0) return;
+        long delay = backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package likelion.itgoserver.domain.claim.service;
+
+import likelion.itgoserver.domain.claim.entity.Claim;
+import likelion.itgoserver.domain.claim.entity.ClaimStatus;
+import likelion.itgoserver.domain.claim.repository.ClaimRepository;
+import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.share.entity.StorageType;
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.domain.store.entity.Store;
+import likelion.itgoserver.domain.trade.repository.TradeRepository;
+import likelion.itgoserver.domain.wish.entity.Wish;
+import likelion.itgoserver.domain.wish.repository.WishRepository;
+import likelion.itgoserver.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 Share 에 온 신청 CLAIMS 건을 동시에 수락해도 재고 이상 수락되지 않는지 (기본: 비관잠금)
+ * - 재고 방식별 하위 클래스가 app.stock.mode 만 바꿔 같은 시나리오를 실행
+ */
+class ClaimAcceptConcurrencyIntegrationTest extends IntegrationTestSupport {
+
+    static final int STOCK = 50;
+    static final int CLAIMS = 500;
+
+    @Autowired ClaimService claimService;
+    @Autowired ShareRepository shareRepository;
+    @Autowired WishRepository wishRepository;
+    @Autowired ClaimRepository claimRepository;
+    @Autowired TradeRepository tradeRepository;
+
+    @Test
+    void 동시_수락해도_재고_이상_수락되지_않음() throws Exception {
+        Store giver = saveStore("역삼동", 37.5006, 127.0364);
+        Store receiver = saveStore("역삼동", 37.5010, 127.0370);
+
+        acceptScenarioNanos(giver, receiver);
+    }
+
+    /** 수락 STOCK 건 + 나머지 자동 거절, 수락 건마다 거래 1건, 최종 수량 0 */
+    protected void assertAccepted(Long shareId, List<Long> claimIds) throws InterruptedException {
+        Map<ClaimStatus, Long> byStatus = claimRepository.findAllById(claimIds).stream()
+                .collect(Collectors.groupingBy(Claim::getStatus, Collectors.counting()));
+        assertThat(byStatus).containsEntry(ClaimStatus.ACCEPTED, (long) STOCK)
+                .containsEntry(ClaimStatus.REJECTED, (long) (CLAIMS - STOCK));
+        assertThat(claimIds.stream().filter(id -> tradeRepository.findByClaimId(id).isPresent()).count())
+                .isEqualTo(STOCK);
+        assertThat(finalQuantity(shareId)).isZero();
+    }
+
+    /** DB 에 반영된 최종 수량 (비동기 반영 방식은 하위 클래스에서 대기) */
+    protected int finalQuantity(Long shareId) throws InterruptedException {
+        return shareRepository.findQuantityById(shareId).orElseThrow();
+    }
+
+    /** 같은 시나리오(새 Share + CLAIMS 건 신청)를 만들어 동시 수락, 시작 신호부터 전부 끝날 때까지 걸린 시간(ns) */
+    protected long acceptScenarioNanos(Store giver, Store receiver) throws InterruptedException {
+        Long shareId = saveShare(giver, STOCK);
+        List<Long> claimIds = saveClaims(receiver, shareId, CLAIMS);
+
+        long start = System.nanoTime();
+        List<Throwable> errors = acceptConcurrently(claimIds);
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(errors).isEmpty();
+        assertAccepted(shareId, claimIds);
+        return elapsed;
+    }
+
+    protected List<Throwable> acceptConcurrently(List<Long> claimIds) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(claimIds.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long claimId : claimIds) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return claimService.accept(claimId);
+            }));
+        }
+        start.countDown();
+
+        List<Throwable> errors = new ArrayList<>();
+        for (Future<?> f : futures) {
+            try {
+                f.get(60, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                errors.add(e.getCause());
+            } catch (TimeoutException e) {
+                errors.add(e);
+            }
+        }
+        pool.shutdownNow();
+        return errors;
+    }
+
+    protected Long saveShare(Store store, int quantity) {
+        return transactionTemplate.execute(status -> shareRepository.save(Share.builder()
+                .store(store)
+                .itemName("서울우유 1L")
+                .quantity(quantity)
+                .expirationDate(LocalDate.now().plusDays(3))
+                .storageType(StorageType.REFRIGERATED)
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .build()).getId());
+    }
+
+    protected List<Long> saveClaims(Store receiver, Long shareId, int count) {
+        return transactionTemplate.execute(status -> {
+            Share share = shareRepository.getReferenceById(shareId);
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Wish wish = wishRepository.save(Wish.builder()
+                        .store(receiver)
+                        .title("우유 구해요 " + i)
+                        .itemName("우유")
+                        .quantity(1)
+                        .openTime(LocalTime.of(10, 0))
+                        .closeTime(LocalTime.of(12, 0))
+                        .build());
+                ids.add(claimRepository.save(Claim.from(wish, share)).getId());
+            }
+            return ids;
+        });
+    }
+}
@@ -0,0 +1,198 @@
+package likelion.itgoserver.domain.claim.service;
+
+import likelion.itgoserver.domain.claim.dto.ClaimDecisionRequest;
+import likelion.itgoserver.domain.claim.dto.ClaimDecisionRequest.AllocationOrder;
+import likelion.itgoserver.domain.claim.dto.ClaimDecisionRequest.Decision;
+import likelion.itgoserver.domain.claim.dto.ClaimDecisionResponse;
+import likelion.itgoserver.domain.claim.dto.ClaimDecisionResponse.Item;
+import likelion.itgoserver.domain.claim.dto.ClaimDecisionResponse.Outcome;
+import likelion.itgoserver.domain.claim.entity.Claim;
+import likelion.itgoserver.domain.claim.entity.ClaimStatus;
+import likelion.itgoserver.domain.claim.repository.ClaimRepository;
+import likelion.itgoserver.domain.image.repository.ShareImageRepository;
+import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.share.entity.ShareImage;
+import likelion.itgoserver.domain.share.entity.StorageType;
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.domain.store.entity.Store;
+import likelion.itgoserver.domain.trade.entity.Trade;
+import likelion.itgoserver.domain.trade.repository.TradeRepository;
+import likelion.itgoserver.domain.wish.entity.Wish;
+import likelion.itgoserver.domain.wish.repository.WishRepository;
+import likelion.itgoserver.support.IntegrationTestSupport;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 신청 일괄 처리(ClaimService.decide) 배분/결과 확인 (기본: 비관잠금)
+ * - 재고 5, 신청 수량 3 / 4 / 2 (신청 순) + 이미 거절된 신청 1건 + 다른 나눔글 신청 1건 + 없는 id
+ * - FIFO 면 3, 2 수락 / 4 재고 부족, AS_LISTED(4, 3, 2) 면 4 수락 / 3, 2 재고 부족
+ * - 대표 이미지는 일괄 처리 한 번에 1회만 조회 (StatementInspector 로 share_image 조회 수 확인)
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "likelion.itgoserver.domain.claim.service.ClaimDecideIntegrationTest$SqlCapture")
+class ClaimDecideIntegrationTest extends IntegrationTestSupport {
+
+    private static final int STOCK = 5;
+    private static final String PRIMARY_KEY = "shares/1/images/0_primary.jpg";
+
+    @Autowired ClaimService claimService;
+    @Autowired ShareRepository shareRepository;
+    @Autowired ShareImageRepository shareImageRepository;
+    @Autowired WishRepository wishRepository;
+    @Autowired ClaimRepository claimRepository;
+    @Autowired TradeRepository tradeRepository;
+
+    private Long ownerId;
+    private Long shareId;
+    private Long first;      // 수량 3
+    private Long second;     // 수량 4
+    private Long third;      // 수량 2
+    private Long decided;    // 이미 거절됨
+    private Long foreign;    // 다른 나눔글의 신청
+
+    @BeforeEach
+    void setUp() {
+        Store giver = saveStore("역삼동", 37.5006, 127.0364);
+        Store receiver = saveStore("역삼동", 37.5010, 127.0370);
+        ownerId = giver.getOwner().getId();
+
+        shareId = saveShare(giver, STOCK, true);
+        first = saveClaim(receiver, shareId, 3);
+        second = saveClaim(receiver, shareId, 4);
+        third = saveClaim(receiver, shareId, 2);
+        decided = saveClaim(receiver, shareId, 1);
+        claimService.reject(decided);
+        foreign = saveClaim(receiver, saveShare(giver, STOCK, false), 1);
+    }
+
+    @Test
+    void FIFO_는_신청_순으로_배분하고_뒤의_작은_신청도_수락() {
+        long missing = Long.MAX_VALUE;
+        SqlCapture.CAPTURED.clear();
+
+        ClaimDecisionResponse response = claimService.decide(ownerId, new ClaimDecisionRequest(
+                shareId, List.of(missing, third, foreign, decided, second, first, first), Decision.ACCEPT, AllocationOrder.FIFO));
+
+        // 배분 순서(신청 시각순) → 해당 나눔글이 아닌 id 는 요청 순서대로 뒤에
+        assertThat(response.results())
+                .extracting(Item::claimId, Item::outcome, Item::status)
+                .containsExactly(
+                        tuple(first, Outcome.ACCEPTED, ClaimStatus.ACCEPTED),
+                        tuple(second, Outcome.OUT_OF_STOCK, ClaimStatus.REJECTED),
+                        tuple(third, Outcome.ACCEPTED, ClaimStatus.ACCEPTED),
+                        tuple(decided, Outcome.ALREADY_DECIDED, ClaimStatus.REJECTED),
+                        tuple(missing, Outcome.NOT_FOUND, null),
+                        tuple(foreign, Outcome.NOT_FOUND, null));
+        assertThat(response.remainQuantity()).isZero();
+        assertThat(shareRepository.findQuantityById(shareId)).contains(0);
+
+        assertTradesMatch(response, first, third);
+        assertThat(claimRepository.findById(foreign).orElseThrow().getStatus()).isEqualTo(ClaimStatus.PENDING);
+        assertThat(SqlCapture.CAPTURED.stream().filter(sql -> sql.contains("from share_image")).count())
+                .as("대표 이미지 조회 횟수").isEqualTo(1);
+    }
+
+    @Test
+    void AS_LISTED_는_요청_목록_순서로_배분() {
+        ClaimDecisionResponse response = claimService.decide(ownerId, new ClaimDecisionRequest(
+                shareId, List.of(second, first, third), Decision.ACCEPT, AllocationOrder.AS_LISTED));
+
+        assertThat(response.results())
+                .extracting(Item::claimId, Item::outcome)
+                .containsExactly(
+                        tuple(second, Outcome.ACCEPTED),
+                        tuple(first, Outcome.OUT_OF_STOCK),
+                        tuple(third, Outcome.OUT_OF_STOCK));
+        assertThat(response.remainQuantity()).isEqualTo(1);
+        assertThat(shareRepository.findQuantityById(shareId)).contains(1);
+
+        assertTradesMatch(response, second);
+    }
+
+    @Test
+    void 일괄_거절은_재고와_거래에_영향_없음() {
+        ClaimDecisionResponse response = claimService.decide(ownerId, new ClaimDecisionRequest(
+                shareId, List.of(first, second, decided), Decision.REJECT, null));
+
+        assertThat(response.results())
+                .extracting(Item::claimId, Item::outcome, Item::tradeId)
+                .containsExactly(
+                        tuple(first, Outcome.REJECTED, null),
+                        tuple(second, Outcome.REJECTED, null),
+                        tuple(decided, Outcome.ALREADY_DECIDED, null));
+        assertThat(response.remainQuantity()).isEqualTo(STOCK);
+        assertThat(tradeRepository.findByClaimId(first)).isEmpty();
+    }
+
+    /** 수락된 신청만 거래가 있고, 응답의 tradeId 가 그 거래 (대표 이미지 스냅샷 포함) */
+    private void assertTradesMatch(ClaimDecisionResponse response, Long... acceptedIds) {
+        List<Long> accepted = List.of(acceptedIds);
+        for (Item item : response.results()) {
+            if (accepted.contains(item.claimId())) {
+                Trade trade = tradeRepository.findByClaimId(item.claimId()).orElseThrow();
+                assertThat(item.tradeId()).isEqualTo(trade.getId());
+                assertThat(trade.getPrimaryImageKey()).isEqualTo(PRIMARY_KEY);
+            } else {
+                assertThat(item.tradeId()).isNull();
+                if (item.status() != null) {
+                    assertThat(tradeRepository.findByClaimId(item.claimId())).isEmpty();
+                }
+            }
+        }
+    }
+
+    private Long saveShare(Store store, int quantity, boolean withImage) {
+        return transactionTemplate.execute(status -> {
+            Share share = shareRepository.save(Share.builder()
+                    .store(store)
+                    .itemName("서울우유 1L")
+                    .quantity(quantity)
+                    .expirationDate(LocalDate.now().plusDays(3))
+                    .storageType(StorageType.REFRIGERATED)
+                    .openTime(LocalTime.of(9, 0))
+                    .closeTime(LocalTime.of(21, 0))
+                    .build());
+            if (withImage) {
+                shareImageRepository.save(ShareImage.builder().share(share).seq(0).objectKey(PRIMARY_KEY).build());
+            }
+            return share.getId();
+        });
+    }
+
+    private Long saveClaim(Store receiver, Long shareId, int quantity) {
+        return transactionTemplate.execute(status -> {
+            Wish wish = wishRepository.save(Wish.builder()
+                    .store(receiver)
+                    .title("우유 구해요 " + quantity)
+                    .itemName("우유")
+                    .quantity(quantity)
+                    .openTime(LocalTime.of(10, 0))
+                    .closeTime(LocalTime.of(12, 0))
+                    .build());
+            return claimRepository.save(Claim.from(wish, shareRepository.getReferenceById(shareId))).getId();
+        });
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+}
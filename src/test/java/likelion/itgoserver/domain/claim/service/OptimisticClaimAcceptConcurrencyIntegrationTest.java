@@ -0,0 +1,68 @@
+package likelion.itgoserver.domain.claim.service;
+
+import likelion.itgoserver.domain.share.stock.ShareStockService;
+import likelion.itgoserver.domain.store.entity.Store;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 조건부 UPDATE + 버전 충돌 재시도 */
+@TestPropertySource(properties = "app.stock.mode=optimistic")
+class OptimisticClaimAcceptConcurrencyIntegrationTest extends ClaimAcceptConcurrencyIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticClaimAcceptConcurrencyIntegrationTest.class);
+
+    /** 방식별 반복 횟수 (교대로 실행, 중앙값 비교) */
+    private static final int ROUNDS = 3;
+
+    @Autowired ShareStockService shareStockService;
+
+    /**
+     * 같은 컨텍스트/같은 시나리오로 비관잠금과 낙관(조건부 UPDATE) 수락 처리량 비교
+     * - app.stock.mode 는 호출마다 읽으므로 필드만 바꿔 방식 전환
+     * - 라운드마다 새 Share + CLAIMS 건, 방식을 번갈아 실행해 캐시/예열 편향을 줄임
+     */
+    @Test
+    void 낙관_방식이_비관잠금보다_처리량이_높음() throws Exception {
+        Store giver = saveStore("역삼동", 37.5006, 127.0364);
+        Store receiver = saveStore("역삼동", 37.5010, 127.0370);
+        Object target = AopTestUtils.getUltimateTargetObject(shareStockService);
+
+        // 예열 (커넥션 풀, JIT, 버퍼 풀)
+        acceptScenarioNanos(giver, receiver);
+
+        long[] pessimistic = new long[ROUNDS];
+        long[] optimistic = new long[ROUNDS];
+        try {
+            for (int i = 0; i < ROUNDS; i++) {
+                ReflectionTestUtils.setField(target, "modeName", "pessimistic");
+                pessimistic[i] = acceptScenarioNanos(giver, receiver);
+                ReflectionTestUtils.setField(target, "modeName", "optimistic");
+                optimistic[i] = acceptScenarioNanos(giver, receiver);
+            }
+        } finally {
+            ReflectionTestUtils.setField(target, "modeName", "optimistic");
+        }
+
+        double pessimisticTps = throughput(pessimistic);
+        double optimisticTps = throughput(optimistic);
+        log.info("[Benchmark] claim accept x{} stock={} pessimistic={} req/s, optimistic={} req/s",
+                CLAIMS, STOCK, Math.round(pessimisticTps), Math.round(optimisticTps));
+        assertThat(optimisticTps).isGreaterThan(pessimisticTps);
+    }
+
+    /** 라운드 소요 시간 중앙값 기준 초당 수락 요청 수 */
+    private static double throughput(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return CLAIMS / (sorted[sorted.length / 2] / 1e9);
+    }
+}
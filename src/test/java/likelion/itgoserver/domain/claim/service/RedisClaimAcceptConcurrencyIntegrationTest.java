@@ -0,0 +1,19 @@
+package likelion.itgoserver.domain.claim.service;
+
+import org.springframework.test.context.TestPropertySource;
+
+/** Redis 카운터 차감, DB 수량은 ShareStockReconciler 가 반영할 때까지 대기 */
+@TestPropertySource(properties = {"app.stock.mode=redis", "app.stock.reconcile-interval-ms=100"})
+class RedisClaimAcceptConcurrencyIntegrationTest extends ClaimAcceptConcurrencyIntegrationTest {
+
+    @Override
+    protected int finalQuantity(Long shareId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        int quantity = super.finalQuantity(shareId);
+        while (quantity != 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            quantity = super.finalQuantity(shareId);
+        }
+        return quantity;
+    }
+}
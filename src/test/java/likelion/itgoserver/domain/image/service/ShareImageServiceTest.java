@@ -0,0 +1,182 @@
+package likelion.itgoserver.domain.image.service;
+
+import likelion.itgoserver.domain.image.repository.ImageFinalizeJobRepository;
+import likelion.itgoserver.domain.image.service.ShareImageService.CopyTask;
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.global.error.exception.CustomException;
+import likelion.itgoserver.global.infra.cdn.HmacUrlSigner;
+import likelion.itgoserver.global.infra.s3.cleanup.S3CleanupQueue;
+import likelion.itgoserver.global.infra.s3.service.PublicUrlResolver;
+import likelion.itgoserver.global.infra.s3.service.S3ImageService;
+import likelion.itgoserver.global.infra.s3.service.S3PresignedPostIssuer;
+import likelion.itgoserver.global.infra.storage.LocalObjectStorage;
+import likelion.itgoserver.global.infra.storage.ObjectStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * LocalObjectStorage 에 S3 왕복 지연을 흉내 낸 저장소로 draft → final 복사 벽시계 시간 확인
+ * - 호출마다 LATENCY_MS 지연 : 순차 처리(변경 전 HEAD + HEAD + COPY)면 5장에 약 15 x LATENCY_MS
+ * - 병렬 + HEAD 재사용이면 약 2 x LATENCY_MS
+ */
+class ShareImageServiceTest {
+
+    private static final long LATENCY_MS = 100;
+    private static final int IMAGES = 5;
+
+    @TempDir Path root;
+
+    private SlowStorage storage;
+    private S3CleanupQueue s3CleanupQueue;
+    private ExecutorService executor;
+    private ShareImageService service;
+
+    @BeforeEach
+    void setUp() {
+        storage = new SlowStorage(new LocalObjectStorage(root, "http://localhost/local-storage/",
+                new HmacUrlSigner("test-secret")));
+        s3CleanupQueue = mock(S3CleanupQueue.class);
+        executor = Executors.newFixedThreadPool(8);
+        service = new ShareImageService(mock(ShareRepository.class), s3CleanupQueue,
+                mock(ImageFinalizeJobRepository.class), mock(ApplicationEventPublisher.class),
+                new S3ImageService(storage), mock(PublicUrlResolver.class), mock(S3PresignedPostIssuer.class),
+                mock(DraftPresignCache.class), executor);
+        ReflectionTestUtils.setField(service, "copyTimeoutSeconds", 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 다섯_장_복사가_한_장_처리_시간_수준으로_끝남() {
+        List<CopyTask> tasks = drafts(IMAGES);
+
+        long start = System.nanoTime();
+        List<String> copied = service.copyAll(tasks);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(copied).containsExactlyElementsOf(tasks.stream().map(CopyTask::finalKey).toList());
+        assertThat(copied).allSatisfy(k -> assertThat(storage.exists(k)).isTrue());
+        // 이미지마다 HEAD 1 + COPY 1 (복사 시 HEAD 메타데이터 재사용)
+        assertThat(storage.heads.get()).isEqualTo(IMAGES);
+        assertThat(storage.copies.get()).isEqualTo(IMAGES);
+        // 순차면 최소 IMAGES x 2 x LATENCY_MS(1000ms), 병렬이면 약 2 x LATENCY_MS
+        assertThat(elapsedMs).isLessThan(IMAGES * LATENCY_MS);
+    }
+
+    @Test
+    void 하나라도_실패하면_목적지_키_전체를_즉시_정리() {
+        List<CopyTask> tasks = new ArrayList<>(drafts(IMAGES - 1));
+        tasks.add(new CopyTask("drafts/1/images/4_missing.png", "shares/1/images/4_missing.png"));
+
+        assertThatThrownBy(() -> service.copyAll(tasks)).isInstanceOf(CustomException.class);
+
+        verify(s3CleanupQueue).enqueueNow(tasks.stream().map(CopyTask::finalKey).toList());
+    }
+
+    private List<CopyTask> drafts(int count) {
+        List<CopyTask> tasks = new ArrayList<>(count);
+        for (int seq = 0; seq < count; seq++) {
+            String draftKey = "drafts/1/images/" + seq + "_draft.png";
+            storage.delegate.put(draftKey, new byte[1024], "image/png");
+            tasks.add(new CopyTask(draftKey, "shares/1/images/" + seq + "_final.png"));
+        }
+        return tasks;
+    }
+
+    /** HEAD/COPY 마다 S3 왕복 지연을 흉내 내는 저장소 */
+    private static class SlowStorage implements ObjectStorage {
+
+        final LocalObjectStorage delegate;
+        final AtomicInteger heads = new AtomicInteger();
+        final AtomicInteger copies = new AtomicInteger();
+
+        SlowStorage(LocalObjectStorage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ObjectInfo head(String key) {
+            heads.incrementAndGet();
+            roundTrip();
+            return delegate.head(key);
+        }
+
+        @Override
+        public void copy(String srcKey, String dstKey, ObjectInfo src) {
+            copies.incrementAndGet();
+            roundTrip();
+            delegate.copy(srcKey, dstKey, src);
+        }
+
+        @Override
+        public boolean exists(String key) {
+            return delegate.exists(key);
+        }
+
+        @Override
+        public byte[] read(String key) {
+            return delegate.read(key);
+        }
+
+        @Override
+        public void put(String key, byte[] bytes, String contentType) {
+            delegate.put(key, bytes, contentType);
+        }
+
+        @Override
+        public void delete(String key) {
+            delegate.delete(key);
+        }
+
+        @Override
+        public Map<String, String> deleteAll(Collection<String> keys) {
+            return delegate.deleteAll(keys);
+        }
+
+        @Override
+        public Page list(String prefix, String continuationToken, int maxKeys) {
+            return delegate.list(prefix, continuationToken, maxKeys);
+        }
+
+        @Override
+        public URL presignPut(String key, String contentType, Instant expiresAt) {
+            return delegate.presignPut(key, contentType, expiresAt);
+        }
+
+        @Override
+        public String publicUrl(String key) {
+            return delegate.publicUrl(key);
+        }
+
+        private static void roundTrip() {
+            try {
+                Thread.sleep(LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package likelion.itgoserver.domain.share.dto;
+
+import likelion.itgoserver.global.error.GlobalErrorCode;
+import likelion.itgoserver.global.error.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShareDongCursorTest {
+
+    @Test
+    void 거리_포함_왕복() {
+        ShareDongCursor cursor = new ShareDongCursor(1234.5678, LocalDateTime.of(2024, 5, 1, 12, 30, 0, 123_456_000), 42L);
+
+        assertThat(ShareDongCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 거리_없는_커서_왕복() {
+        ShareDongCursor cursor = new ShareDongCursor(null, LocalDateTime.of(2024, 5, 1, 0, 0), 7L);
+
+        assertThat(ShareDongCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 인코딩은_URL_안전() {
+        String encoded = new ShareDongCursor(0.1, LocalDateTime.of(2024, 5, 1, 23, 59, 59), Long.MAX_VALUE).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void 빈_커서는_첫_페이지() {
+        assertThat(ShareDongCursor.decode(null)).isNull();
+        assertThat(ShareDongCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void 잘못된_커서는_BAD_REQUEST() {
+        String wrongParts = Base64.getUrlEncoder().encodeToString("1.0|2024-05-01T00:00".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ShareDongCursor.decode("%%%"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode()).isEqualTo(GlobalErrorCode.BAD_REQUEST);
+        assertThatThrownBy(() -> ShareDongCursor.decode(wrongParts))
+                .isInstanceOf(CustomException.class);
+    }
+}
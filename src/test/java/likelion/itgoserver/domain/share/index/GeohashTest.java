@@ -0,0 +1,45 @@
+package likelion.itgoserver.domain.share.index;
+
+import likelion.itgoserver.global.support.geo.BoundingBox;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeohashTest {
+
+    @Test
+    void 알려진_좌표_인코딩() {
+        assertThat(Geohash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+    }
+
+    @Test
+    void 앞자리는_낮은_정밀도_인코딩과_같음() {
+        String full = Geohash.encode(37.5665, 126.9780, 9);
+        assertThat(Geohash.encode(37.5665, 126.9780, 5)).isEqualTo(full.substring(0, 5));
+    }
+
+    @Test
+    void 사각형_안의_모든_점은_덮는_셀에_포함() {
+        BoundingBox box = BoundingBox.around(37.5006, 127.0364, 3.0);
+        Set<String> cells = Geohash.covering(box, ShareGeoIndex.PRECISION);
+
+        Random random = new Random(1);
+        for (int i = 0; i < 10_000; i++) {
+            double lat = box.minLat() + random.nextDouble() * (box.maxLat() - box.minLat());
+            double lng = box.minLng() + random.nextDouble() * (box.maxLng() - box.minLng());
+            assertThat(cells).contains(Geohash.encode(lat, lng, ShareGeoIndex.PRECISION));
+        }
+        assertThat(cells)
+                .contains(Geohash.encode(box.minLat(), box.minLng(), ShareGeoIndex.PRECISION))
+                .contains(Geohash.encode(box.maxLat(), box.maxLng(), ShareGeoIndex.PRECISION));
+    }
+
+    @Test
+    void 셀보다_작은_사각형은_한_두_셀() {
+        BoundingBox box = BoundingBox.around(37.5006, 127.0364, 0.05);
+        assertThat(Geohash.covering(box, ShareGeoIndex.PRECISION)).hasSizeBetween(1, 4);
+    }
+}
@@ -0,0 +1,107 @@
+package likelion.itgoserver.domain.share.index;
+
+import likelion.itgoserver.global.support.time.TimeWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PickupWindowIndexTest {
+
+    @Test
+    void 같은_버킷이어도_분_단위로_안_겹치면_제외() {
+        PickupWindowIndex index = new PickupWindowIndex();
+        index.put(1L, "역삼동", window("09:00", "09:05"));
+        index.put(2L, "역삼동", window("09:10", "10:00"));
+
+        assertThat(index.overlapping("역삼동", window("09:06", "09:09"))).isEmpty();
+        assertThat(index.overlapping("역삼동", window("09:05", "09:10"))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 동네별로_분리() {
+        PickupWindowIndex index = new PickupWindowIndex();
+        index.put(1L, "역삼동", window("09:00", "18:00"));
+        index.put(2L, "삼성동", window("09:00", "18:00"));
+
+        assertThat(index.overlapping("역삼동", window("10:00", "11:00"))).containsExactly(1L);
+        assertThat(index.overlapping("논현동", window("10:00", "11:00"))).isEmpty();
+    }
+
+    @Test
+    void 자정을_넘기는_시간대는_양쪽_구간에서_조회() {
+        PickupWindowIndex index = new PickupWindowIndex();
+        index.put(1L, "역삼동", window("22:00", "02:00"));
+
+        assertThat(index.overlapping("역삼동", window("23:00", "23:30"))).containsExactly(1L);
+        assertThat(index.overlapping("역삼동", window("01:00", "01:30"))).containsExactly(1L);
+        assertThat(index.overlapping("역삼동", window("03:00", "21:00"))).isEmpty();
+    }
+
+    @Test
+    void 다시_넣으면_이전_시간대와_동네는_지워짐() {
+        PickupWindowIndex index = new PickupWindowIndex();
+        index.put(1L, "역삼동", window("09:00", "10:00"));
+        index.put(1L, "삼성동", window("15:00", "16:00"));
+
+        assertThat(index.overlapping("역삼동", window("09:00", "10:00"))).isEmpty();
+        assertThat(index.overlapping("삼성동", window("09:00", "10:00"))).isEmpty();
+        assertThat(index.overlapping("삼성동", window("15:30", "15:40"))).containsExactly(1L);
+    }
+
+    @Test
+    void 삭제한_slot_은_재사용돼도_결과가_섞이지_않음() {
+        PickupWindowIndex index = new PickupWindowIndex();
+        index.put(1L, "역삼동", window("09:00", "10:00"));
+        index.remove(1L);
+        index.put(2L, "역삼동", window("20:00", "21:00"));
+
+        assertThat(index.overlapping("역삼동", window("09:00", "10:00"))).isEmpty();
+        assertThat(index.overlapping("역삼동", window("20:30", "20:40"))).containsExactly(2L);
+    }
+
+    @Test
+    void 전수_비교와_일치() {
+        Random random = new Random(7);
+        PickupWindowIndex index = new PickupWindowIndex();
+        Map<Long, TimeWindow> windows = new HashMap<>();
+        for (long id = 1; id <= 500; id++) {
+            TimeWindow w = randomWindow(random);
+            index.put(id, "역삼동", w);
+            windows.put(id, w);
+        }
+        for (long id = 1; id <= 500; id += 3) {
+            index.remove(id);
+            windows.remove(id);
+        }
+
+        for (int i = 0; i < 300; i++) {
+            TimeWindow query = randomWindow(random);
+            Set<Long> expected = windows.entrySet().stream()
+                    .filter(e -> e.getValue().overlaps(query))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+
+            assertThat(index.overlapping("역삼동", query)).as("%s", query).isEqualTo(expected);
+        }
+    }
+
+    private static TimeWindow window(String open, String close) {
+        return TimeWindow.of(LocalTime.parse(open), LocalTime.parse(close));
+    }
+
+    private static TimeWindow randomWindow(Random random) {
+        LocalTime open = LocalTime.ofSecondOfDay(random.nextInt(24 * 60) * 60L);
+        LocalTime close;
+        do {
+            close = LocalTime.ofSecondOfDay(random.nextInt(24 * 60) * 60L);
+        } while (close.equals(open));
+        return TimeWindow.of(open, close);
+    }
+}
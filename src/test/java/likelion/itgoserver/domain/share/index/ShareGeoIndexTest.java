@@ -0,0 +1,111 @@
+package likelion.itgoserver.domain.share.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커밋 이후 반영 순서가 뒤집혀도 인덱스가 최신 version 을 유지하는지
+ */
+class ShareGeoIndexTest {
+
+    private static final String DONG = "역삼동";
+    private static final double LAT = 37.5006;
+    private static final double LNG = 127.0364;
+
+    private ShareGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ShareGeoIndex();
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "searchRadiusKm", 3.0);
+        index.beginRebuild();
+        index.completeRebuild(List.of());
+    }
+
+    @Test
+    void 늦게_도착한_이전_version_스냅샷은_무시() {
+        index.upsert(snapshot(1L, 5, 3));
+        index.upsert(snapshot(1L, 9, 2));
+
+        assertThat(quantityOf(1L)).isEqualTo(5);
+    }
+
+    @Test
+    void 품절로_빠진_뒤_이전_version_으로_다시_적재되지_않음() {
+        index.upsert(snapshot(1L, 1, 1));
+        index.upsert(snapshot(1L, 0, 3));
+        index.upsert(snapshot(1L, 1, 2));
+
+        assertThat(index.size()).isZero();
+
+        index.upsert(snapshot(1L, 2, 4));
+        assertThat(quantityOf(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void 삭제된_Share_는_어떤_version_으로도_복구되지_않음() {
+        index.upsert(snapshot(1L, 3, 1));
+        index.remove(1L);
+        index.upsert(snapshot(1L, 3, 7));
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void version_없는_수량_변경은_현재_version_을_유지() {
+        index.upsert(snapshot(1L, 3, 4));
+        index.updateQuantity(1L, 1, null);
+        index.upsert(snapshot(1L, 8, 3));
+
+        assertThat(quantityOf(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void 재적재_중_들어온_변경은_로드값보다_새로울_때만_반영() {
+        index.upsert(snapshot(1L, 3, 1));
+        index.upsert(snapshot(2L, 3, 1));
+
+        index.beginRebuild();
+        index.upsert(snapshot(1L, 7, 5));   // 로드 이후 커밋
+        index.upsert(snapshot(2L, 9, 2));   // 로드에 이미 포함된 것보다 오래됨
+        index.completeRebuild(List.of(snapshot(1L, 3, 4), snapshot(2L, 4, 3)));
+
+        assertThat(quantityOf(1L)).isEqualTo(7);
+        assertThat(quantityOf(2L)).isEqualTo(4);
+    }
+
+    @Test
+    void 재적재_중_들어온_version_없는_수량은_로드값_위에_덮어씀() {
+        index.upsert(snapshot(1L, 3, 1));
+
+        index.beginRebuild();
+        index.updateQuantity(1L, 0, null);
+        index.completeRebuild(List.of(snapshot(1L, 3, 2)));
+
+        assertThat(index.size()).isZero();
+    }
+
+    private int quantityOf(Long shareId) {
+        return index.findActiveByDong(DONG, LAT, LNG, -1L, LocalDate.now(), PageRequest.of(0, 10))
+                .stream()
+                .filter(h -> h.share().shareId().equals(shareId))
+                .findFirst()
+                .orElseThrow()
+                .share()
+                .quantity();
+    }
+
+    private static ShareSnapshot snapshot(Long shareId, int quantity, long version) {
+        return new ShareSnapshot(shareId, 10L, DONG, LAT, LNG, "우유", null, quantity,
+                null, null, null, null, null, false, LocalDateTime.now(), version);
+    }
+}
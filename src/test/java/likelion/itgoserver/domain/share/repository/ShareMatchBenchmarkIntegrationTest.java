@@ -0,0 +1,156 @@
+package likelion.itgoserver.domain.share.repository;
+
+import likelion.itgoserver.domain.share.dto.ShareWithDistance;
+import likelion.itgoserver.domain.store.entity.Store;
+import likelion.itgoserver.domain.wish.entity.Wish;
+import likelion.itgoserver.global.support.text.ItemNameNormalizer;
+import likelion.itgoserver.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 동네에 Share 10만 건이 있을 때 품목 토큰 매칭 지연 측정
+ * - 가게 1,000곳(반경 상자 안) + Share 100,000건 + 토큰을 JDBC 배치로 적재
+ * - findMatchesForWish(첫 페이지)/countMatchesForWish 를 예열 후 반복 실행해 p50/p95 기록
+ * - 결과 건수는 적재 시 Java 로 센 기대값과 비교, 지연은 느슨한 상한만 확인 (장비 편차)
+ */
+class ShareMatchBenchmarkIntegrationTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(ShareMatchBenchmarkIntegrationTest.class);
+
+    private static final String DONG = "대치동"; // 다른 통합 테스트 데이터와 섞이지 않는 동
+    private static final double LAT = 37.5006;
+    private static final double LNG = 127.0364;
+
+    private static final int STORES = 1_000;
+    private static final int SHARES = 100_000;
+    private static final int BATCH = 2_000;
+
+    private static final int WARMUP = 5;
+    private static final int RUNS = 30;
+    private static final long MAX_P95_MS = 1_000;
+
+    private static final List<String> ITEM_NAMES = List.of(
+            "우유", "서울우유 1L", "매일우유", "우유식빵", "두부", "계란 30구", "식빵", "바나나",
+            "사과", "요거트", "치즈", "햄", "양파", "감자", "고구마", "당근", "버터", "케이크", "김치", "라면");
+
+    @Autowired ShareRepository shareRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 동네_Share_10만건에서_토큰_매칭_지연() {
+        Store origin = saveStore(DONG, LAT, LNG);
+        long expected = seed();
+
+        Wish wish = Wish.builder()
+                .store(origin)
+                .title("우유 구해요")
+                .itemName("우유")
+                .quantity(1)
+                .openTime(LocalTime.of(10, 0))
+                .closeTime(LocalTime.of(12, 0))
+                .build();
+        PageRequest page = PageRequest.of(0, 20);
+
+        Slice<ShareWithDistance> first = shareRepository.findMatchesForWish(wish, null, page);
+        long count = shareRepository.countMatchesForWish(wish, null);
+
+        assertThat(count).isEqualTo(expected);
+        assertThat(first.getContent()).hasSize(20);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getContent())
+                .allSatisfy(r -> assertThat(ItemNameNormalizer.tokens(r.share().getItemName())).contains("우유"));
+
+        long[] find = measure(() -> shareRepository.findMatchesForWish(wish, null, page));
+        long[] countMs = measure(() -> shareRepository.countMatchesForWish(wish, null));
+
+        log.info("[Benchmark] shares/dong={} matched={} findMatchesForWish p50={}ms p95={}ms, countMatchesForWish p50={}ms p95={}ms",
+                SHARES, expected, find[0], find[1], countMs[0], countMs[1]);
+        assertThat(find[1]).isLessThan(MAX_P95_MS);
+        assertThat(countMs[1]).isLessThan(MAX_P95_MS);
+    }
+
+    /** 예열 후 RUNS 회 실행, [p50, p95] (ms) */
+    private static long[] measure(Supplier<?> call) {
+        for (int i = 0; i < WARMUP; i++) call.get();
+        long[] elapsed = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            call.get();
+            elapsed[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(elapsed);
+        return new long[]{elapsed[RUNS / 2], elapsed[(int) Math.ceil(RUNS * 0.95) - 1]};
+    }
+
+    /** 가게/Share/토큰 적재, "우유" 토큰을 가진 Share 수 반환 */
+    private long seed() {
+        Random random = new Random(7);
+
+        // 가게: 기준점 주변 약 2km 안 (검색 반경 3km 상자에 모두 포함)
+        List<Object[]> stores = new ArrayList<>(STORES);
+        for (int i = 0; i < STORES; i++) {
+            stores.add(new Object[]{
+                    "벤치 가게" + i, "도로명 " + i, DONG,
+                    LAT + (random.nextDouble() - 0.5) * 0.03, LNG + (random.nextDouble() - 0.5) * 0.03
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into store (store_name, road_address, dong, latitude, longitude, phone_number,
+                                   open_time, close_time, give_times, received_times, store_image_thumbnail_status)
+                values (?, ?, ?, ?, ?, '010-0000-0000', '09:00:00', '21:00:00', 0, 0, 'PENDING')
+                """, stores);
+        List<Long> storeIds = jdbcTemplate.queryForList(
+                "select id from store where store_name like '벤치 가게%' order by id", Long.class);
+
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from share", Long.class);
+        long nextId = (maxId == null ? 0 : maxId) + 1;
+        Date expiration = Date.valueOf(LocalDate.now().plusDays(3));
+
+        long matching = 0;
+        List<Object[]> shares = new ArrayList<>(BATCH);
+        List<Object[]> tokens = new ArrayList<>(BATCH * 2);
+        for (int i = 0; i < SHARES; i++) {
+            long id = nextId + i;
+            String itemName = ITEM_NAMES.get(random.nextInt(ITEM_NAMES.size()));
+            shares.add(new Object[]{id, storeIds.get(random.nextInt(storeIds.size())), itemName,
+                    1 + random.nextInt(5), expiration});
+            var itemTokens = ItemNameNormalizer.tokens(itemName);
+            for (String t : itemTokens) tokens.add(new Object[]{id, t});
+            if (itemTokens.contains("우유")) matching++;
+
+            if (shares.size() == BATCH || i == SHARES - 1) {
+                insertShares(shares, tokens);
+                shares.clear();
+                tokens.clear();
+            }
+        }
+        jdbcTemplate.execute("analyze table store, share, share_item_token");
+        return matching;
+    }
+
+    private void insertShares(List<Object[]> shares, List<Object[]> tokens) {
+        jdbcTemplate.batchUpdate("""
+                insert into share (id, store_id, item_name, quantity, expiration_date, storage_type,
+                                   fresh_certified, open_time, close_time, version, reg_date, mod_date)
+                values (?, ?, ?, ?, ?, 'REFRIGERATED', false, '09:00:00', '21:00:00', 0, now(), now())
+                """, shares);
+        jdbcTemplate.batchUpdate("insert into share_item_token (share_id, token) values (?, ?)", tokens);
+    }
+}
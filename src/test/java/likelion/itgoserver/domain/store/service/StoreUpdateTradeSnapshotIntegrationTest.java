@@ -0,0 +1,98 @@
+package likelion.itgoserver.domain.store.service;
+
+import likelion.itgoserver.domain.claim.entity.Claim;
+import likelion.itgoserver.domain.claim.repository.ClaimRepository;
+import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.share.entity.StorageType;
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.domain.store.dto.AddressRequest;
+import likelion.itgoserver.domain.store.dto.StoreUpdateRequest;
+import likelion.itgoserver.domain.store.entity.Store;
+import likelion.itgoserver.domain.trade.dto.TradeListRow;
+import likelion.itgoserver.domain.trade.entity.Trade;
+import likelion.itgoserver.domain.trade.repository.TradeRepository;
+import likelion.itgoserver.domain.wish.entity.Wish;
+import likelion.itgoserver.domain.wish.repository.WishRepository;
+import likelion.itgoserver.global.support.geo.GeoDistance;
+import likelion.itgoserver.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 가게 정보 수정 → 거래 내역 읽기 모델(스냅샷 컬럼, 거리)에 바로 반영되는지 확인
+ */
+class StoreUpdateTradeSnapshotIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired StoreService storeService;
+    @Autowired TradeRepository tradeRepository;
+    @Autowired ShareRepository shareRepository;
+    @Autowired WishRepository wishRepository;
+    @Autowired ClaimRepository claimRepository;
+
+    @Test
+    void 가게_이름_주소_변경이_양쪽_거래_내역에_반영() {
+        Store giver = saveStore("삼성동", 37.5088, 127.0631);
+        Store receiver = saveStore("삼성동", 37.5102, 127.0600);
+        saveTrade(giver, receiver);
+
+        // 나눔한 가게가 이름/주소/연락처/시간/좌표를 바꿈 (약 5km 이동)
+        double movedLat = 37.5547, movedLng = 126.9707;
+        storeService.updateStore(giver.getOwner().getId(), new StoreUpdateRequest(
+                "바뀐 가게", null,
+                new AddressRequest("서울 중구 한강대로 405", "봉래동2가", movedLat, movedLng),
+                LocalTime.of(7, 0), LocalTime.of(23, 0), "02-9999-9999", "이전했습니다."));
+
+        double expectedDistance = GeoDistance.meters(movedLat, movedLng,
+                receiver.getAddress().getLatitude(), receiver.getAddress().getLongitude());
+
+        // 받은 쪽 목록 : counterpart = 나눔한 가게 → 새 정보
+        TradeListRow received = tradeRepository.findReceivedRows(receiver.getId(), null, PageRequest.of(0, 10))
+                .getContent().get(0);
+        assertThat(received.counterpartStoreName()).isEqualTo("바뀐 가게");
+        assertThat(received.counterpartRoadAddress()).isEqualTo("서울 중구 한강대로 405");
+        assertThat(received.counterpartPhoneNumber()).isEqualTo("02-9999-9999");
+        assertThat(received.counterpartOpenTime()).isEqualTo(LocalTime.of(7, 0));
+        assertThat(received.counterpartCloseTime()).isEqualTo(LocalTime.of(23, 0));
+        assertThat(received.distanceMeters()).isCloseTo(expectedDistance, within(expectedDistance * 0.01));
+
+        // 나눔한 쪽 목록 : counterpart 는 그대로, 거리만 갱신
+        TradeListRow given = tradeRepository.findGivenRows(giver.getId(), null, PageRequest.of(0, 10))
+                .getContent().get(0);
+        assertThat(given.counterpartStoreName()).isEqualTo(receiver.getStoreName());
+        assertThat(given.distanceMeters()).isCloseTo(expectedDistance, within(expectedDistance * 0.01));
+    }
+
+    private void saveTrade(Store giver, Store receiver) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Share share = shareRepository.save(Share.builder()
+                    .store(giver)
+                    .itemName("우유")
+                    .brand("서울우유")
+                    .description("유통기한 임박 우유")
+                    .quantity(1)
+                    .expirationDate(LocalDate.now().plusDays(3))
+                    .storageType(StorageType.REFRIGERATED)
+                    .openTime(LocalTime.of(9, 0))
+                    .closeTime(LocalTime.of(21, 0))
+                    .build());
+            Wish wish = wishRepository.save(Wish.builder()
+                    .store(receiver)
+                    .title("우유 구해요")
+                    .itemName("우유")
+                    .description("아이 간식용")
+                    .quantity(1)
+                    .openTime(LocalTime.of(10, 0))
+                    .closeTime(LocalTime.of(12, 0))
+                    .build());
+            Claim claim = claimRepository.save(Claim.from(wish, share));
+            tradeRepository.save(Trade.fromAcceptedClaim(claim, null));
+        });
+    }
+}
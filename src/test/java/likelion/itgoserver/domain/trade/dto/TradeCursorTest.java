@@ -0,0 +1,39 @@
+package likelion.itgoserver.domain.trade.dto;
+
+import likelion.itgoserver.global.error.GlobalErrorCode;
+import likelion.itgoserver.global.error.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TradeCursorTest {
+
+    @Test
+    void 왕복() {
+        TradeCursor cursor = new TradeCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 999_999_000), 99L);
+
+        assertThat(TradeCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void 빈_커서는_첫_페이지() {
+        assertThat(TradeCursor.decode(null)).isNull();
+        assertThat(TradeCursor.decode("")).isNull();
+    }
+
+    @Test
+    void 잘못된_커서는_BAD_REQUEST() {
+        String notANumber = Base64.getUrlEncoder().encodeToString("2024-05-01T00:00|abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> TradeCursor.decode(notANumber))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode()).isEqualTo(GlobalErrorCode.BAD_REQUEST);
+        assertThatThrownBy(() -> TradeCursor.decode("not-base64!"))
+                .isInstanceOf(CustomException.class);
+    }
+}
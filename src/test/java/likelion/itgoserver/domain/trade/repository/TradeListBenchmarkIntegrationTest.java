@@ -0,0 +1,153 @@
+package likelion.itgoserver.domain.trade.repository;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import likelion.itgoserver.domain.claim.entity.Claim;
+import likelion.itgoserver.domain.claim.repository.ClaimRepository;
+import likelion.itgoserver.domain.share.entity.Share;
+import likelion.itgoserver.domain.share.entity.StorageType;
+import likelion.itgoserver.domain.share.repository.ShareRepository;
+import likelion.itgoserver.domain.store.entity.Store;
+import likelion.itgoserver.domain.trade.dto.TradeListRow;
+import likelion.itgoserver.domain.trade.entity.Trade;
+import likelion.itgoserver.domain.wish.entity.Wish;
+import likelion.itgoserver.domain.wish.repository.WishRepository;
+import likelion.itgoserver.global.support.geo.GeoDistance;
+import likelion.itgoserver.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역 한 페이지 조회 비용 비교 : 엔티티 그래프 경로(변경 전) vs 컬럼 프로젝션(현재)
+ * - 변경 전 경로는 @EntityGraph(giverStore, receiverStore, share, wish) 페이지 조회 + Java 거리 계산을 그대로 재현
+ * - 각 경로를 읽기 전용 트랜잭션에서 예열 후 반복 실행, 페이지당 지연(p50)과 할당 바이트(중앙값) 기록
+ * - 할당은 스레드 할당 카운터 기준이라 안정적 → 프로젝션이 더 적게 할당하는지만 확인, 지연은 기록만
+ */
+class TradeListBenchmarkIntegrationTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(TradeListBenchmarkIntegrationTest.class);
+
+    private static final int TRADES = 300;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 20;
+    private static final int RUNS = 50;
+
+    @Autowired TradeRepository tradeRepository;
+    @Autowired ShareRepository shareRepository;
+    @Autowired WishRepository wishRepository;
+    @Autowired ClaimRepository claimRepository;
+    @Autowired EntityManager entityManager;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void 프로젝션_경로가_엔티티_그래프_경로보다_적게_할당() {
+        Store giver = saveStore("삼성동", 37.5088, 127.0631);
+        Store receiver = saveStore("삼성동", 37.5102, 127.0600);
+        seedTrades(giver, receiver);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        PageRequest page = PageRequest.of(1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "regDate"));
+
+        long[] entity = measure(() -> readOnly.execute(s -> entityPage(giver.getId(), page)));
+        long[] projection = measure(() -> readOnly.execute(s -> tradeRepository.findGivenRows(giver.getId(), null, page)));
+
+        log.info("[Benchmark] trade page size={} entity-graph p50={}us alloc={}B, projection p50={}us alloc={}B",
+                PAGE_SIZE, entity[0], entity[1], projection[0], projection[1]);
+        assertThat(projection[1]).isLessThan(entity[1]);
+    }
+
+    /** 변경 전 경로 : 엔티티 4종을 함께 읽어 페이지 + count, 거리는 행마다 Java 로 계산 */
+    private List<Double> entityPage(Long giverStoreId, PageRequest page) {
+        EntityGraph<Trade> graph = entityManager.createEntityGraph(Trade.class);
+        graph.addAttributeNodes("giverStore", "receiverStore", "share", "wish");
+
+        List<Trade> content = entityManager.createQuery("""
+                        select t from Trade t
+                         where t.giverStore.id = :storeId
+                         order by t.regDate desc, t.id desc
+                        """, Trade.class)
+                .setParameter("storeId", giverStoreId)
+                .setHint("jakarta.persistence.fetchgraph", graph)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize())
+                .getResultList();
+        entityManager.createQuery("select count(t) from Trade t where t.giverStore.id = :storeId", Long.class)
+                .setParameter("storeId", giverStoreId)
+                .getSingleResult();
+
+        return content.stream()
+                .map(t -> GeoDistance.meters(
+                        t.getGiverStore().getAddress().getLatitude(), t.getGiverStore().getAddress().getLongitude(),
+                        t.getReceiverStore().getAddress().getLatitude(), t.getReceiverStore().getAddress().getLongitude()))
+                .toList();
+    }
+
+    /** 예열 후 RUNS 회 실행, [지연 p50 (us), 할당 바이트 중앙값] */
+    private static long[] measure(Supplier<?> call) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) call.get();
+
+        long[] micros = new long[RUNS];
+        long[] bytes = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long allocated = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            Object result = call.get();
+            micros[i] = (System.nanoTime() - start) / 1_000;
+            bytes[i] = threads.getThreadAllocatedBytes(threadId) - allocated;
+            assertThat(result).isNotNull();
+        }
+        Arrays.sort(micros);
+        Arrays.sort(bytes);
+        return new long[]{micros[RUNS / 2], bytes[RUNS / 2]};
+    }
+
+    private void seedTrades(Store giver, Store receiver) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < TRADES; i++) {
+                Share share = shareRepository.save(Share.builder()
+                        .store(giver)
+                        .itemName("우유 " + i)
+                        .brand("서울우유")
+                        .description("유통기한 임박 우유")
+                        .quantity(1)
+                        .expirationDate(LocalDate.now().plusDays(3))
+                        .storageType(StorageType.REFRIGERATED)
+                        .openTime(LocalTime.of(9, 0))
+                        .closeTime(LocalTime.of(21, 0))
+                        .build());
+                Wish wish = wishRepository.save(Wish.builder()
+                        .store(receiver)
+                        .title("우유 구해요 " + i)
+                        .itemName("우유")
+                        .description("아이 간식용")
+                        .quantity(1)
+                        .openTime(LocalTime.of(10, 0))
+                        .closeTime(LocalTime.of(12, 0))
+                        .build());
+                Claim claim = claimRepository.save(Claim.from(wish, share));
+                tradeRepository.save(Trade.fromAcceptedClaim(claim, null));
+            }
+        });
+        Page<TradeListRow> check = tradeRepository.findGivenRows(giver.getId(), null, PageRequest.of(0, PAGE_SIZE));
+        assertThat(check.getTotalElements()).isEqualTo(TRADES);
+    }
+}
@@ -0,0 +1,167 @@
+package likelion.itgoserver.domain.trade.repository;
+
+import likelion.itgoserver.domain.trade.dto.TradeCursor;
+import likelion.itgoserver.domain.trade.entity.TradeStatus;
+import likelion.itgoserver.support.IntegrationTestSupport;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역 목록 쿼리가 (가게, 상태, reg_date, id) 인덱스 순서로 읽혀 filesort 가 없는지 EXPLAIN 으로 확인
+ * - Hibernate 가 실제로 만든 SQL 을 StatementInspector 로 잡아 그대로 EXPLAIN (쿼리 모양이 바뀌어도 따라감)
+ * - 바인딩 값은 앞쪽 조건만 지정, 나머지(limit/offset) 자리는 페이지 크기로 채움
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "likelion.itgoserver.domain.trade.repository.TradeListExplainIntegrationTest$SqlCapture")
+class TradeListExplainIntegrationTest extends IntegrationTestSupport {
+
+    private static final int STORES = 20;
+    private static final int TRADES = 20_000;
+    private static final int SIZE = 20;
+
+    private static final long GIVER = 1L;
+    private static final long RECEIVER = 2L;
+
+    @Autowired TradeRepository tradeRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        Integer existing = jdbcTemplate.queryForObject("select count(*) from trade", Integer.class);
+        if (existing != null && existing >= TRADES) return;
+
+        // 거래 목록 쿼리는 trade 단일 테이블만 읽음 → 참조 행 없이 FK 검사만 끄고 적재
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            try (Statement st = con.createStatement()) {
+                st.execute("set foreign_key_checks = 0");
+            }
+            Random random = new Random(16);
+            TradeStatus[] statuses = TradeStatus.values();
+            LocalDateTime base = LocalDateTime.now().minusDays(365);
+            try (PreparedStatement ps = con.prepareStatement("""
+                    insert into trade (claim_id, share_id, wish_id, giver_store_id, receiver_store_id,
+                                       item_name, quantity, status, reg_date, mod_date)
+                    values (?, ?, ?, ?, ?, '우유', 1, ?, ?, ?)
+                    """)) {
+                for (int i = 1; i <= TRADES; i++) {
+                    Timestamp regDate = Timestamp.valueOf(base.plusMinutes(random.nextInt(365 * 24 * 60)));
+                    ps.setLong(1, 1_000_000L + i);
+                    ps.setLong(2, i);
+                    ps.setLong(3, i);
+                    ps.setLong(4, 1 + random.nextInt(STORES));
+                    ps.setLong(5, 1 + random.nextInt(STORES));
+                    ps.setString(6, statuses[random.nextInt(statuses.length)].name());
+                    ps.setTimestamp(7, regDate);
+                    ps.setTimestamp(8, regDate);
+                    ps.addBatch();
+                    if (i % 2_000 == 0) ps.executeBatch();
+                }
+                ps.executeBatch();
+            } finally {
+                try (Statement st = con.createStatement()) {
+                    st.execute("set foreign_key_checks = 1");
+                }
+            }
+            return null;
+        });
+        jdbcTemplate.execute("analyze table trade");
+    }
+
+    @Test
+    void 보낸_거래_상태별_커서_첫_페이지() {
+        String sql = capture(() -> tradeRepository.findGivenRowsAfter(GIVER, TradeStatus.COMPLETED, null, SIZE));
+
+        assertNoFilesort(sql, "idx_trade_giver_", GIVER, TradeStatus.COMPLETED.name());
+    }
+
+    @Test
+    void 보낸_거래_상태별_커서_다음_페이지() {
+        LocalDateTime at = LocalDateTime.now().minusDays(100);
+        String sql = capture(() -> tradeRepository.findGivenRowsAfter(GIVER, TradeStatus.COMPLETED,
+                new TradeCursor(at, 10_000L), SIZE));
+
+        assertNoFilesort(sql, "idx_trade_giver_", GIVER, TradeStatus.COMPLETED.name(),
+                Timestamp.valueOf(at), Timestamp.valueOf(at), 10_000L);
+    }
+
+    @Test
+    void 받은_거래_상태별_커서_다음_페이지() {
+        LocalDateTime at = LocalDateTime.now().minusDays(100);
+        String sql = capture(() -> tradeRepository.findReceivedRowsAfter(RECEIVER, TradeStatus.MATCHED,
+                new TradeCursor(at, 10_000L), SIZE));
+
+        assertNoFilesort(sql, "idx_trade_receiver_", RECEIVER, TradeStatus.MATCHED.name(),
+                Timestamp.valueOf(at), Timestamp.valueOf(at), 10_000L);
+    }
+
+    @Test
+    void 상태_없는_전체_내역_커서() {
+        String sql = capture(() -> tradeRepository.findReceivedRowsAfter(RECEIVER, null, null, SIZE));
+
+        assertNoFilesort(sql, "idx_trade_receiver_", RECEIVER);
+    }
+
+    @Test
+    void 오프셋_페이지_기본_정렬() {
+        String sql = capture(() -> tradeRepository.findGivenRows(GIVER, TradeStatus.COMPLETED,
+                PageRequest.of(2, SIZE, Sort.by(Sort.Direction.DESC, "regDate"))));
+
+        assertNoFilesort(sql, "idx_trade_giver_", GIVER, TradeStatus.COMPLETED.name());
+    }
+
+    /** 목록 조회 SQL(첫 번째 trade 조회)만 골라 반환 */
+    private static String capture(Runnable call) {
+        SqlCapture.CAPTURED.clear();
+        call.run();
+        return SqlCapture.CAPTURED.stream()
+                .filter(s -> s.contains("from trade") && !s.contains("count("))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("trade 목록 SQL 이 잡히지 않음: " + SqlCapture.CAPTURED));
+    }
+
+    private void assertNoFilesort(String sql, String indexPrefix, Object... leadingArgs) {
+        int placeholders = (int) sql.chars().filter(c -> c == '?').count();
+        assertThat(placeholders).as("바인딩 자리 수: %s", sql).isGreaterThanOrEqualTo(leadingArgs.length);
+
+        List<Object> args = new ArrayList<>(List.of(leadingArgs));
+        while (args.size() < placeholders) args.add(SIZE);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("explain " + sql, args.toArray());
+
+        assertThat(plan).as("EXPLAIN %s", sql).hasSize(1);
+        Map<String, Object> row = plan.get(0);
+        assertThat((String) row.get("key")).as("사용 인덱스: %s", row).startsWith(indexPrefix);
+        assertThat(String.valueOf(row.get("Extra"))).as("Extra: %s", row).doesNotContain("Using filesort");
+    }
+
+    /** Hibernate 가 실행하는 SQL 을 모아두는 검사기 (테스트 컨텍스트에서만 등록) */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+}
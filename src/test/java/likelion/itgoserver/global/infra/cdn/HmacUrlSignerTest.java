@@ -0,0 +1,52 @@
+package likelion.itgoserver.global.infra.cdn;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HmacUrlSignerTest {
+
+    private static final String URL = "https://cdn.example.com/shares/1/images/0_a.jpg";
+    private static final Instant NOW = Instant.ofEpochSecond(1_800_000_000L);
+
+    private final HmacUrlSigner signer = new HmacUrlSigner("test-secret");
+
+    @Test
+    void 서명한_URL_은_만료_전까지_검증_통과() {
+        MultiValueMap<String, String> query = query(signer.sign(URL, NOW.plusSeconds(60)));
+        long expires = Long.parseLong(query.getFirst("expires"));
+
+        assertThat(signer.verify(URL, expires, query.getFirst("sig"), NOW)).isTrue();
+        assertThat(signer.verify(URL, expires, query.getFirst("sig"), NOW.plusSeconds(59))).isTrue();
+    }
+
+    @Test
+    void 경로_만료시각_서명이_바뀌면_거부() {
+        MultiValueMap<String, String> query = query(signer.sign(URL, NOW.plusSeconds(60)));
+        long expires = Long.parseLong(query.getFirst("expires"));
+        String sig = query.getFirst("sig");
+
+        assertThat(signer.verify(URL.replace("0_a", "0_b"), expires, sig, NOW)).isFalse();
+        assertThat(signer.verify(URL, expires + 3600, sig, NOW)).isFalse();
+        assertThat(signer.verify(URL, expires, sig.substring(1) + "A", NOW)).isFalse();
+        assertThat(signer.verify(URL, expires, null, NOW)).isFalse();
+        assertThat(new HmacUrlSigner("other-secret").verify(URL, expires, sig, NOW)).isFalse();
+    }
+
+    @Test
+    void 만료_시각이_지나면_거부() {
+        MultiValueMap<String, String> query = query(signer.sign(URL, NOW.plusSeconds(60)));
+        long expires = Long.parseLong(query.getFirst("expires"));
+
+        assertThat(signer.verify(URL, expires, query.getFirst("sig"), NOW.plusSeconds(60))).isFalse();
+        assertThat(signer.verify(URL, expires, query.getFirst("sig"), NOW.plusSeconds(3600))).isFalse();
+    }
+
+    private static MultiValueMap<String, String> query(String signedUrl) {
+        return UriComponentsBuilder.fromUriString(signedUrl).build().getQueryParams();
+    }
+}
@@ -0,0 +1,121 @@
+package likelion.itgoserver.global.infra.cdn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * window 단위 서명 URL 재사용 확인 (HmacUrlSigner + 시계 고정)
+ * - window 3600s, min-remaining 300s, 시계는 window 시작 + 100s 에서 출발
+ */
+class SignedUrlIssuerTest {
+
+    private static final long WINDOW = 3600;
+    private static final long MIN_REMAINING = 300;
+    private static final Instant WINDOW_START = Instant.ofEpochSecond(1_800_000_000L / WINDOW * WINDOW);
+    private static final String KEY = "shares/1/images/0_a.jpg";
+    private static final String URL = "https://cdn.example.com/" + KEY;
+
+    private MutableClock clock;
+    private SignedUrlIssuer issuer;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(WINDOW_START.plusSeconds(100));
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("urlSigner", new HmacUrlSigner("test-secret"));
+        beans.addBean("clock", clock);
+
+        issuer = new SignedUrlIssuer(beans.getBeanProvider(UrlSigner.class), beans.getBeanProvider(Clock.class));
+        ReflectionTestUtils.setField(issuer, "enabled", true);
+        ReflectionTestUtils.setField(issuer, "windowSeconds", WINDOW);
+        ReflectionTestUtils.setField(issuer, "minRemainingSeconds", MIN_REMAINING);
+        ReflectionTestUtils.setField(issuer, "cacheMaxSize", 100L);
+        issuer.init();
+    }
+
+    @Test
+    void 같은_window_안에서는_같은_URL() {
+        String first = issuer.issue(KEY, URL);
+        clock.advance(Duration.ofSeconds(WINDOW - 200)); // window 끝나기 100s 전
+
+        assertThat(issuer.issue(KEY, URL)).isEqualTo(first);
+    }
+
+    @Test
+    void window_가_지나면_새_URL() {
+        String first = issuer.issue(KEY, URL);
+        clock.advance(Duration.ofSeconds(WINDOW - 100)); // 정확히 다음 window 시작
+
+        String next = issuer.issue(KEY, URL);
+
+        assertThat(next).isNotEqualTo(first);
+        assertThat(expires(next)).isEqualTo(expires(first) + WINDOW);
+    }
+
+    @Test
+    void 만료는_window_끝_더하기_min_remaining() {
+        String url = issuer.issue(KEY, URL);
+
+        long reuseUntil = WINDOW_START.getEpochSecond() + WINDOW;
+        assertThat(expires(url)).isEqualTo(reuseUntil + MIN_REMAINING);
+
+        // 캐시에서 꺼낼 수 있는 마지막 순간에도 min-remaining 이상 유효
+        clock.advance(Duration.ofSeconds(WINDOW - 101));
+        assertThat(issuer.issue(KEY, URL)).isEqualTo(url);
+        assertThat(expires(url) - clock.instant().getEpochSecond()).isGreaterThanOrEqualTo(MIN_REMAINING);
+    }
+
+    @Test
+    void 서버가_달라도_같은_window_면_같은_URL() {
+        String first = issuer.issue(KEY, URL);
+        SignedUrlIssuerTest other = new SignedUrlIssuerTest();
+        other.setUp();
+        other.clock.advance(Duration.ofSeconds(1_000));
+
+        assertThat(other.issuer.issue(KEY, URL)).isEqualTo(first);
+    }
+
+    private static long expires(String signedUrl) {
+        return Long.parseLong(UriComponentsBuilder.fromUriString(signedUrl).build().getQueryParams().getFirst("expires"));
+    }
+
+    /** 테스트에서 직접 시간을 옮기는 시계 */
+    static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package likelion.itgoserver.global.infra.image;
+
+import likelion.itgoserver.global.infra.image.ThumbnailGenerator.UnreadableImageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThumbnailGeneratorTest {
+
+    private ThumbnailGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new ThumbnailGenerator();
+        ReflectionTestUtils.setField(generator, "maxPixels", 40_000_000L);
+        ReflectionTestUtils.setField(generator, "quality", 0.8f);
+    }
+
+    @Test
+    void 폭별_JPEG_생성_비율_유지() throws IOException {
+        byte[] png = encode(solid(2000, 1500, Color.RED), "png");
+
+        Map<Integer, byte[]> thumbs = generator.generate(png, ThumbnailKeys.WIDTHS);
+
+        assertThat(thumbs).containsOnlyKeys(240, 480);
+        assertThat(size(thumbs.get(240))).isEqualTo(new Dimension(240, 180));
+        assertThat(size(thumbs.get(480))).isEqualTo(new Dimension(480, 360));
+    }
+
+    @Test
+    void 원본보다_큰_폭은_확대하지_않음() throws IOException {
+        byte[] jpeg = encode(solid(100, 50, Color.BLUE), "jpg");
+
+        Map<Integer, byte[]> thumbs = generator.generate(jpeg, ThumbnailKeys.WIDTHS);
+
+        assertThat(size(thumbs.get(240))).isEqualTo(new Dimension(100, 50));
+        assertThat(size(thumbs.get(480))).isEqualTo(new Dimension(100, 50));
+    }
+
+    @Test
+    void 투명_PNG_는_흰_배경() throws IOException {
+        BufferedImage transparent = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        byte[] png = encode(transparent, "png");
+
+        BufferedImage thumb = ImageIO.read(new ByteArrayInputStream(generator.generate(png, List.of(32)).get(32)));
+
+        Color center = new Color(thumb.getRGB(16, 16));
+        assertThat(center.getRed()).isGreaterThan(245);
+        assertThat(center.getGreen()).isGreaterThan(245);
+        assertThat(center.getBlue()).isGreaterThan(245);
+    }
+
+    @Test
+    void 디코딩할_수_없는_입력은_UnreadableImageException() throws IOException {
+        assertThatThrownBy(() -> generator.generate("not an image".getBytes(StandardCharsets.UTF_8), ThumbnailKeys.WIDTHS))
+                .isInstanceOf(UnreadableImageException.class);
+
+        // PNG 헤더 뒤가 잘린 파일
+        byte[] png = encode(solid(200, 200, Color.GREEN), "png");
+        byte[] truncated = Arrays.copyOf(png, 40);
+        assertThatThrownBy(() -> generator.generate(truncated, ThumbnailKeys.WIDTHS))
+                .isInstanceOf(UnreadableImageException.class);
+    }
+
+    @Test
+    void 허용_해상도_초과는_디코딩_전에_거부() throws IOException {
+        ReflectionTestUtils.setField(generator, "maxPixels", 10_000L);
+        byte[] png = encode(solid(200, 100, Color.GREEN), "png");
+
+        assertThatThrownBy(() -> generator.generate(png, ThumbnailKeys.WIDTHS))
+                .isInstanceOf(UnreadableImageException.class)
+                .hasMessageContaining("200x100");
+    }
+
+    @Test
+    void 디코딩_간격은_목표_폭의_2배_이상을_남김() {
+        assertThat(ThumbnailGenerator.subsampling(8000, 480)).isEqualTo(8);  // 8000 / 8 = 1000 >= 960
+        assertThat(ThumbnailGenerator.subsampling(1919, 480)).isEqualTo(1);
+        assertThat(ThumbnailGenerator.subsampling(1920, 480)).isEqualTo(2);
+        assertThat(ThumbnailGenerator.subsampling(100, 480)).isEqualTo(1);
+    }
+
+    private static BufferedImage solid(int w, int h, Color color) {
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = img.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, w, h);
+        g.dispose();
+        return img;
+    }
+
+    private static byte[] encode(BufferedImage img, String format) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ImageIO.write(img, format, bos);
+        return bos.toByteArray();
+    }
+
+    private static Dimension size(byte[] jpeg) throws IOException {
+        BufferedImage img = ImageIO.read(new ByteArrayInputStream(jpeg));
+        return new Dimension(img.getWidth(), img.getHeight());
+    }
+}
@@ -0,0 +1,37 @@
+package likelion.itgoserver.global.infra.image;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThumbnailKeysTest {
+
+    @Test
+    void 확장자는_jpg_로_바꾸고_폭별_prefix() {
+        assertThat(ThumbnailKeys.of("shares/10/images/0_ab12.png", ThumbnailKeys.MEDIUM))
+                .isEqualTo("thumbs/w480/shares/10/images/0_ab12.jpg");
+        assertThat(ThumbnailKeys.of("/stores/3/image/a.b.JPEG/", ThumbnailKeys.SMALL))
+                .isEqualTo("thumbs/w240/stores/3/image/a.b.jpg");
+        assertThat(ThumbnailKeys.allOf("shares/1/images/0_a.webp"))
+                .containsExactly("thumbs/w240/shares/1/images/0_a.jpg", "thumbs/w480/shares/1/images/0_a.jpg");
+    }
+
+    @Test
+    void 확장자가_없으면_그대로_붙임() {
+        // 디렉터리 이름의 점은 확장자로 보지 않음
+        assertThat(ThumbnailKeys.of("shares/v1.2/images/0_ab12", ThumbnailKeys.MEDIUM))
+                .isEqualTo("thumbs/w480/shares/v1.2/images/0_ab12.jpg");
+    }
+
+    @Test
+    void draft_썸네일_외부_URL_은_대상_아님() {
+        assertThat(ThumbnailKeys.isDerivable("shares/10/images/0_ab12.png")).isTrue();
+        assertThat(ThumbnailKeys.isDerivable("/stores/3/image/a.jpg")).isTrue();
+
+        assertThat(ThumbnailKeys.isDerivable("drafts/1/images/0_ab12.png")).isFalse();
+        assertThat(ThumbnailKeys.isDerivable("/thumbs/w480/shares/10/images/0_ab12.jpg")).isFalse();
+        assertThat(ThumbnailKeys.isDerivable("https://cdn.example.com/a.jpg")).isFalse();
+        assertThat(ThumbnailKeys.isDerivable(" ")).isFalse();
+        assertThat(ThumbnailKeys.isDerivable(null)).isFalse();
+    }
+}
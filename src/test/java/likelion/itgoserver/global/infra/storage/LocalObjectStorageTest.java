@@ -0,0 +1,86 @@
+package likelion.itgoserver.global.infra.storage;
+
+import likelion.itgoserver.global.infra.cdn.HmacUrlSigner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * presign PUT 본문 저장 : 크기 제한은 스트림을 읽는 도중에 적용 (Content-Length 없는 chunked 본문 대비)
+ */
+class LocalObjectStorageTest {
+
+    private static final String KEY = "drafts/1/images/0_a.png";
+    private static final long MAX_BYTES = 64 * 1024;
+
+    @TempDir Path root;
+
+    private LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(root, "http://localhost/local-storage/", new HmacUrlSigner("test-secret"));
+    }
+
+    @Test
+    void 제한_이하는_그대로_저장() {
+        byte[] body = new byte[(int) MAX_BYTES];
+
+        storage.write(KEY, new ByteArrayInputStream(body), MAX_BYTES);
+
+        assertThat(storage.read(KEY)).hasSize((int) MAX_BYTES);
+    }
+
+    @Test
+    void 제한을_넘는_순간_읽기를_멈추고_파일을_남기지_않음() throws Exception {
+        EndlessStream body = new EndlessStream();
+
+        assertThatThrownBy(() -> storage.write(KEY, body, MAX_BYTES))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 끝없는 본문이어도 제한 + 버퍼 한 번 분량까지만 읽음
+        assertThat(body.read).isGreaterThan(MAX_BYTES).isLessThanOrEqualTo(MAX_BYTES + 8192);
+        assertThat(storage.exists(KEY)).isFalse();
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    void 제한을_넘으면_기존_파일은_그대로() {
+        storage.put(KEY, "before".getBytes(StandardCharsets.UTF_8), "image/png");
+
+        assertThatThrownBy(() -> storage.write(KEY, new EndlessStream(), MAX_BYTES))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(new String(storage.read(KEY), StandardCharsets.UTF_8)).isEqualTo("before");
+    }
+
+    /** 끝나지 않는 chunked 본문 (읽은 바이트 수 기록) */
+    private static class EndlessStream extends InputStream {
+
+        long read;
+
+        @Override
+        public int read() {
+            read++;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            read += len;
+            return len;
+        }
+    }
+}
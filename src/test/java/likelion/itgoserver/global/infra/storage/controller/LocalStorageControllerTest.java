@@ -0,0 +1,77 @@
+package likelion.itgoserver.global.infra.storage.controller;
+
+import likelion.itgoserver.global.infra.cdn.HmacUrlSigner;
+import likelion.itgoserver.global.infra.storage.LocalObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 전체 GET 은 sendfile 속성만 남기고 본문은 비움, Range 요청/미지원 컨테이너는 Resource 로 부분/전체 전송
+ */
+class LocalStorageControllerTest {
+
+    private static final String KEY = "shares/1/a.png";
+    private static final String CONTENT = "0123456789";
+
+    @TempDir Path root;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        LocalObjectStorage storage = new LocalObjectStorage(root, "http://localhost/local-storage/",
+                new HmacUrlSigner("test-secret"));
+        storage.put(KEY, CONTENT.getBytes(StandardCharsets.UTF_8), "image/png");
+        mockMvc = MockMvcBuilders.standaloneSetup(new LocalStorageController(storage)).build();
+    }
+
+    @Test
+    void sendfile_지원_시_파일_경로만_넘기고_본문은_비움() throws Exception {
+        MvcResult result = mockMvc.perform(get("/local-storage/" + KEY)
+                        .requestAttr("org.apache.tomcat.sendfile.support", Boolean.TRUE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length()))
+                .andReturn();
+
+        MockHttpServletRequest request = result.getRequest();
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat((String) request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(root.resolve(KEY).toRealPath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(0L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo((long) CONTENT.length());
+    }
+
+    @Test
+    void Range_요청은_sendfile_대신_부분_응답() throws Exception {
+        mockMvc.perform(get("/local-storage/" + KEY)
+                        .requestAttr("org.apache.tomcat.sendfile.support", Boolean.TRUE)
+                        .header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/" + CONTENT.length()))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    void sendfile_미지원_컨테이너는_Resource_로_전체_전송() throws Exception {
+        MvcResult result = mockMvc.perform(get("/local-storage/" + KEY))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT))
+                .andReturn();
+
+        assertThat(result.getRequest().getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+    }
+}
@@ -0,0 +1,80 @@
+package likelion.itgoserver.global.support.geo;
+
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * DB 없이 HQL → MySQL SQL 변환 결과만 확인 (실행 직전 StatementInspector 에서 중단)
+ */
+class GeoExpressionsTest {
+
+    @Entity(name = "GeoSpot")
+    static class GeoSpot {
+        @Id Long id;
+        @Column(columnDefinition = "POINT SRID 4326") byte[] location;
+    }
+
+    /** 캡처한 SQL 을 담아 실행을 중단시키는 예외 */
+    static class CapturedSql extends RuntimeException {
+        final String sql;
+        CapturedSql(String sql) { super(sql); this.sql = sql; }
+    }
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, MySQLDialect.class.getName())
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", false)
+                .applySetting(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> { throw new CapturedSql(sql); })
+                .build();
+        sessionFactory = new MetadataSources(registry).addAnnotatedClass(GeoSpot.class).buildMetadata().buildSessionFactory();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void mbrContains_는_비교식_없이_조건으로_렌더링된다() {
+        PathBuilder<GeoSpot> spot = new PathBuilder<>(GeoSpot.class, "spot");
+        BoundingBox box = BoundingBox.around(37.5665, 126.9780, 3.0);
+
+        try (EntityManager em = sessionFactory.createEntityManager()) {
+            Throwable thrown = catchThrowable(() -> new JPAQueryFactory(em)
+                    .select(spot.get("id", Long.class))
+                    .from(spot)
+                    .where(GeoExpressions.mbrContains(box, spot.get("location")))
+                    .fetch());
+
+            String sql = findCapturedSql(thrown);
+            assertThat(sql).containsPattern("(?i)where\\s+MBRContains\\(st_geomfromtext\\(\\?,\\s*4326,\\s*\\?\\),\\s*\\w+\\.location\\)\\s*$");
+        }
+    }
+
+    private static String findCapturedSql(Throwable t) {
+        for (Throwable c = t; c != null; c = c.getCause()) {
+            if (c instanceof CapturedSql captured) return captured.sql;
+        }
+        throw new AssertionError("SQL 이 캡처되지 않았습니다.", t);
+    }
+}
@@ -0,0 +1,62 @@
+package likelion.itgoserver.global.support.geo;
+
+import likelion.itgoserver.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MBRContains 조건이 idx_store_location(SPATIAL) 범위 접근으로 풀리는지 EXPLAIN 으로 확인
+ * - SQL 모양은 GeoExpressionsTest 가 확인한 Hibernate 렌더링 결과와 동일 (비교식 없이 조건 그대로)
+ */
+class SpatialIndexExplainIntegrationTest extends IntegrationTestSupport {
+
+    private static final int STORES = 5_000;
+
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        Integer existing = jdbcTemplate.queryForObject("select count(*) from store", Integer.class);
+        if (existing != null && existing >= STORES) return;
+
+        // 서울 전역(약 30km x 30km)에 흩어진 가게
+        Random random = new Random(4);
+        List<Object[]> rows = new ArrayList<>(STORES);
+        for (int i = 0; i < STORES; i++) {
+            rows.add(new Object[]{
+                    "가게" + i, "도로명 " + i, "동" + (i % 50),
+                    37.42 + random.nextDouble() * 0.27, 126.83 + random.nextDouble() * 0.34
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into store (store_name, road_address, dong, latitude, longitude, phone_number,
+                                   open_time, close_time, give_times, received_times, store_image_thumbnail_status)
+                values (?, ?, ?, ?, ?, '010-0000-0000', '09:00:00', '21:00:00', 0, 0, 'PENDING')
+                """, rows);
+        jdbcTemplate.execute("analyze table store");
+    }
+
+    @Test
+    void 반경_사각형_조건은_공간_인덱스_범위_접근() {
+        BoundingBox box = BoundingBox.around(37.5006, 127.0364, 1.0);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("""
+                explain select s.id from store s
+                 where MBRContains(ST_GeomFromText(?, 4326, ?), s.location)
+                """, box.toWkt(), "axis-order=long-lat");
+
+        assertThat(plan).hasSize(1);
+        assertThat(plan.get(0))
+                .containsEntry("key", "idx_store_location")
+                .containsEntry("type", "range");
+    }
+}
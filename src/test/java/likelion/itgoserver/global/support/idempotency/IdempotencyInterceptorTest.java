@@ -0,0 +1,228 @@
+package likelion.itgoserver.global.support.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 저장소는 목, 본문 지문 비교와 재전송 분기만 확인
+ */
+class IdempotencyInterceptorTest {
+
+    private static final String BODY = "{\"shareId\":1}";
+
+    private IdempotencyStore store;
+    private IdempotencyInterceptor interceptor;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = mock(IdempotencyStore.class);
+        interceptor = new IdempotencyInterceptor(store, new ObjectMapper());
+        ReflectionTestUtils.setField(interceptor, "waitMs", 0L);
+        ReflectionTestUtils.setField(interceptor, "pollMs", 0L);
+        handler = new HandlerMethod(new Handler(), Handler.class.getMethod("create"));
+    }
+
+    @Test
+    void 처음_온_키는_본문_지문과_함께_선점() throws Exception {
+        when(store.tryLock(anyString(), any())).thenReturn(true);
+        MockHttpServletRequest request = request("k1", BODY);
+
+        boolean proceed = interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+
+        assertThat(proceed).isTrue();
+        verify(store).tryLock(anyString(), eq(IdempotencyBodyFilter.fingerprint(bytes(BODY))));
+    }
+
+    @Test
+    void 같은_키_같은_본문이면_저장된_응답_재전송() throws Exception {
+        String fp = IdempotencyBodyFilter.fingerprint(bytes(BODY));
+        when(store.tryLock(anyString(), any())).thenReturn(false);
+        when(store.find(anyString())).thenReturn(Optional.of(
+                new IdempotencyStore.Entry(IdempotencyStore.Entry.State.DONE, 200, "{\"ok\":true}", fp, null)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request("k1", BODY), response, handler);
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(IdempotencyInterceptor.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"ok\":true}");
+    }
+
+    @Test
+    void 같은_키_다른_본문이면_422() throws Exception {
+        String fp = IdempotencyBodyFilter.fingerprint(bytes(BODY));
+        when(store.tryLock(anyString(), any())).thenReturn(false);
+        when(store.find(anyString())).thenReturn(Optional.of(
+                new IdempotencyStore.Entry(IdempotencyStore.Entry.State.DONE, 200, "{\"ok\":true}", fp, null)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request("k1", "{\"shareId\":2}"), response, handler);
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getHeader(IdempotencyInterceptor.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void 처리_중인_키에_다른_본문이_오면_대기하지_않고_422() throws Exception {
+        when(store.tryLock(anyString(), any())).thenReturn(false);
+        when(store.find(anyString())).thenReturn(Optional.of(
+                new IdempotencyStore.Entry(IdempotencyStore.Entry.State.IN_PROGRESS, 0, null, "other", "owner")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request("k1", BODY), response, handler);
+
+        assertThat(response.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    void 필터를_거친_본문은_컨트롤러가_다시_읽을_수_있음() throws Exception {
+        IdempotencyBodyFilter filter = filter(1024L);
+        MockHttpServletRequest request = post("/api/claims", "k1", BODY);
+        AtomicReference<String> readBody = new AtomicReference<>();
+        FilterChain chain = (req, res) -> readBody.set(
+                StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8));
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(readBody.get()).isEqualTo(BODY);
+        assertThat(request.getAttribute(IdempotencyBodyFilter.ATTR_FINGERPRINT))
+                .isEqualTo(IdempotencyBodyFilter.fingerprint(bytes(BODY)));
+    }
+
+    @Test
+    void 제한보다_큰_본문은_지문_없이_통과() throws Exception {
+        IdempotencyBodyFilter filter = filter(4L);
+        MockHttpServletRequest request = post("/api/claims", "k1", BODY);
+        AtomicReference<HttpServletRequest> passed = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> passed.set((HttpServletRequest) req));
+
+        assertThat(passed.get()).isNotNull();
+        assertThat(request.getAttribute(IdempotencyBodyFilter.ATTR_FINGERPRINT)).isNull();
+    }
+
+    @Test
+    void Idempotent_가_아닌_핸들러는_키가_있어도_버퍼링하지_않음() throws Exception {
+        IdempotencyBodyFilter filter = filter(1024L);
+        MockHttpServletRequest request = post("/api/other", "k1", BODY);
+        AtomicReference<Object> passed = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> passed.set(req));
+
+        assertThat(passed.get()).isSameAs(request);
+        assertThat(request.getAttribute(IdempotencyBodyFilter.ATTR_FINGERPRINT)).isNull();
+        assertThat(ServletRequestPathUtils.hasParsedRequestPath(request)).isFalse();
+    }
+
+    @Test
+    void 버퍼링한_본문도_비동기_읽기_리스너로_읽힘() throws Exception {
+        IdempotencyBodyFilter filter = filter(1024L);
+        MockHttpServletRequest request = post("/api/claims", "k1", BODY);
+        StringBuilder read = new StringBuilder();
+        AtomicBoolean allRead = new AtomicBoolean();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] buffer = new byte[4];
+                    while (in.isReady() && !in.isFinished()) {
+                        int n = in.read(buffer);
+                        if (n > 0) read.append(new String(buffer, 0, n, StandardCharsets.UTF_8));
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new AssertionError(t);
+                }
+            });
+        });
+
+        assertThat(read.toString()).isEqualTo(BODY);
+        assertThat(allRead).isTrue();
+    }
+
+    /** Handler 의 매핑만 등록한 RequestMappingHandlerMapping 으로 필터 구성 */
+    private static IdempotencyBodyFilter filter(long maxBodyBytes) {
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.registerSingleton("handler", Handler.class);
+        context.refresh();
+        RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+        mapping.setApplicationContext(context);
+        mapping.afterPropertiesSet();
+
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("requestMappingHandlerMapping", mapping);
+        IdempotencyBodyFilter filter = new IdempotencyBodyFilter(beans.getBeanProvider(RequestMappingHandlerMapping.class));
+        ReflectionTestUtils.setField(filter, "maxBodyBytes", maxBodyBytes);
+        return filter;
+    }
+
+    private static MockHttpServletRequest post(String uri, String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.addHeader(IdempotencyInterceptor.HEADER, key);
+        request.setContent(bytes(body));
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/claims");
+        request.addHeader(IdempotencyInterceptor.HEADER, key);
+        request.setContent(bytes(body));
+        request.setAttribute(IdempotencyBodyFilter.ATTR_FINGERPRINT, IdempotencyBodyFilter.fingerprint(bytes(body)));
+        return request;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Controller
+    static class Handler {
+        @Idempotent
+        @PostMapping("/api/claims")
+        public void create() {
+        }
+
+        @PostMapping("/api/other")
+        public void other() {
+        }
+    }
+}
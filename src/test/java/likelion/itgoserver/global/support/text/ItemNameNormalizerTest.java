@@ -0,0 +1,63 @@
+package likelion.itgoserver.global.support.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemNameNormalizerTest {
+
+    @Test
+    void NFKC_소문자_구두점_정리() {
+        assertThat(ItemNameNormalizer.normalize("  ＭＩＬＫ,  Tea!! ")).isEqualTo("milk tea");
+        assertThat(ItemNameNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void 동의어는_대표어로_치환() {
+        assertThat(ItemNameNormalizer.tokens("Milk")).containsExactly("우유");
+        assertThat(ItemNameNormalizer.tokens("계란 케익")).containsExactly("달걀", "케이크");
+    }
+
+    @Test
+    void 한글_복합어는_끝_두_글자를_중심어로_추가() {
+        assertThat(ItemNameNormalizer.tokens("서울우유")).containsExactly("서울우유", "우유");
+        assertThat(ItemNameNormalizer.tokens("우유식빵")).containsExactly("우유식빵", "식빵");
+    }
+
+    @Test
+    void 앞쪽_구성어는_토큰이_아님() {
+        Set<String> share = ItemNameNormalizer.tokens("우유식빵");
+        Set<String> wish = ItemNameNormalizer.tokens("우유");
+
+        assertThat(share).doesNotContainAnyElementsOf(wish);
+    }
+
+    @Test
+    void 브랜드가_붙은_품목은_중심어로_겹침() {
+        Set<String> share = ItemNameNormalizer.tokens("서울우유 1L");
+        Set<String> wish = ItemNameNormalizer.tokens("우유");
+
+        assertThat(share).containsAll(wish);
+    }
+
+    @Test
+    void 두_글자_이하나_한글_아닌_단어는_그대로() {
+        assertThat(ItemNameNormalizer.tokens("빵")).containsExactly("빵");
+        assertThat(ItemNameNormalizer.tokens("bagel")).containsExactly("bagel");
+    }
+
+    @Test
+    void 긴_단어는_최대_길이로_자름() {
+        String longWord = "a".repeat(ItemNameNormalizer.MAX_TOKEN_LENGTH + 10);
+        assertThat(ItemNameNormalizer.tokens(longWord))
+                .singleElement()
+                .satisfies(t -> assertThat(t).hasSize(ItemNameNormalizer.MAX_TOKEN_LENGTH));
+    }
+
+    @Test
+    void 빈_입력은_토큰_없음() {
+        assertThat(ItemNameNormalizer.tokens("  ,. ")).isEmpty();
+    }
+}
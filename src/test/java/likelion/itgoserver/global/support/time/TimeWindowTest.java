@@ -0,0 +1,77 @@
+package likelion.itgoserver.global.support.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeWindowTest {
+
+    @Test
+    void 당일_시간대_겹침은_양_끝_포함() {
+        TimeWindow morning = window("09:00", "12:00");
+
+        assertThat(morning.overlaps(window("12:00", "13:00"))).isTrue();
+        assertThat(morning.overlaps(window("12:01", "13:00"))).isFalse();
+        assertThat(morning.overlaps(window("07:00", "08:59"))).isFalse();
+    }
+
+    @Test
+    void 자정을_넘기는_시간대() {
+        TimeWindow night = window("22:00", "02:00");
+
+        assertThat(night.isOvernight()).isTrue();
+        assertThat(night.overlaps(window("01:00", "03:00"))).isTrue();
+        assertThat(night.overlaps(window("21:00", "22:00"))).isTrue();
+        assertThat(night.overlaps(window("03:00", "21:59"))).isFalse();
+        assertThat(window("03:00", "21:59").overlaps(night)).isFalse();
+    }
+
+    @Test
+    void 둘_다_자정을_넘기면_항상_겹침() {
+        assertThat(window("23:00", "00:30").overlaps(window("23:59", "00:01"))).isTrue();
+    }
+
+    @Test
+    void 분_단위_전수_비교와_일치() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            TimeWindow a = randomWindow(random);
+            TimeWindow b = randomWindow(random);
+
+            assertThat(a.overlaps(b))
+                    .as("%s vs %s", a, b)
+                    .isEqualTo(minutes(a).intersects(minutes(b)));
+        }
+    }
+
+    static TimeWindow window(String open, String close) {
+        return TimeWindow.of(LocalTime.parse(open), LocalTime.parse(close));
+    }
+
+    static TimeWindow randomWindow(Random random) {
+        LocalTime open = LocalTime.ofSecondOfDay(random.nextInt(24 * 60) * 60L);
+        LocalTime close;
+        do {
+            close = LocalTime.ofSecondOfDay(random.nextInt(24 * 60) * 60L);
+        } while (close.equals(open));
+        return TimeWindow.of(open, close);
+    }
+
+    /** 시간대가 포함하는 분(0 ~ 1439) 집합 */
+    static BitSet minutes(TimeWindow w) {
+        int open = w.open().getHour() * 60 + w.open().getMinute();
+        int close = w.close().getHour() * 60 + w.close().getMinute();
+        BitSet set = new BitSet(24 * 60);
+        if (!w.isOvernight()) {
+            set.set(open, close + 1);
+        } else {
+            set.set(open, 24 * 60);
+            set.set(0, close + 1);
+        }
+        return set;
+    }
+}
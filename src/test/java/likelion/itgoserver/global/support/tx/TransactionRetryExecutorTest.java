@@ -0,0 +1,126 @@
+package likelion.itgoserver.global.support.tx;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 트랜잭션 템플릿은 콜백을 그대로 실행하는 스텁, 재시도/대기/포기 동작만 확인
+ */
+class TransactionRetryExecutorTest {
+
+    private TransactionTemplate transactionTemplate;
+    private TransactionRetryExecutor executor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(null));
+
+        executor = new TransactionRetryExecutor(transactionTemplate);
+        ReflectionTestUtils.setField(executor, "maxAttempts", 3);
+        ReflectionTestUtils.setField(executor, "backoffMs", 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void 충돌이_없으면_한_번만_실행() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.execute("test", () -> {
+            calls.incrementAndGet();
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(1);
+        verify(transactionTemplate, times(1)).execute(any());
+    }
+
+    @Test
+    void 동시성_충돌이면_새_트랜잭션으로_재시도() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.execute("test", () -> {
+            if (calls.incrementAndGet() < 3) throw new OptimisticLockingFailureException("version");
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(3);
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    void 최대_횟수를_넘기면_마지막_예외를_던짐() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("test", () -> {
+            calls.incrementAndGet();
+            throw new CannotAcquireLockException("lock wait timeout " + calls.get());
+        }))
+                .isInstanceOf(CannotAcquireLockException.class)
+                .hasMessage("lock wait timeout 3");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void 동시성_충돌이_아닌_예외는_재시도하지_않음() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("test", () -> {
+            calls.incrementAndGet();
+            throw new DataIntegrityViolationException("duplicate");
+        })).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void 재시도_사이에는_시도_횟수에_비례해_대기() {
+        ReflectionTestUtils.setField(executor, "backoffMs", 30L);
+        AtomicInteger calls = new AtomicInteger();
+
+        long started = System.nanoTime();
+        executor.execute("test", () -> {
+            if (calls.incrementAndGet() < 3) throw new OptimisticLockingFailureException("version");
+            return null;
+        });
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        // 1회차 후 30ms 이상, 2회차 후 60ms 이상 (+ 각각 30ms 미만 지터)
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(90L);
+    }
+
+    @Test
+    void 이미_트랜잭션_안이면_재시도_없이_그대로_실행() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("test", () -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("version");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(calls).hasValue(1);
+        verifyNoInteractions(transactionTemplate);
+    }
+}
@@ -0,0 +1,90 @@
+package likelion.itgoserver.support;
+
+import likelion.itgoserver.domain.member.entity.Member;
+import likelion.itgoserver.domain.member.entity.Role;
+import likelion.itgoserver.domain.member.repository.MemberRepository;
+import likelion.itgoserver.domain.store.entity.Address;
+import likelion.itgoserver.domain.store.entity.Store;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * MySQL 8 / Redis 컨테이너 위에서 전체 컨텍스트를 띄우는 통합 테스트 기반
+ * - 컨테이너는 JVM 당 한 번만 기동 (컨텍스트 캐시가 같은 포트를 계속 쓰도록)
+ * - Docker 가 없으면 테스트 클래스 전체를 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.profiles.active=local",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "jwt.secret=integration-test-secret-key-integration-test-secret-key-0123456789",
+        "jwt.access-token-validity-in-seconds=3600",
+        "jwt.refresh-token-validity-in-seconds=1209600"
+})
+public abstract class IntegrationTestSupport {
+
+    protected static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36")
+            .withDatabaseName("itgo")
+            .withUrlParam("serverTimezone", "Asia/Seoul")
+            .withUrlParam("characterEncoding", "UTF-8")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    protected static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7.2-alpine")
+            .withExposedPorts(6379);
+
+    static {
+        if (DockerClientFactory.instance().isDockerAvailable()) {
+            MYSQL.start();
+            REDIS.start();
+        }
+    }
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+
+    @Autowired
+    protected TransactionTemplate transactionTemplate;
+
+    @Autowired
+    protected MemberRepository memberRepository;
+
+    /** 회원 + 가게 (dong, 좌표) */
+    protected Store saveStore(String dong, double latitude, double longitude) {
+        return transactionTemplate.execute(status -> {
+            Member member = Member.builder()
+                    .username("it-" + UUID.randomUUID().toString().substring(0, 12))
+                    .role(Role.ROLE_MEMBER)
+                    .build();
+            Store store = Store.builder()
+                    .storeName("테스트 가게")
+                    .address(Address.builder()
+                            .roadAddress("서울 강남구 테헤란로 1")
+                            .dong(dong)
+                            .latitude(latitude)
+                            .longitude(longitude)
+                            .build())
+                    .phoneNumber("010-0000-0000")
+                    .openTime(LocalTime.of(9, 0))
+                    .closeTime(LocalTime.of(21, 0))
+                    .build();
+            member.registerStore(store);
+            return memberRepository.save(member).getStore();
+        });
+    }
+}